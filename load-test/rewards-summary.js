@@ -0,0 +1,44 @@
+// k6 load test for the reward summary read path.
+//
+// Compare platform threads against virtual threads by running the app twice:
+//   mvn spring-boot:run -Dspring-boot.run.arguments=--spring.threads.virtual.enabled=false
+//   mvn spring-boot:run -Dspring-boot.run.arguments=--spring.threads.virtual.enabled=true
+// and each time:
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=400 load-test/rewards-summary.js
+// k6 prints http_reqs (throughput) and the p(99) of http_req_duration at the end of each run.
+//
+// To measure the CPU per request saved by the verified credential cache, store the password as a bcrypt hash
+// and run once with the cache disabled and once with it enabled:
+//   mvn spring-boot:run -Dspring-boot.run.arguments="--spring.security.user.password={bcrypt}<hash> --reward.security.credential-cache.ttl=0s"
+//   mvn spring-boot:run -Dspring-boot.run.arguments="--spring.security.user.password={bcrypt}<hash>"
+// Read the JVM's CPU time before and after each run (ps -o cputime= -p <pid>) and divide the difference by http_reqs.
+
+import http from 'k6/http';
+import encoding from 'k6/encoding';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CUSTOMER_COUNT = parseInt(__ENV.CUSTOMER_COUNT || '3');
+const AUTH = 'Basic ' + encoding.b64encode(`${__ENV.USERNAME || 'admin'}:${__ENV.PASSWORD || 'admin123'}`);
+
+export const options = {
+    scenarios: {
+        summaries: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '200'),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const customerId = 1 + Math.floor(Math.random() * CUSTOMER_COUNT);
+    const res = http.get(
+        `${BASE_URL}/api/rewards/${customerId}?startDate=2025-01-01&endDate=2025-06-30`,
+        { headers: { Authorization: AUTH } },
+    );
+    check(res, {
+        'status is 200 or 503': (r) => r.status === 200 || r.status === 503,
+    });
+}
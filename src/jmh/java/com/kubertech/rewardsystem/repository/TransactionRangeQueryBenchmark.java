@@ -0,0 +1,171 @@
+package com.kubertech.rewardsystem.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for the customer/date-range transaction lookup against a local MySQL database, comparing
+ * a scan of the customer's rows through the foreign key index with the covering
+ * {@code idx_transaction_customer_date} index.
+ * <p>
+ * Seeds {@code customerCount * transactionsPerCustomer} rows into the {@code reward_bench} schema on first
+ * run and reuses them afterwards. The schema mirrors the Flyway migrations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionRangeQueryBenchmark {
+
+    private static final LocalDate FIRST_DATE = LocalDate.of(2022, 1, 1);
+    private static final int DAYS = 3 * 365;
+    private static final int RANGE_DAYS = 90;
+
+    /** JDBC URL of the benchmark database. */
+    @Param({"jdbc:mysql://localhost:3306/reward_bench?createDatabaseIfNotExist=true&rewriteBatchedStatements=true"})
+    public String url;
+
+    @Param({"root"})
+    public String username;
+
+    @Param({"root"})
+    public String password;
+
+    @Param({"1000"})
+    public int customerCount;
+
+    /** Transactions per customer; 5000 with 1000 customers seeds five million rows. */
+    @Param({"5000"})
+    public int transactionsPerCustomer;
+
+    private Connection connection;
+    private PreparedStatement foreignKeyIndexQuery;
+    private PreparedStatement coveringIndexQuery;
+
+    /**
+     * Creates and seeds the schema if needed, then prepares both variants of the range query.
+     */
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(url, username, password);
+        createSchema();
+        seedIfEmpty();
+        foreignKeyIndexQuery = connection.prepareStatement("""
+                SELECT amount_cents, transaction_date FROM transaction FORCE INDEX (fk_transaction_customer)
+                WHERE customer_id = ? AND transaction_date BETWEEN ? AND ?
+                """);
+        coveringIndexQuery = connection.prepareStatement("""
+                SELECT amount_cents, transaction_date FROM transaction FORCE INDEX (idx_transaction_customer_date)
+                WHERE customer_id = ? AND transaction_date BETWEEN ? AND ?
+                """);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * Measures the lookup when only the foreign key index on {@code customer_id} is used.
+     */
+    @Benchmark
+    public long foreignKeyIndex() throws SQLException {
+        return runRangeQuery(foreignKeyIndexQuery);
+    }
+
+    /**
+     * Measures the lookup through the composite {@code (customer_id, transaction_date, amount_cents)} index.
+     */
+    @Benchmark
+    public long coveringIndex() throws SQLException {
+        return runRangeQuery(coveringIndexQuery);
+    }
+
+    private long runRangeQuery(PreparedStatement query) throws SQLException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDate start = FIRST_DATE.plusDays(random.nextInt(DAYS - RANGE_DAYS));
+        query.setLong(1, 1 + random.nextInt(customerCount));
+        query.setObject(2, start);
+        query.setObject(3, start.plusDays(RANGE_DAYS - 1));
+        long sum = 0;
+        try (ResultSet rows = query.executeQuery()) {
+            while (rows.next()) {
+                sum += rows.getLong(1);
+            }
+        }
+        return sum;
+    }
+
+    private void createSchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS customer (
+                        id BIGINT NOT NULL AUTO_INCREMENT,
+                        name VARCHAR(255),
+                        PRIMARY KEY (id)
+                    )
+                    """);
+            statement.execute("""
+                    CREATE TABLE IF NOT EXISTS transaction (
+                        id BIGINT NOT NULL AUTO_INCREMENT,
+                        amount_cents BIGINT NOT NULL,
+                        transaction_date DATE,
+                        customer_id BIGINT,
+                        PRIMARY KEY (id),
+                        INDEX fk_transaction_customer (customer_id),
+                        CONSTRAINT fk_transaction_customer FOREIGN KEY (customer_id) REFERENCES customer (id),
+                        INDEX idx_transaction_customer_date (customer_id, transaction_date, amount_cents)
+                    )
+                    """);
+        }
+    }
+
+    private void seedIfEmpty() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet count = statement.executeQuery("SELECT COUNT(*) FROM customer")) {
+            count.next();
+            if (count.getLong(1) > 0) {
+                return;
+            }
+        }
+        connection.setAutoCommit(false);
+        try (PreparedStatement customers = connection.prepareStatement("INSERT INTO customer (id, name) VALUES (?, ?)");
+             PreparedStatement transactions = connection.prepareStatement(
+                     "INSERT INTO transaction (amount_cents, transaction_date, customer_id) VALUES (?, ?, ?)")) {
+            for (int c = 1; c <= customerCount; c++) {
+                customers.setLong(1, c);
+                customers.setString(2, "Customer " + c);
+                customers.addBatch();
+            }
+            customers.executeBatch();
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int c = 1; c <= customerCount; c++) {
+                for (int t = 0; t < transactionsPerCustomer; t++) {
+                    transactions.setLong(1, random.nextInt(30_001));
+                    transactions.setObject(2, FIRST_DATE.plusDays(random.nextInt(DAYS)));
+                    transactions.setLong(3, c);
+                    transactions.addBatch();
+                }
+                transactions.executeBatch();
+                connection.commit();
+            }
+        } finally {
+            connection.setAutoCommit(true);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE transaction");
+        }
+    }
+}
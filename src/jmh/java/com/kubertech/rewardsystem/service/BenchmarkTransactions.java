@@ -0,0 +1,36 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.TransactionDTO;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic test data shared by the reward benchmarks.
+ */
+final class BenchmarkTransactions {
+
+    private BenchmarkTransactions() {
+    }
+
+    /**
+     * Generates transactions with amounts between 0 and 300, spread over the two years before 2025-07-01
+     * in random order, all belonging to the given customer.
+     *
+     * @param customerId the ID of the owning customer
+     * @param count      the number of transactions
+     * @return a mutable list of transactions
+     */
+    static List<TransactionDTO> generate(Long customerId, int count) {
+        Random random = new Random(42);
+        LocalDate end = LocalDate.of(2025, 7, 1);
+        List<TransactionDTO> transactions = new ArrayList<>(count);
+        for (long i = 0; i < count; i++) {
+            long amountCents = random.nextInt(30_001);
+            transactions.add(new TransactionDTO(i + 1, customerId, amountCents, end.minusDays(random.nextInt(730))));
+        }
+        return transactions;
+    }
+}
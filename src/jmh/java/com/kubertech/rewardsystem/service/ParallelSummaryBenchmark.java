@@ -0,0 +1,73 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.CustomerBasicDTO;
+import com.kubertech.rewardsystem.model.RewardSummary;
+import com.kubertech.rewardsystem.model.TransactionDTO;
+import com.kubertech.rewardsystem.utility.RewardRules;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for {@link ParallelSummaryEngine}: builds the summaries of 20k customers with 50
+ * transactions each, i.e. the in-memory part of {@link RewardService#getAllRewardSummaries()}.
+ * <p>
+ * The parallelism values trace the scaling curve up to 32 cores; a parallelism of {@code 1} is the sequential
+ * baseline. On smaller machines, pass e.g. {@code -p parallelism=1,2,4} to stay within the core count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelSummaryBenchmark {
+
+    /** One customer and its transactions. */
+    private record Input(CustomerBasicDTO customer, List<TransactionDTO> transactions) {
+    }
+
+    /** Number of worker threads of the engine. */
+    @Param({"1", "2", "4", "8", "16", "32"})
+    public int parallelism;
+
+    /** Number of customers summarized per invocation. */
+    @Param({"20000"})
+    public int customerCount;
+
+    /** Number of transactions per customer. */
+    @Param({"50"})
+    public int transactionsPerCustomer;
+
+    private List<Input> inputs;
+    private ParallelSummaryEngine engine;
+
+    /**
+     * Builds the input customers and an engine with the benchmarked parallelism and the default threshold.
+     */
+    @Setup
+    public void setUp() {
+        inputs = new ArrayList<>(customerCount);
+        for (long id = 1; id <= customerCount; id++) {
+            inputs.add(new Input(new CustomerBasicDTO(id, "Customer " + id),
+                    List.copyOf(BenchmarkTransactions.generate(id, transactionsPerCustomer))));
+        }
+        engine = new ParallelSummaryEngine(parallelism, 64);
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.destroy();
+    }
+
+    /**
+     * Measures building all summaries, in customer order.
+     */
+    @Benchmark
+    public List<RewardSummary> buildAllRewardSummaries() {
+        return engine.buildAll(inputs,
+                input -> RewardService.buildRewardSummary(input.customer(), input.transactions(), RewardRules.DEFAULT));
+    }
+}
@@ -0,0 +1,64 @@
+package com.kubertech.rewardsystem.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kubertech.rewardsystem.model.CustomerBasicDTO;
+import com.kubertech.rewardsystem.model.RewardSummary;
+import com.kubertech.rewardsystem.model.TransactionDTO;
+import com.kubertech.rewardsystem.utility.RewardRules;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for {@link RewardService#buildRewardSummary} and JSON serialization of the resulting
+ * {@link RewardSummary}, for customers with 10, 1k and 100k transactions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RewardSummaryBenchmark {
+
+    /** Number of transactions belonging to the benchmarked customer. */
+    @Param({"10", "1000", "100000"})
+    public int transactionCount;
+
+    private CustomerBasicDTO customer;
+    private List<TransactionDTO> transactions;
+    private RewardSummary summary;
+    private ObjectMapper objectMapper;
+
+    /**
+     * Builds the input transactions, a pre-computed summary and an object mapper configured like Spring Boot's.
+     */
+    @Setup
+    public void setUp() {
+        customer = new CustomerBasicDTO(1L, "Benchmark Customer");
+        transactions = BenchmarkTransactions.generate(customer.id(), transactionCount);
+        summary = RewardService.buildRewardSummary(customer, transactions, RewardRules.DEFAULT);
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    /**
+     * Measures monthly and total points aggregation.
+     */
+    @Benchmark
+    public RewardSummary buildRewardSummary() {
+        return RewardService.buildRewardSummary(customer, transactions, RewardRules.DEFAULT);
+    }
+
+    /**
+     * Measures Jackson serialization of a complete summary, including its transaction list.
+     */
+    @Benchmark
+    public byte[] serializeRewardSummary() throws Exception {
+        return objectMapper.writeValueAsBytes(summary);
+    }
+}
@@ -0,0 +1,107 @@
+package com.kubertech.rewardsystem.utility;
+
+import com.kubertech.rewardsystem.model.RewardPromotion;
+import com.kubertech.rewardsystem.model.RewardTier;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for {@link RewardRules#points(long, LocalDate)} and {@link RewardRules#sumPoints(long[], long[])}.
+ * <p>
+ * Scores a batch of random amounts spread across all reward tiers, for batch sizes of 10, 1k and 100k,
+ * with the default two-tier rules and with a larger rule set including active promotions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RewardRulesBenchmark {
+
+    /** Number of transaction amounts scored per invocation. */
+    @Param({"10", "1000", "100000"})
+    public int transactionCount;
+
+    /** {@code default} for the seeded two-tier rules, {@code promotions} for six tiers and three promotions. */
+    @Param({"default", "promotions"})
+    public String ruleSet;
+
+    private RewardRules rules;
+    private long[] amountsCents;
+    private long[] epochDays;
+    private LocalDate[] dates;
+    private int next;
+
+    /**
+     * Compiles the selected rule set and generates a deterministic set of amounts between 0 and 300
+     * dated within the year before 2025-07-01.
+     */
+    @Setup
+    public void setUp() {
+        rules = "promotions".equals(ruleSet) ? promotionRules() : RewardRules.DEFAULT;
+        Random random = new Random(42);
+        LocalDate end = LocalDate.of(2025, 7, 1);
+        amountsCents = new long[transactionCount];
+        epochDays = new long[transactionCount];
+        dates = new LocalDate[transactionCount];
+        for (int i = 0; i < transactionCount; i++) {
+            amountsCents[i] = random.nextInt(30_001);
+            dates[i] = end.minusDays(random.nextInt(365));
+            epochDays[i] = dates[i].toEpochDay();
+        }
+    }
+
+    /**
+     * Scores a single transaction, cycling through the generated ones.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int pointsPerTransaction() {
+        int i = next;
+        next = i + 1 == transactionCount ? 0 : i + 1;
+        return rules.points(amountsCents[i], dates[i]);
+    }
+
+    /**
+     * Scores every transaction and sums the points.
+     */
+    @Benchmark
+    public void points(Blackhole blackhole) {
+        int total = 0;
+        for (int i = 0; i < transactionCount; i++) {
+            total += rules.points(amountsCents[i], dates[i]);
+        }
+        blackhole.consume(total);
+    }
+
+    /**
+     * Scores every transaction with the bulk array method.
+     */
+    @Benchmark
+    public long sumPoints() {
+        return rules.sumPoints(amountsCents, epochDays);
+    }
+
+    private static RewardRules promotionRules() {
+        return RewardRules.compile(
+                List.of(tier(25, 1), tier(50, 1), tier(100, 2), tier(150, 2), tier(200, 3), tier(500, 4)),
+                List.of(RewardPromotion.builder().name("Double points weekends").multiplierPercent(200)
+                                .daysOfWeek(DayOfWeek.SATURDAY + "," + DayOfWeek.SUNDAY).build(),
+                        RewardPromotion.builder().name("Spring sale").multiplierPercent(150)
+                                .startDate(LocalDate.of(2025, 3, 1)).endDate(LocalDate.of(2025, 3, 31)).build(),
+                        RewardPromotion.builder().name("Triple Tuesdays in June").multiplierPercent(300)
+                                .startDate(LocalDate.of(2025, 6, 1)).endDate(LocalDate.of(2025, 6, 30))
+                                .daysOfWeek(DayOfWeek.TUESDAY.name()).build()));
+    }
+
+    private static RewardTier tier(int thresholdDollars, int pointsPerDollar) {
+        return RewardTier.builder().thresholdDollars(thresholdDollars).pointsPerDollar(pointsPerDollar).build();
+    }
+}
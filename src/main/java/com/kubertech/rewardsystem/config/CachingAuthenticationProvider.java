@@ -0,0 +1,121 @@
+package com.kubertech.rewardsystem.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * {@link AuthenticationProvider} that remembers successfully verified username and password pairs for a short time.
+ * <p>
+ * HTTP Basic sends the credentials with every request, and the delegate checks them with the configured
+ * password encoder each time. For a deliberately slow hash such as bcrypt, that costs more CPU than most
+ * reward queries. Once a pair has been verified, repeated requests with the same header are authenticated
+ * from this cache until the TTL expires.
+ * <p>
+ * Entries are keyed by a SHA-256 digest of username and password, so no plaintext password is kept.
+ * Failed attempts are never cached and always pay the full check. Hit and miss statistics are published
+ * as {@code cache.*} meters tagged {@code cache=verifiedCredentials}.
+ */
+@Slf4j
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    /** Name of the cache in the {@code cache} tag of its metrics. */
+    static final String CACHE_NAME = "verifiedCredentials";
+
+    /**
+     * What is kept of a successful authentication; credentials are left out.
+     *
+     * @param principal   the authenticated principal
+     * @param authorities the authorities granted to it
+     */
+    private record Verified(Object principal, Collection<? extends GrantedAuthority> authorities) {
+    }
+
+    /** Provider that verifies credentials not found in the cache. */
+    private final AuthenticationProvider delegate;
+
+    /** Verified principals keyed by the digest of their credentials. */
+    private final Cache<String, Verified> verified;
+
+    /**
+     * Creates a caching provider in front of the given one.
+     *
+     * @param delegate      the provider that verifies credentials on a cache miss
+     * @param maximumSize   the maximum number of cached credential pairs
+     * @param ttl           how long verified credentials are trusted without another check; zero disables caching
+     * @param meterRegistry registry the cache statistics are published to
+     */
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, long maximumSize, Duration ttl,
+                                         MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, CACHE_NAME);
+        log.info("Verified credential cache configured with maximum size {} and TTL {}", maximumSize, ttl);
+    }
+
+    /**
+     * Authenticates from the cache if the same credentials were verified recently, otherwise via the delegate.
+     *
+     * @param authentication the authentication request
+     * @return a fully authenticated object without credentials
+     * @throws AuthenticationException if the delegate rejects the credentials
+     */
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (!(authentication.getCredentials() instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        String key = digest(authentication.getName(), password);
+        Verified cached = verified.getIfPresent(key);
+        if (cached != null) {
+            UsernamePasswordAuthenticationToken result =
+                    UsernamePasswordAuthenticationToken.authenticated(cached.principal(), null, cached.authorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            verified.put(key, new Verified(result.getPrincipal(), result.getAuthorities()));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    /**
+     * Computes the cache key of a username and password pair.
+     */
+    private static String digest(String username, String password) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(username.getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) 0);
+            return HexFormat.of().formatHex(sha256.digest(password.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.kubertech.rewardsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class that declares the JDBC {@link DataSource} used by JPA, JDBC and Flyway.
+ * <p>
+ * Spring Boot's {@code DataSourceAutoConfiguration} backs off as soon as an R2DBC {@code ConnectionFactory}
+ * is auto-configured for the {@code /api/v2/rewards} read path, which would leave the blocking stack without
+ * a data source. The pool is therefore built here from the usual {@code spring.datasource.*} properties,
+ * unless {@link ReplicaDataSourceConfig} provides a routing data source instead.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    /**
+     * Creates the application's connection pool from {@code spring.datasource.*}.
+     *
+     * @param properties the standard data source properties
+     * @return the {@link HikariDataSource}
+     */
+    @Bean
+    @ConditionalOnExpression("'${reward.datasource.replica.jdbc-url:}'.isEmpty()")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+}
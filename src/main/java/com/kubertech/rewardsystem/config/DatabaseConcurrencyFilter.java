@@ -0,0 +1,130 @@
+package com.kubertech.rewardsystem.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Back-pressure filter for the reward API when requests run on virtual threads.
+ * <p>
+ * With {@code spring.threads.virtual.enabled=true} Tomcat no longer caps concurrency with its worker pool,
+ * so thousands of requests could queue on the small Hikari connection pool and fail with connection
+ * timeouts. This filter admits at most a fixed number of concurrent {@code /api/rewards/**} requests and
+ * answers HTTP 503 when a permit cannot be obtained within the configured wait.
+ * <p>
+ * A streamed response ({@code StreamingResponseBody}, e.g. {@code /stream}, {@code /export} and the NDJSON
+ * {@code /batch}) keeps its connection and cursor after the first dispatch returns, so its permit is only
+ * released once the async request completes. The limit defaults to the Hikari pool size: each request uses
+ * at most one connection at a time, so admitted requests never wait on the pool.
+ * <p>
+ * Only registered when virtual threads are enabled; the platform thread pool already bounds concurrency.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class DatabaseConcurrencyFilter extends OncePerRequestFilter {
+
+    /** Permits for requests allowed to use the database concurrently. */
+    private final Semaphore permits;
+
+    /** How long a request may wait for a permit before being rejected. */
+    private final Duration acquireTimeout;
+
+    /**
+     * Creates the filter with the configured limits.
+     *
+     * @param maxConcurrentRequests the maximum number of reward API requests in flight
+     * @param acquireTimeout        how long a request waits for a permit before receiving HTTP 503
+     */
+    public DatabaseConcurrencyFilter(
+            @Value("${reward.db-concurrency.max-concurrent-requests:${spring.datasource.hikari.maximum-pool-size:10}}")
+            int maxConcurrentRequests,
+            @Value("${reward.db-concurrency.acquire-timeout:2s}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxConcurrentRequests, true);
+        this.acquireTimeout = acquireTimeout;
+        log.info("Virtual threads enabled: limiting reward API to {} concurrent requests", maxConcurrentRequests);
+    }
+
+    /**
+     * Applies the limit only to the reward API.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getServletPath().startsWith("/api/rewards");
+    }
+
+    /**
+     * Holds a permit until the request completes, including its async phase, or rejects it with HTTP 503 if
+     * none becomes available in time.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Server busy. Please retry later.");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+            } else {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * Async dispatches run under the permit taken by the initial dispatch.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return true;
+    }
+
+    /**
+     * Releases the permit of an async request once it completes; the container calls
+     * {@link #onComplete} after a timeout or error as well.
+     */
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.kubertech.rewardsystem.config;
+
+import com.kubertech.rewardsystem.service.RewardLeaderboard;
+import com.kubertech.rewardsystem.service.RewardLedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup command that regenerates the monthly reward ledger from the transaction table.
+ * <p>
+ * Only runs when the application is launched with the {@code --rebuild-ledger} option, e.g.
+ * {@code java -jar reward-points-service.jar --rebuild-ledger}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerRebuildRunner implements ApplicationRunner {
+
+    /** Command-line option that triggers the rebuild. */
+    public static final String REBUILD_OPTION = "rebuild-ledger";
+
+    /** Service maintaining the monthly reward ledger. */
+    private final RewardLedgerService rewardLedgerService;
+
+    /** In-memory leaderboard seeded from the ledger. */
+    private final RewardLeaderboard rewardLeaderboard;
+
+    /**
+     * Rebuilds the ledger, and reloads the leaderboard from it, if the {@value #REBUILD_OPTION} option
+     * was passed on the command line.
+     *
+     * @param args the parsed application arguments
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(REBUILD_OPTION)) {
+            log.info("Ledger rebuild requested via --{}", REBUILD_OPTION);
+            rewardLedgerService.rebuild();
+            rewardLeaderboard.reload();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.kubertech.rewardsystem.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class that registers the per-request SQL statement budget.
+ * <p>
+ * Statements are counted by {@link QueryCountInspector}, which Hibernate creates from the
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector} property.
+ */
+@Configuration
+public class QueryBudgetConfig {
+
+    /**
+     * Creates the filter that records statements per reward API request and flags requests over budget.
+     *
+     * @param maxStatements the maximum number of statements a request may issue without a warning
+     * @param meterRegistry the registry the statement metrics are published to
+     * @return the {@link QueryBudgetFilter}
+     */
+    @Bean
+    public QueryBudgetFilter queryBudgetFilter(@Value("${reward.query-budget.max-statements:20}") long maxStatements,
+                                               MeterRegistry meterRegistry) {
+        return new QueryBudgetFilter(maxStatements, meterRegistry);
+    }
+}
@@ -0,0 +1,87 @@
+package com.kubertech.rewardsystem.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each reward API request issues and flags requests over a statement budget.
+ * <p>
+ * The per-request count is published as the {@code reward.request.statements} distribution. A request
+ * exceeding {@code reward.query-budget.max-statements} increments {@code reward.request.statements.over.budget}
+ * and logs a warning, which usually points to an N+1 query pattern. Statements issued after the request
+ * thread returns, e.g. by streamed responses, are not attributed to the request.
+ *
+ * @see QueryBudgetConfig
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    /** Distribution of statements per request. */
+    public static final String STATEMENTS_PER_REQUEST = "reward.request.statements";
+
+    /** Counter of requests that exceeded the statement budget. */
+    public static final String OVER_BUDGET = "reward.request.statements.over.budget";
+
+    /** Maximum number of statements a single request may issue without a warning. */
+    private final long maxStatements;
+
+    /** Distribution of {@link #STATEMENTS_PER_REQUEST}. */
+    private final DistributionSummary statementsPerRequest;
+
+    /** Counter of {@link #OVER_BUDGET}. */
+    private final Counter overBudget;
+
+    /**
+     * Creates the filter with the configured budget.
+     *
+     * @param maxStatements the statement budget per request
+     * @param meterRegistry the registry the meters are published to
+     */
+    public QueryBudgetFilter(long maxStatements, MeterRegistry meterRegistry) {
+        this.maxStatements = maxStatements;
+        this.statementsPerRequest = DistributionSummary.builder(STATEMENTS_PER_REQUEST)
+                .description("SQL statements issued per reward API request")
+                .baseUnit("statements")
+                .register(meterRegistry);
+        this.overBudget = Counter.builder(OVER_BUDGET)
+                .description("Reward API requests that issued more SQL statements than the budget")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Applies the budget only to the reward API.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getServletPath().startsWith("/api/rewards");
+    }
+
+    /**
+     * Counts the statements issued while the request is handled and records them once it completes.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCountInspector.reset();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long statements = QueryCountInspector.count();
+            statementsPerRequest.record(statements);
+            if (statements > maxStatements) {
+                overBudget.increment();
+                log.warn("{} {} issued {} SQL statements, over the budget of {}",
+                        request.getMethod(), request.getRequestURI(), statements, maxStatements);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.kubertech.rewardsystem.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} that counts the SQL statements prepared on the current thread.
+ * <p>
+ * Registered through {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}, so
+ * Hibernate creates the instance itself; the count is therefore kept in a static thread-local.
+ * {@link QueryBudgetFilter} resets and reads it around every request, and tests use it to assert the
+ * number of statements an operation issues, e.g. to catch N+1 lazy loading.
+ * <p>
+ * Only statements issued through Hibernate are counted, not plain JDBC or R2DBC ones.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    /** Statements counted on each thread since its last {@link #reset()}. */
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * Counts the statement and returns it unchanged.
+     *
+     * @param sql the SQL about to be prepared
+     * @return the same SQL
+     */
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Starts a new count on the current thread.
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * Returns the number of statements prepared on the current thread since the last {@link #reset()}.
+     *
+     * @return the statement count
+     */
+    public static long count() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,112 @@
+package com.kubertech.rewardsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration class that routes read-only transactions to a read replica.
+ * <p>
+ * Only active when {@code reward.datasource.replica.jdbc-url} is set. The primary pool is then built from
+ * the usual {@code spring.datasource.*} properties and the replica pool from {@code reward.datasource.replica.*}
+ * (any Hikari setting, e.g. {@code maximum-pool-size}). The application-wide {@link DataSource} becomes a
+ * {@link LazyConnectionDataSourceProxy} over a {@link ReplicaRoutingDataSource}, so JPA, JDBC and Flyway
+ * keep using a single data source. Read-only repository transactions go to the replica while
+ * {@link ReplicaLagMonitor} reports it fresh; everything else goes to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "reward.datasource.replica", name = "jdbc-url")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Creates the primary connection pool from {@code spring.datasource.*}.
+     *
+     * @param properties the standard data source properties
+     * @return the primary {@link HikariDataSource}
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Creates the replica connection pool from {@code reward.datasource.replica.*}.
+     * <p>
+     * Server-side cursors are always enabled, so streamed reads such as the reward export keep reading rows
+     * in batches when they are served by the replica.
+     *
+     * @return the replica {@link HikariDataSource}
+     */
+    @Bean
+    @ConfigurationProperties("reward.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = DataSourceBuilder.create().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        // Read-only transactions, including the export cursor, run here; without it MySQL ignores the fetch size
+        dataSource.addDataSourceProperty("useCursorFetch", "true");
+        return dataSource;
+    }
+
+    /**
+     * Creates the data source that picks the primary or the replica per connection.
+     *
+     * @param primary the primary pool
+     * @param replica the replica pool
+     * @return the {@link ReplicaRoutingDataSource}
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                             @Qualifier("replicaDataSource") DataSource replica) {
+        return new ReplicaRoutingDataSource(primary, replica);
+    }
+
+    /**
+     * Exposes the routing data source as the application's data source, deferring the choice of pool
+     * until the first statement of a transaction.
+     *
+     * @param routingDataSource the routing data source
+     * @return the application-wide {@link DataSource}
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Creates the monitor that falls back to the primary while the replica lags.
+     *
+     * @param routingDataSource the routing data source to update
+     * @param primary           the primary pool
+     * @param replica           the replica pool
+     * @param maxLag            largest replication lag at which the replica is still used
+     * @param interval          time between two heartbeats
+     * @param meterRegistry     registry the lag gauges are published to
+     * @return the {@link ReplicaLagMonitor}
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReplicaRoutingDataSource routingDataSource,
+                                               @Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${reward.replica.max-lag:5s}") Duration maxLag,
+                                               @Value("${reward.replica.heartbeat-interval:1s}") Duration interval,
+                                               MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(routingDataSource, primary, replica, maxLag, interval, meterRegistry);
+    }
+}
@@ -0,0 +1,150 @@
+package com.kubertech.rewardsystem.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the replication lag of the read replica and switches {@link ReplicaRoutingDataSource}
+ * back to the primary while the replica is too far behind or unreachable.
+ * <p>
+ * Every interval, the current time is written to the {@code replica_heartbeat} row on the primary and
+ * the row is read back from the replica. Its age on the replica is an upper bound of the replication lag.
+ * Read-only transactions use the replica only while that age is within the configured maximum.
+ * <p>
+ * If the primary cannot be written, the last decision is kept, since the lag cannot be measured.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    /** Writes the heartbeat on the primary. */
+    private static final String WRITE_HEARTBEAT_SQL = "UPDATE replica_heartbeat SET beat_at_millis = ? WHERE id = 1";
+
+    /** Reads the replicated heartbeat on the replica. */
+    private static final String READ_HEARTBEAT_SQL = "SELECT beat_at_millis FROM replica_heartbeat WHERE id = 1";
+
+    /** Routing data source whose replica availability is maintained. */
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    /** JDBC access to the primary, bypassing routing. */
+    private final JdbcTemplate primary;
+
+    /** JDBC access to the replica, bypassing routing. */
+    private final JdbcTemplate replica;
+
+    /** Largest replication lag at which the replica is still used. */
+    private final Duration maxLag;
+
+    /** Time between two heartbeats. */
+    private final Duration interval;
+
+    /** Last measured lag in milliseconds, or -1 if the replica could not be read. */
+    private volatile long lagMillis = -1;
+
+    /** Runs the heartbeat while started. */
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a monitor for a primary and replica pair.
+     *
+     * @param routingDataSource routing data source whose replica availability is maintained
+     * @param primary           the primary data source
+     * @param replica           the replica data source
+     * @param maxLag            largest replication lag at which the replica is still used
+     * @param interval          time between two heartbeats
+     * @param meterRegistry     registry the lag and availability gauges are published to
+     */
+    public ReplicaLagMonitor(ReplicaRoutingDataSource routingDataSource, DataSource primary, DataSource replica,
+                             Duration maxLag, Duration interval, MeterRegistry meterRegistry) {
+        this.routingDataSource = routingDataSource;
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+        this.interval = interval;
+        Gauge.builder("reward.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("Replication lag of the read replica measured by the heartbeat, or -1 if unreachable")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("reward.replica.available", routingDataSource, ds -> ds.isReplicaAvailable() ? 1 : 0)
+                .description("Whether read-only transactions are routed to the read replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes a heartbeat, measures the replica's lag behind it and updates the routing decision.
+     */
+    public void check() {
+        long now = System.currentTimeMillis();
+        try {
+            primary.update(WRITE_HEARTBEAT_SQL, now);
+        } catch (DataAccessException e) {
+            log.warn("Could not write replica heartbeat to the primary; keeping the current routing", e);
+            return;
+        }
+
+        boolean available;
+        try {
+            Long replicatedBeat = replica.queryForObject(READ_HEARTBEAT_SQL, Long.class);
+            lagMillis = now - (replicatedBeat == null ? 0 : replicatedBeat);
+            available = lagMillis <= maxLag.toMillis();
+        } catch (DataAccessException e) {
+            lagMillis = -1;
+            available = false;
+            log.debug("Could not read replica heartbeat", e);
+        }
+
+        if (available != routingDataSource.isReplicaAvailable()) {
+            if (available) {
+                log.info("Read replica caught up (lag {} ms); routing read-only transactions to it", lagMillis);
+            } else {
+                log.warn("Read replica is stale or unreachable (lag {} ms); routing all transactions to the primary", lagMillis);
+            }
+            routingDataSource.setReplicaAvailable(available);
+        }
+    }
+
+    /**
+     * @return the last measured lag in milliseconds, or -1 if the replica could not be read
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-monitor").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::checkSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        scheduler.shutdownNow();
+        scheduler = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Keeps the schedule alive if a check fails unexpectedly.
+     */
+    private void checkSafely() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.error("Replica lag check failed", e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.kubertech.rewardsystem.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Routing {@link DataSource} that sends read-only transactions to a read replica.
+ * <p>
+ * Connections are routed to the replica when the current transaction is
+ * {@code @Transactional(readOnly = true)} and the replica is currently considered fresh enough;
+ * everything else, including work outside a transaction, goes to the primary. The replica starts
+ * out unavailable until {@link ReplicaLagMonitor} has seen it catch up. Work run through
+ * {@link #onPrimary(Supplier)} always reads from the primary, e.g. to see a write that may not have
+ * been replicated yet.
+ * <p>
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: transaction
+ * managers open the connection before the read-only flag is published, so the routing decision has to be
+ * deferred until the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /** Lookup keys of the routed data sources. */
+    public enum Route { PRIMARY, REPLICA }
+
+    /** Set while the current thread runs work that must read from the primary. */
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = ThreadLocal.withInitial(() -> false);
+
+    /** Whether read-only transactions may currently use the replica. */
+    private volatile boolean replicaAvailable;
+
+    /**
+     * Creates a routing data source over a primary and a replica.
+     *
+     * @param primary the data source for writes and for reads while the replica is stale
+     * @param replica the data source for read-only transactions
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    /**
+     * Allows or stops routing read-only transactions to the replica. Transactions already holding a
+     * replica connection finish on it.
+     *
+     * @param replicaAvailable whether the replica is reachable and within the allowed lag
+     */
+    public void setReplicaAvailable(boolean replicaAvailable) {
+        this.replicaAvailable = replicaAvailable;
+    }
+
+    /**
+     * @return whether read-only transactions are currently routed to the replica
+     */
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    /**
+     * Runs work whose read-only transactions must use the primary, because it reads data written so recently
+     * that the replica may not have it yet. Has no effect when no replica is configured.
+     *
+     * @param action the work to run on the current thread
+     * @param <T>    the type of the result
+     * @return the result of the action
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean pinned = PINNED_TO_PRIMARY.get();
+        PINNED_TO_PRIMARY.set(true);
+        try {
+            return action.get();
+        } finally {
+            PINNED_TO_PRIMARY.set(pinned);
+        }
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        return replicaAvailable && !PINNED_TO_PRIMARY.get() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+}
@@ -1,27 +1,43 @@
 package com.kubertech.rewardsystem.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+import java.util.regex.Pattern;
+
 /**
  * Configuration class that defines the security settings for the Reward System application.
  * <p>
  * This setup includes HTTP Basic authentication, disables CSRF protection,
- * and restricts access to reward-related API endpoints.
+ * and restricts access to reward-related API endpoints. The user from {@code spring.security.user.*}
+ * is verified through a {@link CachingAuthenticationProvider}, so the password hash is not recomputed
+ * on every request.
  */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    /** Matches passwords that already name their encoding, e.g. {@code {bcrypt}$2a$10$...}. */
+    private static final Pattern ENCODED_PASSWORD = Pattern.compile("^\\{.+}.*$");
+
     /**
      * Configures the security filter chain for HTTP requests.
      * <p>
      * - Disables CSRF protection.<br>
-     * - Secures "/api/rewards/**" endpoints, requiring authentication.<br>
+     * - Secures "/api/rewards/**" and "/api/v2/rewards/**" endpoints, requiring authentication.<br>
+     * - Secures the actuator endpoints except health, since metrics expose latencies, cache statistics and replica lag.<br>
      * - Allows all other requests without authentication.<br>
      * - Returns an HTTP 401 Unauthorized status for unauthenticated access attempts.
      *
@@ -34,7 +50,9 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers("/api/rewards/**")
+                        .requestMatchers("/actuator/health", "/actuator/health/**")
+                        .permitAll()
+                        .requestMatchers("/api/rewards/**", "/api/v2/rewards/**", "/actuator/**")
                         .authenticated()
                         .anyRequest().permitAll()
                 )
@@ -46,4 +64,35 @@ public class SecurityConfig {
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies the user configured in {@code spring.security.user.*} and caches successful verifications.
+     * <p>
+     * The password may be plain text or carry an encoding prefix such as {@code {bcrypt}}. Declaring this
+     * provider replaces Spring Boot's default in-memory user, which is therefore built here from the same
+     * properties.
+     *
+     * @param securityProperties the {@code spring.security.*} properties
+     * @param maximumSize        the maximum number of cached credential pairs
+     * @param ttl                how long verified credentials are trusted without another check
+     * @param meterRegistry      registry the cache statistics are published to
+     * @return the {@link CachingAuthenticationProvider}
+     */
+    @Bean
+    public AuthenticationProvider authenticationProvider(
+            SecurityProperties securityProperties,
+            @Value("${reward.security.credential-cache.maximum-size:1000}") long maximumSize,
+            @Value("${reward.security.credential-cache.ttl:5m}") Duration ttl,
+            MeterRegistry meterRegistry) {
+        SecurityProperties.User user = securityProperties.getUser();
+        String password = ENCODED_PASSWORD.matcher(user.getPassword()).matches()
+                ? user.getPassword() : "{noop}" + user.getPassword();
+
+        DaoAuthenticationProvider verifier = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(
+                User.withUsername(user.getName())
+                        .password(password)
+                        .roles(user.getRoles().toArray(String[]::new))
+                        .build()));
+        return new CachingAuthenticationProvider(verifier, maximumSize, ttl, meterRegistry);
+    }
+}
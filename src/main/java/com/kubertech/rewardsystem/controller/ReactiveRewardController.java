@@ -0,0 +1,58 @@
+package com.kubertech.rewardsystem.controller;
+
+import com.kubertech.rewardsystem.model.RewardSummary;
+import com.kubertech.rewardsystem.service.ReactiveRewardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Non-blocking REST controller for reward summary reads (version 2).
+ * <p>
+ * Returns the same data as the read endpoints of {@link RewardController}, but backed by R2DBC so
+ * the request thread is released while the database query runs. Clients that accept
+ * {@code application/x-ndjson} receive the all-customers result as a stream.
+ */
+@RestController
+@RequestMapping("/api/v2/rewards")
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveRewardController {
+
+    /** The non-blocking service layer for reward reads. */
+    private final ReactiveRewardService reactiveRewardService;
+
+    /**
+     * Retrieves reward summaries for all customers.
+     *
+     * @return a {@link Flux} of {@link RewardSummary} for all customers, ordered by customer ID
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<RewardSummary> fetchAllRewardsSummary() {
+        log.info("API called: fetchAllRewardsSummary (v2)");
+        return reactiveRewardService.getAllRewardSummaries();
+    }
+
+    /**
+     * Retrieves the reward summary for a specific customer within a date range.
+     *
+     * @param customerId the ID of the customer
+     * @param startDate  the start date of the reward calculation range (ISO format)
+     * @param endDate    the end date of the reward calculation range (ISO format)
+     * @return a {@link Mono} of the {@link RewardSummary} for the given customer
+     */
+    @GetMapping("/{customerId}")
+    public Mono<RewardSummary> getCustomerRewardSummary(
+            @PathVariable Long customerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.info("API called: getCustomerRewardSummary (v2)");
+        return reactiveRewardService.getCustomerRewards(customerId, startDate, endDate);
+    }
+}
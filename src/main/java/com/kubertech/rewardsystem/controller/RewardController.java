@@ -1,17 +1,44 @@
 package com.kubertech.rewardsystem.controller;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kubertech.rewardsystem.model.BatchRewardRequest;
+import com.kubertech.rewardsystem.model.BulkIngestionResponse;
 import com.kubertech.rewardsystem.model.Customer;
+import com.kubertech.rewardsystem.model.ExportFormat;
+import com.kubertech.rewardsystem.model.LeaderboardEntry;
+import com.kubertech.rewardsystem.model.LeaderboardPeriod;
+import com.kubertech.rewardsystem.model.RewardCacheStats;
 import com.kubertech.rewardsystem.model.RewardSummary;
+import com.kubertech.rewardsystem.model.RewardSummaryPage;
+import com.kubertech.rewardsystem.model.RewardView;
 import com.kubertech.rewardsystem.model.Transaction;
+import com.kubertech.rewardsystem.service.RewardExportService;
+import com.kubertech.rewardsystem.service.RewardLeaderboard;
 import com.kubertech.rewardsystem.service.RewardService;
+import com.kubertech.rewardsystem.service.RewardSummaryCache;
+import com.kubertech.rewardsystem.service.TransactionIngestionService;
+import com.kubertech.rewardsystem.service.WriteBehindTransactionService;
+import com.kubertech.rewardsystem.utility.RewardSummaryCsvWriter;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -30,6 +57,24 @@ public class RewardController {
     /** The service layer for handling reward logic. */
     private final RewardService rewardService;
 
+    /** The service layer for bulk transaction ingestion. */
+    private final TransactionIngestionService transactionIngestionService;
+
+    /** The service layer for exporting all reward summaries over a date range. */
+    private final RewardExportService rewardExportService;
+
+    /** The optional write-behind path for single transactions. */
+    private final WriteBehindTransactionService writeBehindTransactionService;
+
+    /** Cache of per-customer reward summaries, exposed for sizing statistics. */
+    private final RewardSummaryCache rewardSummaryCache;
+
+    /** In-memory top-N leaderboard per month and quarter. */
+    private final RewardLeaderboard rewardLeaderboard;
+
+    /** Mapper used to write streamed summaries as newline-delimited JSON. */
+    private final ObjectMapper objectMapper;
+
     /**
      * Creates a new customer.
      *
@@ -44,42 +89,259 @@ public class RewardController {
 
     /**
      * Creates a new transaction associated with a customer.
+     * <p>
+     * With write-behind enabled, the transaction is appended to the durable transaction log and
+     * acknowledged with HTTP 202 before it is stored; the customer is validated when it is drained.
      *
      * @param transaction the {@link Transaction} object to create, validated before processing
-     * @return {@link ResponseEntity} containing the saved transaction and HTTP 201 status
+     * @return {@link ResponseEntity} containing the saved transaction and HTTP 201 status,
+     *         or the accepted transaction and HTTP 202 status in write-behind mode
      */
     @PostMapping("/transactions")
     public ResponseEntity<Transaction> createTransaction(@Valid @RequestBody Transaction transaction) {
+        if (writeBehindTransactionService.isEnabled()) {
+            writeBehindTransactionService.accept(transaction);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(transaction);
+        }
         Transaction savedTransaction = rewardService.createTransaction(transaction);
         return ResponseEntity.status(HttpStatus.CREATED).body(savedTransaction);
     }
 
+    /**
+     * Creates many transactions in one request, e.g. an end-of-day POS upload.
+     * <p>
+     * Accepts either a JSON array or newline-delimited JSON with one transaction per line. The body is
+     * parsed incrementally, so the full payload is never held in memory. Invalid rows are rejected
+     * individually without affecting the rest of the upload.
+     *
+     * @param request the HTTP request whose body contains the transactions
+     * @return {@link ResponseEntity} containing per-row accept/reject results
+     * @throws IOException if the request body cannot be read or parsed
+     */
+    @PostMapping(value = "/transactions/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkIngestionResponse> createTransactionsBulk(HttpServletRequest request) throws IOException {
+        log.info("API called: createTransactionsBulk");
+        try (MappingIterator<Transaction> rows = objectMapper.readerFor(Transaction.class)
+                .readValues(request.getInputStream())) {
+            return ResponseEntity.ok(transactionIngestionService.ingest(rows));
+        }
+    }
+
     /**
      * Retrieves reward summaries for all customers.
      *
+     * @param view {@code full} (default) to include transactions, or {@code summary} for points only
      * @return {@link ResponseEntity} with a list of {@link RewardSummary} for all customers
      */
     @GetMapping
-    public ResponseEntity<List<RewardSummary>> fetchAllRewardsSummary() {
+    public ResponseEntity<List<RewardSummary>> fetchAllRewardsSummary(
+            @RequestParam(defaultValue = "full") String view) {
         log.info("API called: fetchAllRewardsSummary");
+        if (RewardView.from(view) == RewardView.SUMMARY) {
+            return ResponseEntity.ok(rewardService.getAllRewardPointSummaries());
+        }
         return ResponseEntity.ok(rewardService.getAllRewardSummaries());
     }
 
+    /**
+     * Retrieves one keyset-paginated page of reward summaries, ordered by customer ID.
+     *
+     * @param afterId the {@code nextAfterId} cursor from the previous page (0 for the first page)
+     * @param size    the maximum number of customers per page
+     * @param view    {@code full} (default) to include transactions, or {@code summary} for points only
+     * @return {@link ResponseEntity} containing the {@link RewardSummaryPage}
+     */
+    @GetMapping("/page")
+    public ResponseEntity<RewardSummaryPage> fetchRewardsSummaryPage(
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "100") int size,
+            @RequestParam(defaultValue = "full") String view) {
+        log.info("API called: fetchRewardsSummaryPage");
+        return ResponseEntity.ok(rewardService.getRewardSummariesPage(afterId, size, RewardView.from(view)));
+    }
+
+    /**
+     * Streams reward summaries for all customers as newline-delimited JSON.
+     * <p>
+     * Each summary is written to the response as soon as it is built, so the full result is never held in memory.
+     *
+     * @param view {@code full} (default) to include transactions, or {@code summary} for points only
+     * @return {@link ResponseEntity} with a {@link StreamingResponseBody} producing one JSON object per line
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllRewardsSummary(
+            @RequestParam(defaultValue = "full") String view) {
+        log.info("API called: streamAllRewardsSummary");
+        RewardView rewardView = RewardView.from(view);
+        StreamingResponseBody body = outputStream -> rewardService.streamAllRewardSummaries(rewardView, summary -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(summary));
+                outputStream.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Exports the reward summaries of all customers within a date range as CSV or newline-delimited JSON.
+     * <p>
+     * Summaries are written as they are folded from a single database cursor, so memory use stays flat
+     * regardless of the number of customers and transactions.
+     *
+     * @param startDate the start date of the range (ISO format)
+     * @param endDate   the end date of the range (ISO format)
+     * @param format    {@code csv} (default), one line per customer with a column per month, or {@code ndjson}
+     * @param view      for {@code ndjson}: {@code summary} (default) for points only, or {@code full} to include transactions
+     * @return {@link ResponseEntity} with a {@link StreamingResponseBody} producing the export
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRewardSummaries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "summary") String view) {
+        log.info("API called: exportRewardSummaries");
+        ExportFormat exportFormat = ExportFormat.from(format);
+        RewardView rewardView = exportFormat == ExportFormat.CSV ? RewardView.SUMMARY : RewardView.from(view);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date.");
+        }
+        rewardExportService.requireRetained(startDate);
+
+        if (exportFormat == ExportFormat.NDJSON) {
+            StreamingResponseBody body = outputStream -> rewardExportService.exportRewardSummaries(
+                    startDate, endDate, rewardView, summary -> {
+                        try {
+                            outputStream.write(objectMapper.writeValueAsBytes(summary));
+                            outputStream.write('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            RewardSummaryCsvWriter csv = new RewardSummaryCsvWriter(writer, startDate, endDate);
+            rewardExportService.exportRewardSummaries(startDate, endDate, rewardView, summary -> {
+                try {
+                    csv.write(summary);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("reward-summaries-" + startDate + "-to-" + endDate + ".csv").build().toString())
+                .body(body);
+    }
+
     /**
      * Retrieves the reward summary for a specific customer within a date range.
      *
      * @param customerId the ID of the customer
      * @param startDate  the start date of the reward calculation range (ISO format)
      * @param endDate    the end date of the reward calculation range (ISO format)
+     * @param view       {@code full} (default) to include transactions, or {@code summary} for points only
      * @return {@link ResponseEntity} containing the {@link RewardSummary} for the given customer
      */
     @GetMapping("/{customerId}")
     public ResponseEntity<RewardSummary> getCustomerRewardSummary(
             @PathVariable Long customerId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "full") String view) {
         log.info("Retrieves a detailed reward summary for a given customer based on transactions within the specified date range");
-        RewardSummary summary = rewardService.getCustomerRewards(customerId, startDate, endDate);
+        RewardSummary summary = RewardView.from(view) == RewardView.SUMMARY
+                ? rewardService.getCustomerRewardPoints(customerId, startDate, endDate)
+                : rewardService.getCustomerRewards(customerId, startDate, endDate);
         return ResponseEntity.ok(summary);
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the reward summaries of many customers within the same date range in one request.
+     * <p>
+     * Customers that do not exist are omitted from the result.
+     *
+     * @param request the customer IDs and the date range, validated before processing
+     * @return {@link ResponseEntity} containing the summaries in request order
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<RewardSummary>> getCustomerRewardSummariesBatch(@Valid @RequestBody BatchRewardRequest request) {
+        log.info("API called: getCustomerRewardSummariesBatch");
+        return ResponseEntity.ok(rewardService.getCustomerRewardsBatch(
+                request.getCustomerIds(), request.getStartDate(), request.getEndDate()));
+    }
+
+    /**
+     * Streams the reward summaries of many customers within the same date range as newline-delimited JSON.
+     * <p>
+     * Selected with {@code Accept: application/x-ndjson}; intended for large ID lists.
+     *
+     * @param request the customer IDs and the date range, validated before processing
+     * @return {@link ResponseEntity} with a {@link StreamingResponseBody} producing one JSON object per line
+     */
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCustomerRewardSummariesBatch(@Valid @RequestBody BatchRewardRequest request) {
+        log.info("API called: streamCustomerRewardSummariesBatch");
+        StreamingResponseBody body = outputStream -> rewardService.streamCustomerRewardsBatch(
+                request.getCustomerIds(), request.getStartDate(), request.getEndDate(), summary -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(summary));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Retrieves hit, miss and eviction statistics of the reward summary cache.
+     *
+     * @return {@link ResponseEntity} containing the current {@link RewardCacheStats}
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<RewardCacheStats> fetchCacheStats() {
+        return ResponseEntity.ok(rewardSummaryCache.stats());
+    }
+
+    /**
+     * Retrieves the customers with the most reward points in a month or quarter.
+     * <p>
+     * Answered from memory without touching the database.
+     *
+     * @param period {@code month} (default) or {@code quarter}
+     * @param date   any day of the period (ISO format); defaults to today
+     * @param limit  the maximum number of entries, up to {@value RewardLeaderboard#MAX_LIMIT}
+     * @return {@link ResponseEntity} containing the {@link LeaderboardEntry} list, highest points first
+     */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<List<LeaderboardEntry>> fetchLeaderboard(
+            @RequestParam(defaultValue = "month") String period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "100") int limit) {
+        LeaderboardPeriod leaderboardPeriod = LeaderboardPeriod.from(period);
+        return ResponseEntity.ok(rewardLeaderboard.top(leaderboardPeriod, date == null ? LocalDate.now() : date, limit));
+    }
+
+    /**
+     * Reloads the reward rule definition (tiers and promotions) from the database and activates it
+     * without a restart. Cached summaries are dropped and the monthly reward ledger is rebuilt.
+     *
+     * @return {@link ResponseEntity} with HTTP 204 once the new rules are active and the ledger is rebuilt
+     */
+    @PostMapping("/rules/reload")
+    public ResponseEntity<Void> reloadRewardRules() {
+        log.info("API called: reloadRewardRules");
+        rewardService.reloadRewardRules();
+        return ResponseEntity.noContent().build();
+    }
+}
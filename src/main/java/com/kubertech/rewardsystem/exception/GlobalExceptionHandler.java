@@ -1,9 +1,12 @@
 package com.kubertech.rewardsystem.exception;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
@@ -72,6 +75,15 @@ public class GlobalExceptionHandler {
                 .body("Invalid date input. Please use yyyy-MM-dd format.");
     }
 
+    /**
+     * Handles malformed JSON in request bodies, including values that cannot be mapped (e.g. fractions of a cent).
+     */
+    @ExceptionHandler({HttpMessageNotReadableException.class, JsonProcessingException.class, RuntimeJsonMappingException.class})
+    public ResponseEntity<String> handleMalformedJson(Exception ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("Malformed JSON payload. Please review and retry.");
+    }
+
     /**
      * Handles unsupported media types (e.g. non-JSON payloads).
      */
@@ -99,6 +111,15 @@ public class GlobalExceptionHandler {
                 .body("Resource not found. Please verify your request.");
     }
 
+    /**
+     * Handles reads that timed out waiting for accepted write-behind transactions to be stored.
+     */
+    @ExceptionHandler(PendingWritesTimeoutException.class)
+    public ResponseEntity<String> handlePendingWritesTimeout(PendingWritesTimeoutException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ex.getMessage());
+    }
+
     /**
      * Handles custom logical errors (e.g. startDate after endDate).
      */
@@ -0,0 +1,19 @@
+package com.kubertech.rewardsystem.exception;
+
+/**
+ * Exception thrown when a read has to wait for accepted write-behind transactions to be stored
+ * and they are not stored within the configured timeout.
+ * <p>
+ * This exception results in a 503 HTTP response when handled by the global exception handler.
+ */
+public class PendingWritesTimeoutException extends RuntimeException {
+
+    /**
+     * Constructs a new {@code PendingWritesTimeoutException} with a specified error message.
+     *
+     * @param message descriptive message explaining which writes are still pending
+     */
+    public PendingWritesTimeoutException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,57 @@
+package com.kubertech.rewardsystem.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Request body for looking up the reward summaries of many customers over the same date range.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRewardRequest {
+
+    /** Largest number of customer IDs accepted in a single request. */
+    public static final int MAX_CUSTOMER_IDS = 10_000;
+
+    /**
+     * IDs of the customers to summarize. Results follow this order; duplicates are returned once.
+     */
+    @NotEmpty(message = "At least one customer ID is required")
+    @Size(max = MAX_CUSTOMER_IDS, message = "At most " + MAX_CUSTOMER_IDS + " customer IDs can be requested at once")
+    private List<@NotNull Long> customerIds;
+
+    /**
+     * Start date of the reward calculation range (inclusive).
+     */
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    /**
+     * End date of the reward calculation range (inclusive).
+     */
+    @NotNull(message = "End date is required")
+    private LocalDate endDate;
+
+    /**
+     * Checks the date range up front, so streamed responses never fail after the first line has been written.
+     *
+     * @return {@code true} unless both dates are present and the start date is after the end date
+     */
+    @JsonIgnore
+    @AssertTrue(message = "Start date cannot be after end date")
+    public boolean isDateRangeValid() {
+        return startDate == null || endDate == null || !startDate.isAfter(endDate);
+    }
+}
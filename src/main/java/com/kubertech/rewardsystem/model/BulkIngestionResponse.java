@@ -0,0 +1,35 @@
+package com.kubertech.rewardsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response returned by the bulk transaction ingestion endpoint.
+ * <p>
+ * Contains the overall accepted/rejected counts and one {@link BulkTransactionResult} per submitted row.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkIngestionResponse {
+
+    /**
+     * Number of rows stored.
+     */
+    private int acceptedCount;
+
+    /**
+     * Number of rows rejected.
+     */
+    private int rejectedCount;
+
+    /**
+     * Per-row outcome, in the order the rows were submitted.
+     */
+    private List<BulkTransactionResult> results;
+}
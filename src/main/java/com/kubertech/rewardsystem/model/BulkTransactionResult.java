@@ -0,0 +1,39 @@
+package com.kubertech.rewardsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single row submitted to the bulk transaction ingestion endpoint.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTransactionResult {
+
+    /**
+     * Whether a row was stored or rejected.
+     */
+    public enum Status {
+        ACCEPTED,
+        REJECTED
+    }
+
+    /**
+     * Zero-based position of the row in the submitted payload.
+     */
+    private int index;
+
+    /**
+     * Whether the row was stored.
+     */
+    private Status status;
+
+    /**
+     * Reason for rejection, or {@code null} for accepted rows.
+     */
+    private String message;
+}
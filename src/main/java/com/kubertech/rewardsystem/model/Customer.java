@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.List;
 
@@ -23,6 +24,9 @@ import java.util.List;
 @Builder
 public class Customer {
 
+    /** Number of customers whose lazy transaction collections are loaded per query. */
+    public static final int TRANSACTION_BATCH_SIZE = 100;
+
     /**
      * Unique identifier for the customer.
      * <p>
@@ -47,8 +51,11 @@ public class Customer {
      * - The {@code customer} field in {@link Transaction} is the owner of the relationship.
      * - All related transactions are cascaded and removed if the customer is deleted.
      * - {@link JsonManagedReference} is used for correct bidirectional serialization.
+     * - When loaded lazily, the collections of up to {@value #TRANSACTION_BATCH_SIZE} customers in the
+     *   persistence context are initialized together by one {@code IN} query.
      */
     @OneToMany(mappedBy = "customer", cascade = CascadeType.ALL, orphanRemoval = true , fetch = FetchType.LAZY)
+    @BatchSize(size = TRANSACTION_BATCH_SIZE)
     @JsonManagedReference
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private List<Transaction> transactions;
@@ -1,25 +1,13 @@
 package com.kubertech.rewardsystem.model;
 
-import lombok.Builder;
-import lombok.Data;
-
 /**
- * Data Transfer Object representing basic customer details.
+ * Read model representing basic customer details.
  * <p>
- * This DTO is typically used in contexts where full transaction data is not needed—
- * for example, when listing customers or referencing them in summaries.
+ * Populated directly by JPQL constructor expressions, so read-only endpoints get a customer's
+ * identity without loading a managed {@link Customer} entity or its transaction collection.
+ *
+ * @param id   unique identifier of the customer
+ * @param name name of the customer
  */
-@Data
-@Builder
-public class CustomerBasicDTO {
-
-    /**
-     * Unique identifier of the customer.
-     */
-    private Long id;
-
-    /**
-     * Name of the customer.
-     */
-    private String name;
-}
\ No newline at end of file
+public record CustomerBasicDTO(Long id, String name) {
+}
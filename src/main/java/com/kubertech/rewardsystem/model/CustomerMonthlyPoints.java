@@ -0,0 +1,51 @@
+package com.kubertech.rewardsystem.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Represents one row of the precomputed monthly reward ledger.
+ * <p>
+ * Each row holds the total reward points a customer earned in a single calendar month.
+ * Rows are maintained incrementally whenever a transaction is recorded, so month-aligned
+ * reward queries can be answered without re-reading the raw transaction history.
+ */
+@Entity
+@Table(name = "customer_monthly_points",
+        uniqueConstraints = @UniqueConstraint(name = "uk_customer_month", columnNames = {"customer_id", "month_start"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CustomerMonthlyPoints {
+
+    /**
+     * Unique identifier for the ledger row.
+     * <p>
+     * Auto-generated using the {@link GenerationType#IDENTITY} strategy.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID of the customer who earned the points.
+     */
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    /**
+     * First day of the calendar month the points belong to.
+     */
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    /**
+     * Total reward points earned by the customer during the month.
+     */
+    @Column(nullable = false)
+    private int points;
+}
@@ -0,0 +1,26 @@
+package com.kubertech.rewardsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * Projection of one {@link CustomerMonthlyPoints} ledger row without its surrogate ID.
+ * <p>
+ * Used to seed the in-memory rewards leaderboard without loading ledger entities.
+ */
+public interface CustomerMonthlyPointsProjection {
+
+    /**
+     * @return the ID of the customer who earned the points
+     */
+    Long getCustomerId();
+
+    /**
+     * @return the first day of the month the points belong to
+     */
+    LocalDate getMonthStart();
+
+    /**
+     * @return the points earned by the customer during the month
+     */
+    int getPoints();
+}
@@ -0,0 +1,16 @@
+package com.kubertech.rewardsystem.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Read-only R2DBC mapping of the {@code customer} table used by the reactive read path.
+ * <p>
+ * Kept separate from the JPA {@link Customer} entity, whose transaction collection cannot be mapped by R2DBC.
+ *
+ * @param id   unique identifier of the customer
+ * @param name name of the customer
+ */
+@Table("customer")
+public record CustomerRow(@Id Long id, String name) {
+}
@@ -0,0 +1,15 @@
+package com.kubertech.rewardsystem.model;
+
+/**
+ * Projection of a transaction's amount and date together with its customer ID.
+ * <p>
+ * Used to regenerate the {@link CustomerMonthlyPoints} ledger from the raw transaction table.
+ * All three columns are part of the {@code idx_transaction_customer_date} index.
+ */
+public interface CustomerTransactionAmountProjection extends TransactionAmountProjection {
+
+    /**
+     * @return the ID of the customer who made the transaction
+     */
+    Long getCustomerId();
+}
@@ -0,0 +1,33 @@
+package com.kubertech.rewardsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * One row of a customer left-joined with one of their transactions.
+ * <p>
+ * Loads customers and their transactions with a single query without hydrating entities.
+ * The transaction fields are {@code null} for a customer without transactions.
+ *
+ * @param customerId      unique identifier of the customer
+ * @param customerName    name of the customer
+ * @param transactionId   unique identifier of the transaction, or {@code null}
+ * @param amountCents     monetary value of the transaction in cents, or {@code null}
+ * @param transactionDate date when the transaction occurred, or {@code null}
+ */
+public record CustomerTransactionDTO(Long customerId, String customerName, Long transactionId,
+                                     Long amountCents, LocalDate transactionDate) {
+
+    /**
+     * @return the customer part of the row
+     */
+    public CustomerBasicDTO customer() {
+        return new CustomerBasicDTO(customerId, customerName);
+    }
+
+    /**
+     * @return the transaction part of the row, or {@code null} if the customer has no transactions
+     */
+    public TransactionDTO transaction() {
+        return transactionId == null ? null : new TransactionDTO(transactionId, customerId, amountCents, transactionDate);
+    }
+}
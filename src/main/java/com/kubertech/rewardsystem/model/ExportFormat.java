@@ -0,0 +1,33 @@
+package com.kubertech.rewardsystem.model;
+
+/**
+ * File format of the reward summary export.
+ */
+public enum ExportFormat {
+
+    /**
+     * Comma-separated values, one line per customer with a column per month of the range.
+     */
+    CSV,
+
+    /**
+     * Newline-delimited JSON, one {@link RewardSummary} object per line.
+     */
+    NDJSON;
+
+    /**
+     * Parses a format name case-insensitively.
+     *
+     * @param value the requested format, e.g. "csv" or "ndjson"
+     * @return the matching {@link ExportFormat}
+     * @throws IllegalArgumentException if the value does not name a format
+     */
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format: " + value + ". Use csv or ndjson.");
+    }
+}
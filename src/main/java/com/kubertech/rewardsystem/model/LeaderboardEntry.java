@@ -0,0 +1,11 @@
+package com.kubertech.rewardsystem.model;
+
+/**
+ * One position on a rewards leaderboard.
+ *
+ * @param rank       the 1-based position; customers with equal points are ordered by ID
+ * @param customerId the ID of the customer
+ * @param points     the reward points the customer earned in the period
+ */
+public record LeaderboardEntry(int rank, Long customerId, int points) {
+}
@@ -0,0 +1,46 @@
+package com.kubertech.rewardsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * Calendar period a rewards leaderboard ranks customers over.
+ */
+public enum LeaderboardPeriod {
+
+    /**
+     * A calendar month.
+     */
+    MONTH,
+
+    /**
+     * A calendar quarter, starting in January, April, July or October.
+     */
+    QUARTER;
+
+    /**
+     * Returns the first day of the period containing the given date.
+     *
+     * @param date any day of the period
+     * @return the first day of the month or quarter
+     */
+    public LocalDate start(LocalDate date) {
+        LocalDate monthStart = date.withDayOfMonth(1);
+        return this == MONTH ? monthStart : monthStart.withMonth((date.getMonthValue() - 1) / 3 * 3 + 1);
+    }
+
+    /**
+     * Parses a period name case-insensitively.
+     *
+     * @param value the requested period, e.g. "month" or "quarter"
+     * @return the matching {@link LeaderboardPeriod}
+     * @throws IllegalArgumentException if the value does not name a period
+     */
+    public static LeaderboardPeriod from(String value) {
+        for (LeaderboardPeriod period : values()) {
+            if (period.name().equalsIgnoreCase(value)) {
+                return period;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported period: " + value + ". Use month or quarter.");
+    }
+}
@@ -0,0 +1,41 @@
+package com.kubertech.rewardsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Snapshot of the reward summary cache statistics, used to size the cache.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RewardCacheStats {
+
+    /**
+     * Number of lookups answered from the cache.
+     */
+    private long hitCount;
+
+    /**
+     * Number of lookups that had to be computed from the database.
+     */
+    private long missCount;
+
+    /**
+     * Ratio of hits to total lookups (1.0 when there were no lookups).
+     */
+    private double hitRate;
+
+    /**
+     * Number of entries evicted because of size or expiry (explicit invalidations are not counted).
+     */
+    private long evictionCount;
+
+    /**
+     * Approximate number of entries currently cached.
+     */
+    private long estimatedSize;
+}
@@ -0,0 +1,63 @@
+package com.kubertech.rewardsystem.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Represents a promotion that multiplies the points of transactions made on matching dates,
+ * e.g. double points on weekends.
+ * <p>
+ * A transaction matches when its date lies within the optional date range and falls on one of the
+ * optional days of the week. When several promotions match, the highest multiplier wins.
+ */
+@Entity
+@Table(name = "reward_promotion")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RewardPromotion {
+
+    /**
+     * Unique identifier for the promotion.
+     * <p>
+     * Auto-generated using the {@link GenerationType#IDENTITY} strategy.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Human-readable name of the promotion.
+     */
+    @Column(nullable = false)
+    private String name;
+
+    /**
+     * First transaction date the promotion applies to (inclusive), or {@code null} for no lower bound.
+     */
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    /**
+     * Last transaction date the promotion applies to (inclusive), or {@code null} for no upper bound.
+     */
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    /**
+     * Comma-separated days of the week the promotion applies to, e.g. {@code SATURDAY,SUNDAY},
+     * or {@code null} for every day.
+     */
+    @Column(name = "days_of_week", length = 64)
+    private String daysOfWeek;
+
+    /**
+     * Points multiplier in percent, e.g. 200 for double points. Must be at least 100.
+     */
+    @Column(name = "multiplier_percent", nullable = false)
+    private int multiplierPercent;
+}
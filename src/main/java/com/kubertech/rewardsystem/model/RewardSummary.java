@@ -1,5 +1,6 @@
 package com.kubertech.rewardsystem.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import java.util.List;
 
@@ -29,10 +30,12 @@ public class RewardSummary {
     private String customerName;
 
     /**
-     * List of transactions associated with the customer.
+     * List of transactions associated with the customer, as read models rather than entities.
      * Each transaction contributes to the reward calculation.
+     * Omitted from the JSON output for summary-only views, where transactions are not loaded.
      */
-    private List<Transaction> transactions;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TransactionDTO> transactions;
 
     /**
      * Monthly breakdown of reward points.
@@ -0,0 +1,32 @@
+package com.kubertech.rewardsystem.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents one keyset-paginated slice of customer reward summaries.
+ * <p>
+ * Customers are walked in ascending ID order. The {@code nextAfterId} cursor is passed
+ * back as {@code afterId} to fetch the following page, and is {@code null} once the
+ * last page has been reached.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RewardSummaryPage {
+
+    /**
+     * Reward summaries for the customers on this page, ordered by customer ID.
+     */
+    private List<RewardSummary> summaries;
+
+    /**
+     * Cursor for the next page, or {@code null} if there are no more customers.
+     */
+    private Long nextAfterId;
+}
@@ -0,0 +1,42 @@
+package com.kubertech.rewardsystem.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Represents one tier of the reward rule definition.
+ * <p>
+ * Every whole dollar of a transaction above {@code thresholdDollars} earns {@code pointsPerDollar}
+ * points, until the next higher tier's threshold takes over. Amounts up to the lowest threshold earn nothing.
+ */
+@Entity
+@Table(name = "reward_tier",
+        uniqueConstraints = @UniqueConstraint(name = "uk_reward_tier_threshold", columnNames = "threshold_dollars"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RewardTier {
+
+    /**
+     * Unique identifier for the tier.
+     * <p>
+     * Auto-generated using the {@link GenerationType#IDENTITY} strategy.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Whole-dollar amount above which this tier's rate applies.
+     */
+    @Column(name = "threshold_dollars", nullable = false)
+    private int thresholdDollars;
+
+    /**
+     * Points earned per whole dollar within this tier.
+     */
+    @Column(name = "points_per_dollar", nullable = false)
+    private int pointsPerDollar;
+}
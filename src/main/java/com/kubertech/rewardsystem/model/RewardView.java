@@ -0,0 +1,33 @@
+package com.kubertech.rewardsystem.model;
+
+/**
+ * Level of detail returned by the reward summary endpoints.
+ */
+public enum RewardView {
+
+    /**
+     * Customer identity, monthly breakdown and total points only. Transactions are never loaded.
+     */
+    SUMMARY,
+
+    /**
+     * Everything in {@link #SUMMARY} plus the list of contributing transactions.
+     */
+    FULL;
+
+    /**
+     * Parses a view name case-insensitively.
+     *
+     * @param value the requested view, e.g. "summary" or "full"
+     * @return the matching {@link RewardView}
+     * @throws IllegalArgumentException if the value does not name a view
+     */
+    public static RewardView from(String value) {
+        for (RewardView view : values()) {
+            if (view.name().equalsIgnoreCase(value)) {
+                return view;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported view: " + value + ". Use summary or full.");
+    }
+}
@@ -1,8 +1,13 @@
 package com.kubertech.rewardsystem.model;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.kubertech.rewardsystem.utility.CentsDeserializer;
+import com.kubertech.rewardsystem.utility.CentsSerializer;
 import jakarta.persistence.*;
-import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -13,14 +18,18 @@ import java.time.LocalDate;
  * <p>
  * Each transaction contributes to reward point calculations. This entity includes
  * the transaction amount, date, and a reference back to the owning customer.
+ * The composite index on customer, date and amount serves the per-customer date-range lookups.
+ * The table is range-partitioned by month on {@code transaction_date} (see {@code TransactionPartitionManager}),
+ * so those lookups only read the partitions of the months in range.
  */
 @Entity
+@Table(indexes = @Index(name = "idx_transaction_customer_date", columnList = "customer_id, transaction_date, amount_cents"))
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Transaction {
+public class Transaction implements TransactionAmount {
 
     /**
      * Unique identifier for the transaction.
@@ -32,12 +41,16 @@ public class Transaction {
     private Long id;
 
     /**
-     * Monetary value of the transaction.
+     * Monetary value of the transaction, in cents.
      * <p>
-     * Must be a positive value as enforced by {@link DecimalMin}.
+     * Exposed in JSON as the decimal {@code amount} (e.g. {@code 120.50}); fractions of a cent are rejected.
+     * Must be a positive value as enforced by {@link Min}.
      */
-    @DecimalMin(value = "0.0", message = "Amount must be positive")
-    private double amount;
+    @Min(value = 0, message = "Amount must be positive")
+    @JsonProperty("amount")
+    @JsonSerialize(using = CentsSerializer.class)
+    @JsonDeserialize(using = CentsDeserializer.class)
+    private long amountCents;
 
     /**
      * Date when the transaction occurred.
@@ -53,9 +66,12 @@ public class Transaction {
      * Defined as a many-to-one relationship. Lazy fetching ensures the customer
      * is only loaded when accessed. {@link JsonBackReference} handles JSON serialization
      * to avoid circular references in bidirectional relationships.
+     * <p>
+     * No foreign key constraint is declared, since MySQL does not support them on the partitioned table;
+     * every write path checks that the customer exists.
      */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "customer_id")
+    @JoinColumn(name = "customer_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @JsonBackReference
     private Customer customer;
 }
\ No newline at end of file
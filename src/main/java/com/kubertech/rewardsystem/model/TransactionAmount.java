@@ -0,0 +1,23 @@
+package com.kubertech.rewardsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * The amount and date of a transaction, which is all that reward calculation needs.
+ * <p>
+ * Implemented by {@link Transaction}, {@link TransactionDTO} and the {@link TransactionAmountProjection}
+ * query projection, so reward aggregation accepts any of them. Kept separate from the projection because
+ * Spring Data does not treat an interface the entity implements as a projection.
+ */
+public interface TransactionAmount {
+
+    /**
+     * @return monetary value of the transaction, in cents
+     */
+    long getAmountCents();
+
+    /**
+     * @return date when the transaction occurred
+     */
+    LocalDate getTransactionDate();
+}
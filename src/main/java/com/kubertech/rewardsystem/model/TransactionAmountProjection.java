@@ -0,0 +1,12 @@
+package com.kubertech.rewardsystem.model;
+
+/**
+ * Projection of the two {@link Transaction} columns needed for reward calculation.
+ * <p>
+ * Both columns are part of the {@code idx_transaction_customer_date} index, so queries returning
+ * this projection are answered from the index alone, without reading table rows or hydrating entities.
+ * {@link Transaction} must not implement this interface, or Spring Data would return entities instead of
+ * projections; both share {@link TransactionAmount} instead.
+ */
+public interface TransactionAmountProjection extends TransactionAmount {
+}
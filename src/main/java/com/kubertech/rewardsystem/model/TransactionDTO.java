@@ -0,0 +1,36 @@
+package com.kubertech.rewardsystem.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.kubertech.rewardsystem.utility.CentsSerializer;
+
+import java.time.LocalDate;
+
+/**
+ * Read model of a transaction, as listed in a {@link RewardSummary}.
+ * <p>
+ * Populated directly by JPQL constructor expressions instead of hydrating {@link Transaction} entities,
+ * and serialized with the same JSON fields as the entity.
+ *
+ * @param id              unique identifier of the transaction
+ * @param customerId      ID of the owning customer, used for grouping and not serialized
+ * @param amountCents     monetary value of the transaction, in cents; exposed in JSON as the decimal {@code amount}
+ * @param transactionDate date when the transaction occurred
+ */
+public record TransactionDTO(
+        Long id,
+        @JsonIgnore Long customerId,
+        @JsonProperty("amount") @JsonSerialize(using = CentsSerializer.class) long amountCents,
+        LocalDate transactionDate) implements TransactionAmount {
+
+    @Override
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    @Override
+    public LocalDate getTransactionDate() {
+        return transactionDate;
+    }
+}
@@ -0,0 +1,14 @@
+package com.kubertech.rewardsystem.model;
+
+import java.time.LocalDate;
+
+/**
+ * One transaction accepted into the write-behind log but not necessarily stored in the database yet.
+ *
+ * @param sequence        position in the log, strictly increasing from 1
+ * @param customerId      ID of the owning customer
+ * @param amountCents     monetary value of the transaction, in cents
+ * @param transactionDate date when the transaction occurred
+ */
+public record TransactionLogRecord(long sequence, long customerId, long amountCents, LocalDate transactionDate) {
+}
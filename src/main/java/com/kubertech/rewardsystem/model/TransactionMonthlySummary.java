@@ -0,0 +1,63 @@
+package com.kubertech.rewardsystem.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Represents the archived transactions of one customer in one calendar month.
+ * <p>
+ * Transaction partitions older than the retention window are collapsed into these rows and then
+ * removed from the transaction table. The points were scored with the reward rules active at archive
+ * time and are kept in the monthly reward ledger across rebuilds.
+ */
+@Entity
+@Table(name = "transaction_monthly_summary",
+        uniqueConstraints = @UniqueConstraint(name = "uk_summary_customer_month", columnNames = {"customer_id", "month_start"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransactionMonthlySummary {
+
+    /**
+     * Unique identifier for the summary row.
+     * <p>
+     * Auto-generated using the {@link GenerationType#IDENTITY} strategy.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID of the customer the transactions belonged to.
+     */
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    /**
+     * First day of the calendar month the transactions fell in.
+     */
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    /**
+     * Number of archived transactions.
+     */
+    @Column(name = "transaction_count", nullable = false)
+    private int transactionCount;
+
+    /**
+     * Sum of the archived transaction amounts, in cents.
+     */
+    @Column(name = "amount_cents", nullable = false)
+    private long amountCents;
+
+    /**
+     * Reward points the archived transactions earned.
+     */
+    @Column(nullable = false)
+    private int points;
+}
@@ -0,0 +1,20 @@
+package com.kubertech.rewardsystem.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only R2DBC mapping of the {@code transaction} table used by the reactive read path.
+ * <p>
+ * References the owning customer by ID instead of the bidirectional association of the JPA {@link Transaction} entity.
+ *
+ * @param id              unique identifier of the transaction
+ * @param amountCents     monetary value of the transaction, in cents
+ * @param transactionDate date when the transaction occurred
+ * @param customerId      ID of the owning customer
+ */
+@Table("transaction")
+public record TransactionRow(@Id Long id, long amountCents, LocalDate transactionDate, Long customerId) {
+}
@@ -0,0 +1,77 @@
+package com.kubertech.rewardsystem.repository;
+
+import com.kubertech.rewardsystem.model.CustomerMonthlyPoints;
+import com.kubertech.rewardsystem.model.CustomerMonthlyPointsProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for the precomputed {@link CustomerMonthlyPoints} ledger.
+ * <p>
+ * Provides range lookups by customer and month, and an atomic upsert used to
+ * add points to a month as transactions are recorded.
+ */
+public interface CustomerMonthlyPointsRepository extends JpaRepository<CustomerMonthlyPoints, Long> {
+
+    /**
+     * Finds the ledger rows for a customer whose month falls within the given range.
+     *
+     * @param customerId the ID of the customer
+     * @param fromMonth  the first day of the first month (inclusive)
+     * @param toMonth    the first day of the last month (inclusive)
+     * @return a list of {@link CustomerMonthlyPoints} ordered by month
+     */
+    List<CustomerMonthlyPoints> findByCustomerIdAndMonthStartBetweenOrderByMonthStartAsc(
+            Long customerId, LocalDate fromMonth, LocalDate toMonth);
+
+    /**
+     * Finds all ledger rows for the given customers in a single query.
+     *
+     * @param customerIds the IDs of the customers
+     * @return a list of {@link CustomerMonthlyPoints} ordered by customer and month
+     */
+    List<CustomerMonthlyPoints> findByCustomerIdInOrderByCustomerIdAscMonthStartAsc(Collection<Long> customerIds);
+
+    /**
+     * Streams the ledger rows of all customers from the given month onwards.
+     * <p>
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @param fromMonth the first day of the first month (inclusive)
+     * @return a stream of {@link CustomerMonthlyPointsProjection} in no particular order
+     */
+    @Query("""
+            SELECT m.customerId AS customerId, m.monthStart AS monthStart, m.points AS points
+            FROM CustomerMonthlyPoints m
+            WHERE m.monthStart >= :fromMonth
+            """)
+    Stream<CustomerMonthlyPointsProjection> streamFromMonth(@Param("fromMonth") LocalDate fromMonth);
+
+    /**
+     * Atomically adds points to a customer's month, creating the ledger row if it does not exist yet.
+     * <p>
+     * Relies on the unique {@code (customer_id, month_start)} key, so concurrent writers for the
+     * same month never lose updates or create duplicate rows.
+     *
+     * @param customerId the ID of the customer
+     * @param monthStart the first day of the month
+     * @param points     the points to add
+     * @return the number of affected rows
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO customer_monthly_points (customer_id, month_start, points)
+            VALUES (:customerId, :monthStart, :points)
+            ON DUPLICATE KEY UPDATE points = points + :points
+            """, nativeQuery = true)
+    int addPoints(@Param("customerId") Long customerId,
+                  @Param("monthStart") LocalDate monthStart,
+                  @Param("points") int points);
+}
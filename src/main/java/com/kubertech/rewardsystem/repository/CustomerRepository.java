@@ -1,12 +1,104 @@
 package com.kubertech.rewardsystem.repository;
 
 import com.kubertech.rewardsystem.model.Customer;
+import com.kubertech.rewardsystem.model.CustomerBasicDTO;
+import com.kubertech.rewardsystem.model.CustomerTransactionDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing and managing {@link Customer} entities.
  * <p>
- * Provides standard CRUD operations and query methods via Spring Data JPA.
+ * Provides standard CRUD operations and query methods via Spring Data JPA. Read-only queries return
+ * {@link CustomerBasicDTO} or {@link CustomerTransactionDTO} records built by constructor expressions,
+ * so no entities are loaded into the persistence context.
  */
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
+
+    /**
+     * Finds the next chunk of customers after the given ID, ordered by ID (keyset pagination).
+     *
+     * @param afterId the last customer ID already seen (exclusive)
+     * @param limit   the maximum number of customers to return
+     * @return a list of {@link CustomerBasicDTO} objects with IDs greater than {@code afterId}
+     */
+    @Transactional(readOnly = true)
+    List<CustomerBasicDTO> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    /**
+     * Finds the ID and name of a customer.
+     *
+     * @param id the ID of the customer
+     * @return the {@link CustomerBasicDTO}, or empty if the customer does not exist
+     */
+    @Transactional(readOnly = true)
+    Optional<CustomerBasicDTO> findBasicById(Long id);
+
+    /**
+     * Finds the ID and name of each of the given customers in a single query.
+     *
+     * @param ids the IDs of the customers
+     * @return a list of {@link CustomerBasicDTO} for the customers that exist, in no particular order
+     */
+    @Transactional(readOnly = true)
+    List<CustomerBasicDTO> findBasicByIdIn(Collection<Long> ids);
+
+    /**
+     * Finds all customers left-joined with their transactions in a single query, ordered by customer ID
+     * and transaction date, so each customer's rows are adjacent.
+     *
+     * @return one {@link CustomerTransactionDTO} per transaction, plus one per customer without transactions
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.kubertech.rewardsystem.model.CustomerTransactionDTO(
+                c.id, c.name, t.id, t.amountCents, t.transactionDate)
+            FROM Customer c LEFT JOIN c.transactions t
+            ORDER BY c.id, t.transactionDate
+            """)
+    List<CustomerTransactionDTO> findAllWithTransactions();
+
+    /**
+     * Streams all customers left-joined with their transactions within a date range through one forward-only
+     * cursor, ordered by customer ID and transaction date, so each customer's rows are adjacent.
+     * <p>
+     * Rows are fetched from the database in batches of 1000 (on MySQL this needs {@code useCursorFetch=true}).
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @param startDate the start date of the range (inclusive)
+     * @param endDate   the end date of the range (inclusive)
+     * @return one {@link CustomerTransactionDTO} per transaction in the range, plus one per customer without any
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+            SELECT new com.kubertech.rewardsystem.model.CustomerTransactionDTO(
+                c.id, c.name, t.id, t.amountCents, t.transactionDate)
+            FROM Customer c LEFT JOIN c.transactions t
+                ON t.transactionDate BETWEEN :startDate AND :endDate
+            ORDER BY c.id, t.transactionDate
+            """)
+    Stream<CustomerTransactionDTO> streamAllWithTransactionsBetween(@Param("startDate") LocalDate startDate,
+                                                                    @Param("endDate") LocalDate endDate);
+
+    /**
+     * Returns which of the given customer IDs exist, using a single set-based query.
+     *
+     * @param ids the customer IDs to check
+     * @return the subset of {@code ids} that belong to existing customers
+     */
+    @Query("SELECT c.id FROM Customer c WHERE c.id IN :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.kubertech.rewardsystem.repository;
+
+import com.kubertech.rewardsystem.model.RewardPromotion;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository interface for the {@link RewardPromotion} rows of the reward rule definition.
+ */
+public interface RewardPromotionRepository extends JpaRepository<RewardPromotion, Long> {
+}
@@ -0,0 +1,10 @@
+package com.kubertech.rewardsystem.repository;
+
+import com.kubertech.rewardsystem.model.RewardTier;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository interface for the {@link RewardTier} rows of the reward rule definition.
+ */
+public interface RewardTierRepository extends JpaRepository<RewardTier, Long> {
+}
@@ -0,0 +1,28 @@
+package com.kubertech.rewardsystem.repository;
+
+import com.kubertech.rewardsystem.model.CustomerMonthlyPointsProjection;
+import com.kubertech.rewardsystem.model.TransactionMonthlySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.stream.Stream;
+
+/**
+ * Repository interface for {@link TransactionMonthlySummary} rows of archived transactions.
+ */
+public interface TransactionMonthlySummaryRepository extends JpaRepository<TransactionMonthlySummary, Long> {
+
+    /**
+     * Streams the points of all archived customer months, grouped by customer.
+     * <p>
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return a stream of {@link CustomerMonthlyPointsProjection}, ordered by customer
+     */
+    @Query("""
+            SELECT s.customerId AS customerId, s.monthStart AS monthStart, s.points AS points
+            FROM TransactionMonthlySummary s
+            ORDER BY s.customerId
+            """)
+    Stream<CustomerMonthlyPointsProjection> streamArchivedPoints();
+}
@@ -1,15 +1,24 @@
 package com.kubertech.rewardsystem.repository;
 
+import com.kubertech.rewardsystem.model.CustomerTransactionAmountProjection;
 import com.kubertech.rewardsystem.model.Transaction;
+import com.kubertech.rewardsystem.model.TransactionAmountProjection;
+import com.kubertech.rewardsystem.model.TransactionDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Transaction} entities.
  * <p>
  * Provides standard CRUD operations and custom query methods
- * for filtering transactions by customer and date range.
+ * for filtering transactions by customer and date range. Read-only queries return
+ * {@link TransactionDTO} records or interface projections instead of entities.
  */
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
@@ -19,7 +28,87 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
      * @param customerId the ID of the customer whose transactions are to be retrieved
      * @param startDate  the start date of the range (inclusive)
      * @param endDate    the end date of the range (inclusive)
-     * @return a list of {@link Transaction} objects matching the criteria
+     * @return a list of {@link TransactionDTO} objects matching the criteria, ordered by date
      */
-    List<Transaction> findByCustomerIdAndTransactionDateBetween(Long customerId, LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.kubertech.rewardsystem.model.TransactionDTO(t.id, t.customer.id, t.amountCents, t.transactionDate)
+            FROM Transaction t
+            WHERE t.customer.id = :customerId
+              AND t.transactionDate BETWEEN :startDate AND :endDate
+            ORDER BY t.transactionDate
+            """)
+    List<TransactionDTO> findByCustomerIdAndTransactionDateBetween(@Param("customerId") Long customerId,
+                                                                   @Param("startDate") LocalDate startDate,
+                                                                   @Param("endDate") LocalDate endDate);
+
+    /**
+     * Finds the amount and date of a customer's transactions within a date range, without loading entities.
+     * <p>
+     * Covered entirely by the {@code idx_transaction_customer_date} index.
+     *
+     * @param customerId the ID of the customer whose transactions are to be retrieved
+     * @param startDate  the start date of the range (inclusive)
+     * @param endDate    the end date of the range (inclusive)
+     * @return a list of {@link TransactionAmountProjection} ordered by date
+     */
+    @Query("""
+            SELECT t.amountCents AS amountCents, t.transactionDate AS transactionDate
+            FROM Transaction t
+            WHERE t.customer.id = :customerId
+              AND t.transactionDate BETWEEN :startDate AND :endDate
+            ORDER BY t.transactionDate
+            """)
+    List<TransactionAmountProjection> findAmountsByCustomerIdAndTransactionDateBetween(@Param("customerId") Long customerId,
+                                                                                     @Param("startDate") LocalDate startDate,
+                                                                                     @Param("endDate") LocalDate endDate);
+
+    /**
+     * Finds all transactions belonging to any of the given customers in a single query.
+     *
+     * @param customerIds the IDs of the customers whose transactions are to be retrieved
+     * @return a list of {@link TransactionDTO} objects for the given customers, ordered by date
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.kubertech.rewardsystem.model.TransactionDTO(t.id, t.customer.id, t.amountCents, t.transactionDate)
+            FROM Transaction t
+            WHERE t.customer.id IN :customerIds
+            ORDER BY t.transactionDate
+            """)
+    List<TransactionDTO> findByCustomerIdIn(@Param("customerIds") Collection<Long> customerIds);
+
+    /**
+     * Finds the transactions of any of the given customers within a date range in a single query.
+     *
+     * @param customerIds the IDs of the customers whose transactions are to be retrieved
+     * @param startDate   the start date of the range (inclusive)
+     * @param endDate     the end date of the range (inclusive)
+     * @return a list of {@link TransactionDTO} objects matching the criteria, ordered by date
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.kubertech.rewardsystem.model.TransactionDTO(t.id, t.customer.id, t.amountCents, t.transactionDate)
+            FROM Transaction t
+            WHERE t.customer.id IN :customerIds
+              AND t.transactionDate BETWEEN :startDate AND :endDate
+            ORDER BY t.transactionDate
+            """)
+    List<TransactionDTO> findByCustomerIdInAndTransactionDateBetween(@Param("customerIds") Collection<Long> customerIds,
+                                                                     @Param("startDate") LocalDate startDate,
+                                                                     @Param("endDate") LocalDate endDate);
+
+    /**
+     * Streams the amount and date of every transaction, ordered by customer.
+     * <p>
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return a stream of {@link CustomerTransactionAmountProjection}, grouped by customer
+     */
+    @Query("""
+            SELECT t.customer.id AS customerId, t.amountCents AS amountCents, t.transactionDate AS transactionDate
+            FROM Transaction t
+            ORDER BY t.customer.id
+            """)
+    Stream<CustomerTransactionAmountProjection> streamAmountsForAllCustomers();
+}
@@ -0,0 +1,12 @@
+package com.kubertech.rewardsystem.repository.reactive;
+
+import com.kubertech.rewardsystem.model.CustomerRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+/**
+ * Non-blocking R2DBC repository for reading customers.
+ * <p>
+ * Provides reactive CRUD and sorting operations via Spring Data R2DBC.
+ */
+public interface ReactiveCustomerRepository extends R2dbcRepository<CustomerRow, Long> {
+}
@@ -0,0 +1,34 @@
+package com.kubertech.rewardsystem.repository.reactive;
+
+import com.kubertech.rewardsystem.model.TransactionRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * Non-blocking R2DBC repository for reading transactions.
+ * <p>
+ * Mirrors the customer and date-range queries of the JPA {@code TransactionRepository}.
+ */
+public interface ReactiveTransactionRepository extends R2dbcRepository<TransactionRow, Long> {
+
+    /**
+     * Finds all transactions for a specific customer within a given date range.
+     *
+     * @param customerId the ID of the customer whose transactions are to be retrieved
+     * @param startDate  the start date of the range (inclusive)
+     * @param endDate    the end date of the range (inclusive)
+     * @return a {@link Flux} of matching {@link TransactionRow} objects
+     */
+    Flux<TransactionRow> findByCustomerIdAndTransactionDateBetween(Long customerId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Finds all transactions belonging to any of the given customers in a single query.
+     *
+     * @param customerIds the IDs of the customers whose transactions are to be retrieved
+     * @return a {@link Flux} of {@link TransactionRow} objects for the given customers
+     */
+    Flux<TransactionRow> findByCustomerIdIn(Collection<Long> customerIds);
+}
@@ -0,0 +1,175 @@
+package com.kubertech.rewardsystem.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Builds many reward summaries at once on a dedicated {@link ForkJoinPool}.
+ * <p>
+ * Used once all input of a bulk read is in memory, so the work is pure CPU. The input is split into
+ * index ranges until a range holds at most {@code reward.summary.parallel-threshold} items, and each
+ * result is written to its input's slot of an array. The output is therefore always in input order,
+ * whatever the number of threads.
+ * <p>
+ * The pool is separate from {@link ForkJoinPool#commonPool()}, so parallel streams elsewhere neither
+ * compete with nor are starved by summary building. A parallelism of {@code 1} skips the pool and
+ * builds on the calling thread.
+ */
+@Component
+@Slf4j
+public class ParallelSummaryEngine implements DisposableBean {
+
+    /** Number of worker threads; {@code 1} means the calling thread does all the work. */
+    private final int parallelism;
+
+    /** Largest number of items built sequentially by one task. */
+    private final int threshold;
+
+    /** Worker pool, or {@code null} when the parallelism is {@code 1}. */
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates the engine and, unless the parallelism is {@code 1}, its worker pool.
+     *
+     * @param parallelism number of worker threads; {@code 0} uses one per available processor
+     * @param threshold   largest number of items built sequentially by one task
+     */
+    public ParallelSummaryEngine(@Value("${reward.summary.parallelism:0}") int parallelism,
+                                 @Value("${reward.summary.parallel-threshold:64}") int threshold) {
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("reward.summary.parallelism must not be negative");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("reward.summary.parallel-threshold must be at least 1");
+        }
+        this.parallelism = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        this.threshold = threshold;
+        this.pool = this.parallelism == 1 ? null : newPool(this.parallelism);
+        log.info("Parallel summary engine configured with parallelism {} and threshold {}", this.parallelism, threshold);
+    }
+
+    /**
+     * Applies the builder to every input, in parallel, and returns the results in input order.
+     * <p>
+     * The builder must be safe to call from several threads at once. If it throws, the first exception
+     * thrown is rethrown unchanged on the calling thread and the remaining inputs are skipped.
+     *
+     * @param inputs  the items to build summaries from; random access is assumed
+     * @param builder builds the result for one item
+     * @param <T>     the input type
+     * @param <R>     the result type
+     * @return an unmodifiable list with one result per input, in the same order
+     */
+    public <T, R> List<R> buildAll(List<T> inputs, Function<? super T, ? extends R> builder) {
+        Object[] results = new Object[inputs.size()];
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        BuildTask<T> task = new BuildTask<>(inputs, builder, results, failure, 0, inputs.size());
+        if (pool == null || inputs.size() <= threshold) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        rethrow(failure.get());
+        @SuppressWarnings("unchecked")
+        List<R> built = (List<R>) Arrays.asList(results);
+        return Collections.unmodifiableList(built);
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return the effective parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Shuts the worker pool down; running builds complete first.
+     */
+    @Override
+    public void destroy() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Rethrows the builder's own exception; the pool would otherwise rethrow a copy made on the calling thread.
+     */
+    private static void rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+    }
+
+    /**
+     * Creates a pool of daemon workers named {@code reward-summary-N}.
+     */
+    private static ForkJoinPool newPool(int parallelism) {
+        AtomicInteger counter = new AtomicInteger();
+        return new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("reward-summary-" + counter.incrementAndGet());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Builds the results for one index range, halving it until it is at most {@link #threshold} long.
+     * <p>
+     * Builder failures are recorded instead of thrown, so the first one reaches the caller unchanged and
+     * the remaining ranges stop early.
+     */
+    private final class BuildTask<T> extends RecursiveAction {
+
+        private final List<T> inputs;
+        private final Function<? super T, ?> builder;
+        private final Object[] results;
+        private final AtomicReference<Throwable> failure;
+        private final int from;
+        private final int to;
+
+        BuildTask(List<T> inputs, Function<? super T, ?> builder, Object[] results, AtomicReference<Throwable> failure,
+                  int from, int to) {
+            this.inputs = inputs;
+            this.builder = builder;
+            this.results = results;
+            this.failure = failure;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int i = from; i < to && failure.get() == null; i++) {
+                    try {
+                        results[i] = builder.apply(inputs.get(i));
+                    } catch (RuntimeException | Error e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new BuildTask<>(inputs, builder, results, failure, from, middle),
+                    new BuildTask<>(inputs, builder, results, failure, middle, to));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.exception.ResourceNotFoundException;
+import com.kubertech.rewardsystem.model.CustomerBasicDTO;
+import com.kubertech.rewardsystem.model.CustomerRow;
+import com.kubertech.rewardsystem.model.RewardSummary;
+import com.kubertech.rewardsystem.model.TransactionDTO;
+import com.kubertech.rewardsystem.model.TransactionRow;
+import com.kubertech.rewardsystem.repository.reactive.ReactiveCustomerRepository;
+import com.kubertech.rewardsystem.repository.reactive.ReactiveTransactionRepository;
+import com.kubertech.rewardsystem.utility.RewardRules;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking counterpart of {@link RewardService} for read-only reward queries.
+ * <p>
+ * Reads through R2DBC repositories so no request thread is blocked on the database, and reuses
+ * {@link RewardService#buildRewardSummary} so results match the blocking endpoints exactly.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveRewardService {
+
+    /** Number of customers whose transactions are fetched together while streaming all summaries. */
+    private static final int CHUNK_SIZE = 500;
+
+    /** Reactive repository for customer rows. */
+    private final ReactiveCustomerRepository customerRepository;
+
+    /** Reactive repository for transaction rows. */
+    private final ReactiveTransactionRepository transactionRepository;
+
+    /** Source of the active reward rules. */
+    private final RewardRuleEngine rewardRuleEngine;
+
+    /** Write-behind path whose pending transactions reads wait for, without blocking. */
+    private final WriteBehindTransactionService writeBehindTransactionService;
+
+    /** Rejects ranges whose transactions have been archived. */
+    private final TransactionPartitionManager transactionPartitionManager;
+
+    /**
+     * Streams {@link RewardSummary} objects for all customers, ordered by customer ID.
+     * <p>
+     * Customers are grouped into chunks whose transactions are loaded with one query per chunk.
+     *
+     * @return a {@link Flux} emitting one summary per customer
+     */
+    public Flux<RewardSummary> getAllRewardSummaries() {
+        log.info("Streaming reward summaries for all customers (reactive)...");
+        return Mono.fromFuture(writeBehindTransactionService::whenAllVisible)
+                .thenMany(customerRepository.findAll(Sort.by("id")))
+                .buffer(CHUNK_SIZE)
+                .concatMap(this::buildRewardSummaries);
+    }
+
+    /**
+     * Calculates the reward summary for a specific customer within a date range.
+     *
+     * @param customerId the ID of the customer
+     * @param startDate  start date of the range
+     * @param endDate    end date of the range
+     * @return a {@link Mono} emitting the {@link RewardSummary}, or an error if the input is invalid, the range
+     *         reaches into archived months or the customer does not exist
+     */
+    public Mono<RewardSummary> getCustomerRewards(Long customerId, LocalDate startDate, LocalDate endDate) {
+        log.info("Calculating rewards for customer {} from {} to {} (reactive)", customerId, startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            return Mono.error(new IllegalArgumentException("Start date cannot be after end date."));
+        }
+        try {
+            transactionPartitionManager.requireRetained(startDate);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        return Mono.fromFuture(() -> writeBehindTransactionService.whenVisible(List.of(customerId)))
+                .then(customerRepository.findById(customerId))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId)))
+                .flatMap(customer -> transactionRepository
+                        .findByCustomerIdAndTransactionDateBetween(customerId, startDate, endDate)
+                        .map(ReactiveRewardService::toTransaction)
+                        .collectList()
+                        .map(transactions -> RewardService.buildRewardSummary(
+                                toCustomer(customer), transactions, rewardRuleEngine.current())));
+    }
+
+    /**
+     * Builds summaries for one chunk of customers, preserving the chunk's order.
+     */
+    private Flux<RewardSummary> buildRewardSummaries(List<CustomerRow> customers) {
+        List<Long> customerIds = customers.stream().map(CustomerRow::id).toList();
+        return transactionRepository.findByCustomerIdIn(customerIds)
+                .collectMultimap(TransactionRow::customerId, ReactiveRewardService::toTransaction)
+                .flatMapIterable(transactionsByCustomer -> summarize(customers, transactionsByCustomer, rewardRuleEngine.current()));
+    }
+
+    /**
+     * Builds one summary per customer from the grouped transactions.
+     */
+    private static List<RewardSummary> summarize(List<CustomerRow> customers,
+                                                 Map<Long, Collection<TransactionDTO>> transactionsByCustomer,
+                                                 RewardRules rules) {
+        List<RewardSummary> summaries = new ArrayList<>(customers.size());
+        for (CustomerRow customer : customers) {
+            List<TransactionDTO> transactions = new ArrayList<>(transactionsByCustomer.getOrDefault(customer.id(), List.of()));
+            summaries.add(RewardService.buildRewardSummary(toCustomer(customer), transactions, rules));
+        }
+        return summaries;
+    }
+
+    private static CustomerBasicDTO toCustomer(CustomerRow row) {
+        return new CustomerBasicDTO(row.id(), row.name());
+    }
+
+    private static TransactionDTO toTransaction(TransactionRow row) {
+        return new TransactionDTO(row.id(), row.customerId(), row.amountCents(), row.transactionDate());
+    }
+}
@@ -0,0 +1,163 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.CustomerTransactionDTO;
+import com.kubertech.rewardsystem.model.RewardSummary;
+import com.kubertech.rewardsystem.model.RewardView;
+import com.kubertech.rewardsystem.model.TransactionDTO;
+import com.kubertech.rewardsystem.repository.CustomerRepository;
+import com.kubertech.rewardsystem.utility.RewardRules;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service that exports the reward summaries of all customers over a date range, e.g. for quarterly statements.
+ * <p>
+ * All customers and their transactions in the range are read through a single forward-only cursor ordered
+ * by customer and date. The rows are folded into one {@link RewardSummary} per customer as they arrive, so
+ * only one customer's transactions are held in memory at a time and no per-customer queries are issued.
+ */
+@Service
+@Slf4j
+public class RewardExportService {
+
+    /** Repository providing the export cursor. */
+    private final CustomerRepository customerRepository;
+
+    /** Source of the active reward rules. */
+    private final RewardRuleEngine rewardRuleEngine;
+
+    /** Latency, size and rows-fetched metrics of the read paths. */
+    private final RewardMetrics rewardMetrics;
+
+    /** Write-behind path whose pending transactions the export waits for. */
+    private final WriteBehindTransactionService writeBehindTransactionService;
+
+    /** Keeps the cursor's read-only transaction open while it is consumed. */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /** Rejects ranges whose transactions have been archived. */
+    private final TransactionPartitionManager transactionPartitionManager;
+
+    /**
+     * Creates the export service.
+     *
+     * @param customerRepository            repository providing the export cursor
+     * @param rewardRuleEngine              source of the active reward rules
+     * @param rewardMetrics                 metrics of the read paths
+     * @param writeBehindTransactionService write-behind path whose pending transactions the export waits for
+     * @param transactionManager            transaction manager for the cursor's read-only transaction
+     * @param transactionPartitionManager   rejects ranges whose transactions have been archived
+     */
+    public RewardExportService(CustomerRepository customerRepository, RewardRuleEngine rewardRuleEngine,
+                               RewardMetrics rewardMetrics, WriteBehindTransactionService writeBehindTransactionService,
+                               PlatformTransactionManager transactionManager,
+                               TransactionPartitionManager transactionPartitionManager) {
+        this.customerRepository = customerRepository;
+        this.rewardRuleEngine = rewardRuleEngine;
+        this.rewardMetrics = rewardMetrics;
+        this.writeBehindTransactionService = writeBehindTransactionService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transactionPartitionManager = transactionPartitionManager;
+    }
+
+    /**
+     * Rejects an export range reaching into archived months; call it before any output is written.
+     * <p>
+     * Every view of the export is built from transaction rows, so such a range would silently miss the
+     * points of the archived months.
+     *
+     * @param startDate start date of the range (inclusive)
+     * @throws IllegalArgumentException if the range starts before the retention window
+     */
+    public void requireRetained(LocalDate startDate) {
+        transactionPartitionManager.requireRetained(startDate);
+    }
+
+    /**
+     * Builds the reward summary of every customer over a date range and hands each one to the consumer
+     * as soon as the cursor has moved past the customer's last transaction.
+     * <p>
+     * Customers without transactions in the range are included with zero points. Pending write-behind
+     * transactions are waited for before the cursor is opened.
+     *
+     * @param startDate start date of the range (inclusive)
+     * @param endDate   end date of the range (inclusive)
+     * @param view      whether to include each customer's transactions
+     * @param consumer  receives each summary in customer ID order
+     * @throws IllegalArgumentException if the start date is after the end date or the range reaches into archived months
+     */
+    public void exportRewardSummaries(LocalDate startDate, LocalDate endDate, RewardView view,
+                                      Consumer<RewardSummary> consumer) {
+        log.info("Exporting reward summaries for all customers from {} to {}", startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date.");
+        }
+        requireRetained(startDate);
+        writeBehindTransactionService.awaitAllVisible();
+
+        rewardMetrics.timeOperation("exportRewardSummaries", () -> {
+            long rows = readOnlyTransaction.execute(status -> {
+                try (Stream<CustomerTransactionDTO> cursor = customerRepository.streamAllWithTransactionsBetween(startDate, endDate)) {
+                    return fold(cursor.iterator(), view, consumer);
+                }
+            });
+            rewardMetrics.recordRowsFetched("exportRewardSummaries", rows);
+            return null;
+        });
+    }
+
+    /**
+     * Groups adjacent rows of the same customer into one summary each.
+     *
+     * @return the number of rows read
+     */
+    private long fold(Iterator<CustomerTransactionDTO> rows, RewardView view, Consumer<RewardSummary> consumer) {
+        RewardRules rules = rewardRuleEngine.current();
+        List<TransactionDTO> transactions = new ArrayList<>();
+        CustomerTransactionDTO first = null;
+        long count = 0;
+        while (rows.hasNext()) {
+            CustomerTransactionDTO row = rows.next();
+            count++;
+            if (first == null || !first.customerId().equals(row.customerId())) {
+                if (first != null) {
+                    consumer.accept(summarize(first, transactions, view, rules));
+                    transactions = new ArrayList<>();
+                }
+                first = row;
+            }
+            TransactionDTO transaction = row.transaction();
+            if (transaction != null) {
+                transactions.add(transaction);
+            }
+        }
+        if (first != null) {
+            consumer.accept(summarize(first, transactions, view, rules));
+        }
+        return count;
+    }
+
+    /**
+     * Builds one customer's summary and records its build time and size.
+     */
+    private RewardSummary summarize(CustomerTransactionDTO customer, List<TransactionDTO> transactions,
+                                    RewardView view, RewardRules rules) {
+        long start = System.nanoTime();
+        RewardSummary summary = RewardService.buildRewardSummary(customer.customer(), transactions, rules);
+        rewardMetrics.recordSummaryBuilt(transactions.size(), System.nanoTime() - start);
+        if (view == RewardView.SUMMARY) {
+            summary.setTransactions(null);
+        }
+        return summary;
+    }
+}
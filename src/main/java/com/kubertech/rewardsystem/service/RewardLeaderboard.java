@@ -0,0 +1,300 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.CustomerMonthlyPointsProjection;
+import com.kubertech.rewardsystem.model.LeaderboardEntry;
+import com.kubertech.rewardsystem.model.LeaderboardPeriod;
+import com.kubertech.rewardsystem.repository.CustomerMonthlyPointsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory top-N rewards leaderboard per calendar month and quarter.
+ * <p>
+ * Each period keeps every customer's points in a map and a sorted set ordered by points, so a top-N
+ * query walks only the first N entries. The boards are seeded from the monthly reward ledger on
+ * startup and then updated incrementally with the same points {@link RewardLedgerService} adds to
+ * the ledger, once the writing database transaction commits.
+ * <p>
+ * Only periods starting within the last {@code reward.leaderboard.retained-months} (rounded down to a
+ * quarter) are kept. Points for older months are ignored, and once the window moves on, the next write
+ * drops the boards of the periods that left it, so memory stays bounded however long the application runs.
+ * <p>
+ * {@link #reload()} replaces all boards with a fresh read of the ledger. Writers hold a shared lock from
+ * the moment they record points until their transaction completes, and a reload holds the exclusive lock
+ * while it reads. Every commit is therefore either part of the reloaded ledger or applied after the reload.
+ */
+@Component
+@Slf4j
+public class RewardLeaderboard implements SmartLifecycle {
+
+    /** Largest number of entries a single leaderboard query may return. */
+    public static final int MAX_LIMIT = 1000;
+
+    /** Orders standings by points, highest first, then by customer ID. */
+    private static final Comparator<Standing> RANKING =
+            Comparator.comparingInt(Standing::points).reversed().thenComparing(Standing::customerId);
+
+    /** Repository for the monthly reward ledger the boards are seeded from. */
+    private final CustomerMonthlyPointsRepository ledgerRepository;
+
+    /** Runs the seeding read; read-write so it is served by the primary, never by a lagging replica. */
+    private final TransactionTemplate transactionTemplate;
+
+    /** Number of months, counted back from the current one, for which boards are kept. */
+    private final int retainedMonths;
+
+    /** Shared by writers until their transaction completes, exclusive while reloading. */
+    private final ReentrantReadWriteLock reloadLock = new ReentrantReadWriteLock();
+
+    /** The boards currently served, replaced as a whole on reload. */
+    private volatile Snapshot snapshot = new Snapshot(LocalDate.MIN, new ConcurrentHashMap<>());
+
+    /** Whether the boards have been seeded. */
+    private volatile boolean running;
+
+    /**
+     * Points of one customer in one period.
+     */
+    private record Standing(Long customerId, int points) {
+    }
+
+    /**
+     * Identifies the board of one period.
+     */
+    private record BoardKey(LeaderboardPeriod period, LocalDate start) {
+    }
+
+    /**
+     * All boards together with the first month they cover.
+     */
+    private record Snapshot(LocalDate retainedFrom, ConcurrentMap<BoardKey, Board> boards) {
+    }
+
+    /**
+     * Points and ranking of all customers in one period; all access is guarded by the board's monitor.
+     */
+    private static final class Board {
+
+        /** Current points per customer. */
+        private final Map<Long, Integer> points = new HashMap<>();
+
+        /** The same points, ordered by rank. */
+        private final NavigableSet<Standing> ranking = new TreeSet<>(RANKING);
+
+        synchronized void add(Long customerId, int delta) {
+            Integer previous = points.get(customerId);
+            int updated = previous == null ? delta : previous + delta;
+            if (previous != null) {
+                if (previous == updated) {
+                    return;
+                }
+                ranking.remove(new Standing(customerId, previous));
+            }
+            points.put(customerId, updated);
+            ranking.add(new Standing(customerId, updated));
+        }
+
+        synchronized List<LeaderboardEntry> top(int limit) {
+            List<LeaderboardEntry> entries = new ArrayList<>(Math.min(limit, ranking.size()));
+            for (Standing standing : ranking) {
+                if (entries.size() == limit) {
+                    break;
+                }
+                entries.add(new LeaderboardEntry(entries.size() + 1, standing.customerId(), standing.points()));
+            }
+            return entries;
+        }
+    }
+
+    /**
+     * Creates an empty leaderboard; it is seeded when the application starts.
+     *
+     * @param ledgerRepository    repository for the monthly reward ledger
+     * @param transactionTemplate runs the seeding read in a transaction
+     * @param retainedMonths      number of months, counted back from the current one, for which boards are kept
+     */
+    public RewardLeaderboard(CustomerMonthlyPointsRepository ledgerRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${reward.leaderboard.retained-months:12}") int retainedMonths) {
+        if (retainedMonths < 1) {
+            throw new IllegalArgumentException("reward.leaderboard.retained-months must be at least 1");
+        }
+        this.ledgerRepository = ledgerRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.retainedMonths = retainedMonths;
+    }
+
+    /**
+     * Returns the customers with the most points in the period containing the given date.
+     *
+     * @param period the length of the period
+     * @param date   any day of the period
+     * @param limit  the maximum number of entries
+     * @return up to {@code limit} {@link LeaderboardEntry} objects, highest points first
+     * @throws IllegalArgumentException if the limit is out of range or the period is no longer kept
+     */
+    public List<LeaderboardEntry> top(LeaderboardPeriod period, LocalDate date, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT + ".");
+        }
+        LocalDate start = period.start(date);
+        Snapshot current = snapshot;
+        LocalDate retainedFrom = retainedFrom(LocalDate.now());
+        if (current.retainedFrom().isAfter(retainedFrom)) {
+            retainedFrom = current.retainedFrom();
+        }
+        if (start.isBefore(retainedFrom)) {
+            throw new IllegalArgumentException("Leaderboards are only kept for periods from " + retainedFrom + ".");
+        }
+        Board board = current.boards().get(new BoardKey(period, start));
+        return board == null ? List.of() : board.top(limit);
+    }
+
+    /**
+     * Adds points to the boards once the current database transaction commits.
+     * <p>
+     * Called with the same per-customer, per-month points that are added to the ledger. Applies them
+     * immediately when no transaction is active.
+     *
+     * @param pointsByCustomerMonth points to add, keyed by customer ID and first day of the month
+     */
+    public void addPointsAfterCommit(Map<Long, Map<LocalDate, Integer>> pointsByCustomerMonth) {
+        Lock sharedLock = reloadLock.readLock();
+        sharedLock.lock();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                addPoints(pointsByCustomerMonth);
+            } finally {
+                sharedLock.unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addPoints(pointsByCustomerMonth);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                sharedLock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Rebuilds all boards from the monthly reward ledger, e.g. after the ledger was rebuilt for new rules.
+     * <p>
+     * Waits for transactions that already recorded points to complete, and holds back new ones until the
+     * ledger has been read.
+     */
+    public void reload() {
+        LocalDate retainedFrom = retainedFrom(LocalDate.now());
+        reloadLock.writeLock().lock();
+        try {
+            ConcurrentMap<BoardKey, Board> boards = new ConcurrentHashMap<>();
+            Long rows = transactionTemplate.execute(status -> {
+                long count = 0;
+                try (Stream<CustomerMonthlyPointsProjection> ledger = ledgerRepository.streamFromMonth(retainedFrom)) {
+                    for (CustomerMonthlyPointsProjection row : (Iterable<CustomerMonthlyPointsProjection>) ledger::iterator) {
+                        addPoints(boards, row.getCustomerId(), row.getMonthStart(), row.getPoints());
+                        count++;
+                    }
+                }
+                return count;
+            });
+            snapshot = new Snapshot(retainedFrom, boards);
+            log.info("Reward leaderboard loaded {} ledger rows from {} into {} boards", rows, retainedFrom, boards.size());
+        } finally {
+            reloadLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Seeds the boards before the write-behind drainer and the web server start writing.
+     */
+    @Override
+    public void start() {
+        reload();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return -1;
+    }
+
+    /**
+     * Drops the boards of periods that start before the retention window of the given day.
+     * <p>
+     * Called by writers while they hold the shared lock, so it never overlaps a reload. Concurrent writers
+     * may both prune; the result is the same.
+     *
+     * @param today the current day
+     */
+    void pruneExpired(LocalDate today) {
+        Snapshot current = snapshot;
+        LocalDate retainedFrom = retainedFrom(today);
+        if (!retainedFrom.isAfter(current.retainedFrom())) {
+            return;
+        }
+        int before = current.boards().size();
+        current.boards().keySet().removeIf(key -> key.start().isBefore(retainedFrom));
+        snapshot = new Snapshot(retainedFrom, current.boards());
+        log.info("Reward leaderboard now keeps periods from {}; dropped {} boards", retainedFrom,
+                before - current.boards().size());
+    }
+
+    /**
+     * Returns the first day of the oldest period kept on the given day.
+     */
+    private LocalDate retainedFrom(LocalDate today) {
+        return LeaderboardPeriod.QUARTER.start(today.minusMonths(retainedMonths - 1L));
+    }
+
+    /**
+     * Adds points to the boards currently served, dropping expired boards first.
+     */
+    private void addPoints(Map<Long, Map<LocalDate, Integer>> pointsByCustomerMonth) {
+        pruneExpired(LocalDate.now());
+        Snapshot current = snapshot;
+        pointsByCustomerMonth.forEach((customerId, months) -> months.forEach((monthStart, points) -> {
+            if (!monthStart.isBefore(current.retainedFrom())) {
+                addPoints(current.boards(), customerId, monthStart, points);
+            }
+        }));
+    }
+
+    /**
+     * Adds a customer's points for one month to that month's board and to its quarter's board.
+     */
+    private static void addPoints(ConcurrentMap<BoardKey, Board> boards, Long customerId, LocalDate monthStart, int points) {
+        for (LeaderboardPeriod period : LeaderboardPeriod.values()) {
+            boards.computeIfAbsent(new BoardKey(period, period.start(monthStart)), key -> new Board())
+                    .add(customerId, points);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.CustomerMonthlyPoints;
+import com.kubertech.rewardsystem.model.CustomerMonthlyPointsProjection;
+import com.kubertech.rewardsystem.model.CustomerTransactionAmountProjection;
+import com.kubertech.rewardsystem.model.MonthlyPointDTO;
+import com.kubertech.rewardsystem.model.Transaction;
+import com.kubertech.rewardsystem.model.TransactionAmount;
+import com.kubertech.rewardsystem.repository.CustomerMonthlyPointsRepository;
+import com.kubertech.rewardsystem.repository.TransactionMonthlySummaryRepository;
+import com.kubertech.rewardsystem.repository.TransactionRepository;
+import com.kubertech.rewardsystem.utility.MonthlyPointsAggregator;
+import com.kubertech.rewardsystem.utility.RewardRules;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Service that maintains and reads the precomputed monthly reward ledger ({@link CustomerMonthlyPoints}).
+ * <p>
+ * The ledger is updated incrementally as transactions are recorded and answers the whole-month
+ * part of a date range directly. Only partial months at the edges of a range are aggregated
+ * from the raw transaction table. All points are scored with the active {@link RewardRuleEngine} rules.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RewardLedgerService {
+
+    /** Batched form of {@link CustomerMonthlyPointsRepository#addPoints}. */
+    private static final String ADD_POINTS_SQL = """
+            INSERT INTO customer_monthly_points (customer_id, month_start, points)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE points = points + VALUES(points)
+            """;
+
+    /** Number of customers whose points are accumulated in memory before each batched upsert during a rebuild. */
+    private static final int REBUILD_BATCH_CUSTOMERS = 1000;
+
+    /** Repository for the {@link CustomerMonthlyPoints} ledger. */
+    private final CustomerMonthlyPointsRepository ledgerRepository;
+
+    /** Repository for accessing {@link Transaction} data. */
+    private final TransactionRepository transactionRepository;
+
+    /** JDBC access used for batched ledger upserts. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Source of the active reward rules. */
+    private final RewardRuleEngine rewardRuleEngine;
+
+    /** In-memory leaderboard receiving the same points as the ledger. */
+    private final RewardLeaderboard rewardLeaderboard;
+
+    /** Repository for the summaries of archived transactions, whose points survive a rebuild. */
+    private final TransactionMonthlySummaryRepository summaryRepository;
+
+    /** Held by a rebuild, so it never runs while archived rows are between the transaction table and their summary. */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    /**
+     * Adds the points earned by a transaction to its customer's monthly ledger row.
+     * <p>
+     * Must join the caller's transaction so the ledger and the transaction insert commit or roll back together.
+     * The points reach {@link RewardLeaderboard} once that transaction commits.
+     *
+     * @param transaction the saved {@link Transaction}, with its customer and date populated
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransaction(Transaction transaction) {
+        Long customerId = transaction.getCustomer().getId();
+        LocalDate monthStart = transaction.getTransactionDate().withDayOfMonth(1);
+        int points = rewardRuleEngine.current().points(transaction.getAmountCents(), transaction.getTransactionDate());
+        ledgerRepository.addPoints(customerId, monthStart, points);
+        rewardLeaderboard.addPointsAfterCommit(Map.of(customerId, Map.of(monthStart, points)));
+    }
+
+    /**
+     * Adds the points of many transactions to the ledger using one batched upsert per affected customer month.
+     * <p>
+     * Points are summed per customer and month in memory first, so each ledger row is touched once per call.
+     * Must join the caller's transaction; the points reach {@link RewardLeaderboard} once it commits.
+     *
+     * @param transactions the saved transactions, with customer ID and date populated
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransactions(Collection<Transaction> transactions) {
+        RewardRules rules = rewardRuleEngine.current();
+        Map<Long, Map<LocalDate, Integer>> pointsByCustomerMonth = new HashMap<>();
+        for (Transaction tx : transactions) {
+            addToMonth(pointsByCustomerMonth, tx.getCustomer().getId(), tx, rules);
+        }
+        upsertPoints(pointsByCustomerMonth);
+        rewardLeaderboard.addPointsAfterCommit(pointsByCustomerMonth);
+    }
+
+    /**
+     * Returns the monthly points breakdown for a customer within a date range.
+     * <p>
+     * Whole calendar months are read from the ledger. A partial first or last month is
+     * aggregated from the transaction table instead.
+     *
+     * @param customerId the ID of the customer
+     * @param startDate  start date of the range (inclusive)
+     * @param endDate    end date of the range (inclusive)
+     * @return the months with transactions in the range, ordered by year and month
+     */
+    public List<MonthlyPointDTO> getMonthlyPoints(Long customerId, LocalDate startDate, LocalDate endDate) {
+        RewardRules rules = rewardRuleEngine.current();
+        YearMonth firstFullMonth = startDate.getDayOfMonth() == 1
+                ? YearMonth.from(startDate) : YearMonth.from(startDate).plusMonths(1);
+        YearMonth lastFullMonth = endDate.equals(YearMonth.from(endDate).atEndOfMonth())
+                ? YearMonth.from(endDate) : YearMonth.from(endDate).minusMonths(1);
+
+        if (firstFullMonth.isAfter(lastFullMonth)) {
+            return sumFromTransactions(customerId, startDate, endDate, rules);
+        }
+
+        List<MonthlyPointDTO> monthlyPoints = new ArrayList<>();
+        if (startDate.isBefore(firstFullMonth.atDay(1))) {
+            monthlyPoints.addAll(sumFromTransactions(customerId, startDate, firstFullMonth.atDay(1).minusDays(1), rules));
+        }
+        ledgerRepository.findByCustomerIdAndMonthStartBetweenOrderByMonthStartAsc(
+                        customerId, firstFullMonth.atDay(1), lastFullMonth.atDay(1))
+                .forEach(row -> monthlyPoints.add(toMonthlyPoint(
+                        row.getMonthStart().getYear(), row.getMonthStart().getMonthValue(), row.getPoints())));
+        if (endDate.isAfter(lastFullMonth.atEndOfMonth())) {
+            monthlyPoints.addAll(sumFromTransactions(customerId, lastFullMonth.plusMonths(1).atDay(1), endDate, rules));
+        }
+        return monthlyPoints;
+    }
+
+    /**
+     * Returns the complete monthly points history of several customers, read from the ledger in one query.
+     *
+     * @param customerIds the IDs of the customers
+     * @return the months with transactions per customer, ordered by year and month; customers without
+     *         ledger rows are absent from the map
+     */
+    public Map<Long, List<MonthlyPointDTO>> getMonthlyPointsByCustomer(Collection<Long> customerIds) {
+        Map<Long, List<MonthlyPointDTO>> monthlyPointsByCustomer = new HashMap<>();
+        for (CustomerMonthlyPoints row : ledgerRepository.findByCustomerIdInOrderByCustomerIdAscMonthStartAsc(customerIds)) {
+            monthlyPointsByCustomer.computeIfAbsent(row.getCustomerId(), id -> new ArrayList<>())
+                    .add(toMonthlyPoint(row.getMonthStart().getYear(), row.getMonthStart().getMonthValue(), row.getPoints()));
+        }
+        return monthlyPointsByCustomer;
+    }
+
+    /**
+     * Regenerates the entire ledger from the transaction table using the active reward rules.
+     * <p>
+     * Transaction amounts are streamed in customer order from the covering index and scored in memory,
+     * a bounded number of customers at a time. The points of archived months are then added back from
+     * their {@code transaction_monthly_summary} rows, as they were scored at archive time. Runs as a
+     * single database transaction, so readers keep seeing the previous ledger until it commits.
+     */
+    @Transactional
+    public void rebuild() {
+        log.info("Rebuilding monthly reward ledger from transactions...");
+        rebuildLock.lock();
+        try {
+            ledgerRepository.deleteAllInBatch();
+
+            RewardRules rules = rewardRuleEngine.current();
+            Map<Long, Map<LocalDate, Integer>> pointsByCustomerMonth = new HashMap<>();
+            long rows = 0;
+            try (Stream<CustomerTransactionAmountProjection> amounts = transactionRepository.streamAmountsForAllCustomers()) {
+                for (CustomerTransactionAmountProjection row : (Iterable<CustomerTransactionAmountProjection>) amounts::iterator) {
+                    rows += flushBeforeNextCustomer(pointsByCustomerMonth, row.getCustomerId());
+                    addToMonth(pointsByCustomerMonth, row.getCustomerId(), row, rules);
+                }
+            }
+            rows += upsertPoints(pointsByCustomerMonth);
+            pointsByCustomerMonth.clear();
+
+            try (Stream<CustomerMonthlyPointsProjection> archived = summaryRepository.streamArchivedPoints()) {
+                for (CustomerMonthlyPointsProjection row : (Iterable<CustomerMonthlyPointsProjection>) archived::iterator) {
+                    rows += flushBeforeNextCustomer(pointsByCustomerMonth, row.getCustomerId());
+                    pointsByCustomerMonth
+                            .computeIfAbsent(row.getCustomerId(), id -> new HashMap<>())
+                            .merge(row.getMonthStart(), row.getPoints(), Integer::sum);
+                }
+            }
+            rows += upsertPoints(pointsByCustomerMonth);
+            log.info("Monthly reward ledger rebuilt with {} row updates", rows);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Runs an action while no ledger rebuild is in progress, and keeps new rebuilds waiting until it returns.
+     * <p>
+     * Used by {@link TransactionPartitionManager} while archived transactions are in neither the transaction
+     * table nor their summary, so a rebuild cannot miss their points.
+     *
+     * @param action the action to run
+     */
+    public void runExclusiveOfRebuild(Runnable action) {
+        rebuildLock.lock();
+        try {
+            action.run();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Aggregates monthly points for a date range directly from the transaction table.
+     * <p>
+     * Reads only amounts and dates, which the covering customer/date index answers without touching table rows.
+     */
+    private List<MonthlyPointDTO> sumFromTransactions(Long customerId, LocalDate startDate, LocalDate endDate, RewardRules rules) {
+        return MonthlyPointsAggregator.aggregate(
+                transactionRepository.findAmountsByCustomerIdAndTransactionDateBetween(customerId, startDate, endDate), rules);
+    }
+
+    /**
+     * Adds the points of one transaction to its customer's month in an in-memory accumulator.
+     */
+    private static void addToMonth(Map<Long, Map<LocalDate, Integer>> pointsByCustomerMonth, Long customerId,
+                                   TransactionAmount tx, RewardRules rules) {
+        pointsByCustomerMonth
+                .computeIfAbsent(customerId, id -> new HashMap<>())
+                .merge(tx.getTransactionDate().withDayOfMonth(1),
+                        rules.points(tx.getAmountCents(), tx.getTransactionDate()), Integer::sum);
+    }
+
+    /**
+     * Writes and clears the accumulated points once they cover the batch size and the next row starts a new customer.
+     *
+     * @return the number of customer months written
+     */
+    private int flushBeforeNextCustomer(Map<Long, Map<LocalDate, Integer>> pointsByCustomerMonth, Long nextCustomerId) {
+        if (pointsByCustomerMonth.size() < REBUILD_BATCH_CUSTOMERS || pointsByCustomerMonth.containsKey(nextCustomerId)) {
+            return 0;
+        }
+        int rows = upsertPoints(pointsByCustomerMonth);
+        pointsByCustomerMonth.clear();
+        return rows;
+    }
+
+    /**
+     * Adds accumulated points to the ledger with one batched upsert.
+     *
+     * @return the number of customer months written
+     */
+    private int upsertPoints(Map<Long, Map<LocalDate, Integer>> pointsByCustomerMonth) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        pointsByCustomerMonth.forEach((customerId, months) -> months.forEach((monthStart, points) ->
+                batchArgs.add(new Object[]{customerId, Date.valueOf(monthStart), points})));
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_POINTS_SQL, batchArgs);
+        }
+        return batchArgs.size();
+    }
+
+    /**
+     * Creates a {@link MonthlyPointDTO} with the full English month name used throughout the API.
+     */
+    private static MonthlyPointDTO toMonthlyPoint(int year, int month, int points) {
+        return new MonthlyPointDTO(year, MonthlyPointsAggregator.monthName(month), points);
+    }
+}
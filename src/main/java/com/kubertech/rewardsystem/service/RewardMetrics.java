@@ -0,0 +1,99 @@
+package com.kubertech.rewardsystem.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Records Micrometer metrics for the reward calculation hot paths.
+ * <p>
+ * All meters are named {@code reward.*}; percentile histograms for them are switched on with
+ * {@code management.metrics.distribution.percentiles-histogram.reward}. Repository calls are timed
+ * separately by Spring Boot as {@code spring.data.repository.invocations}.
+ */
+@Component
+public class RewardMetrics {
+
+    /** Latency of a public {@link RewardService} read operation, tagged by {@code operation}. */
+    public static final String OPERATION_TIMER = "reward.operation";
+
+    /** Latency of building one summary from already loaded transactions. */
+    public static final String SUMMARY_BUILD_TIMER = "reward.summary.build";
+
+    /** Number of transactions that went into one summary. */
+    public static final String SUMMARY_TRANSACTIONS = "reward.summary.transactions";
+
+    /** Number of customer and transaction rows loaded by one read operation, tagged by {@code operation}. */
+    public static final String ROWS_FETCHED = "reward.rows.fetched";
+
+    /** Registry the meters are published to. */
+    private final MeterRegistry meterRegistry;
+
+    /** Timer for {@link #SUMMARY_BUILD_TIMER}, registered once as it is hit for every summary. */
+    private final Timer summaryBuildTimer;
+
+    /** Distribution of {@link #SUMMARY_TRANSACTIONS}, registered once as it is hit for every summary. */
+    private final DistributionSummary summaryTransactions;
+
+    /**
+     * Registers the untagged summary meters.
+     *
+     * @param meterRegistry the registry the meters are published to
+     */
+    public RewardMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.summaryBuildTimer = Timer.builder(SUMMARY_BUILD_TIMER)
+                .description("Time to aggregate one reward summary from loaded transactions")
+                .register(meterRegistry);
+        this.summaryTransactions = DistributionSummary.builder(SUMMARY_TRANSACTIONS)
+                .description("Transactions per reward summary")
+                .baseUnit("transactions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a read operation and records its latency, including failures.
+     *
+     * @param operation the operation name used as the {@code operation} tag
+     * @param work      the operation to run
+     * @param <T>       the result type
+     * @return the result of {@code work}
+     */
+    public <T> T timeOperation(String operation, Supplier<T> work) {
+        return Timer.builder(OPERATION_TIMER)
+                .description("Latency of reward service read operations")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(work);
+    }
+
+    /**
+     * Records the build time and size of one summary.
+     *
+     * @param transactionCount the number of transactions in the summary
+     * @param elapsedNanos     the time taken to build it, in nanoseconds
+     */
+    public void recordSummaryBuilt(int transactionCount, long elapsedNanos) {
+        summaryBuildTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        summaryTransactions.record(transactionCount);
+    }
+
+    /**
+     * Records how many rows a read operation loaded from the database.
+     *
+     * @param operation the operation name used as the {@code operation} tag
+     * @param rows      the number of customer and transaction rows loaded
+     */
+    public void recordRowsFetched(String operation, long rows) {
+        DistributionSummary.builder(ROWS_FETCHED)
+                .description("Customer and transaction rows loaded per reward read operation")
+                .baseUnit("rows")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(rows);
+    }
+}
@@ -0,0 +1,62 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.RewardPromotion;
+import com.kubertech.rewardsystem.model.RewardTier;
+import com.kubertech.rewardsystem.repository.RewardPromotionRepository;
+import com.kubertech.rewardsystem.repository.RewardTierRepository;
+import com.kubertech.rewardsystem.utility.RewardRules;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Holds the active compiled {@link RewardRules} and swaps them atomically when the definition changes.
+ * <p>
+ * The rule definition is read from the {@link RewardTier} and {@link RewardPromotion} tables and compiled
+ * once per load. Callers take a snapshot with {@link #current()} and use it for the whole calculation,
+ * so a reload never pauses or splits an in-flight summary between two rule sets.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RewardRuleEngine {
+
+    /** Repository for the reward tier definition. */
+    private final RewardTierRepository rewardTierRepository;
+
+    /** Repository for the reward promotion definition. */
+    private final RewardPromotionRepository rewardPromotionRepository;
+
+    /** The active rules; replaced as a whole, never mutated. */
+    private volatile RewardRules rules = RewardRules.DEFAULT;
+
+    /**
+     * Returns the active rules.
+     *
+     * @return the current {@link RewardRules} snapshot
+     */
+    public RewardRules current() {
+        return rules;
+    }
+
+    /**
+     * Loads and compiles the rule definition from the database and makes it the active rule set.
+     * <p>
+     * If the definition is invalid, the previous rules stay active.
+     *
+     * @return the newly active {@link RewardRules}
+     * @throws IllegalArgumentException if the rule definition is invalid
+     */
+    @PostConstruct
+    public RewardRules reload() {
+        List<RewardTier> tiers = rewardTierRepository.findAll();
+        List<RewardPromotion> promotions = rewardPromotionRepository.findAll();
+        RewardRules compiled = RewardRules.compile(tiers, promotions);
+        rules = compiled;
+        log.info("Reward rules loaded: {} tiers, {} promotions", tiers.size(), promotions.size());
+        return compiled;
+    }
+}
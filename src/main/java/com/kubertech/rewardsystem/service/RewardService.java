@@ -1,36 +1,78 @@
 package com.kubertech.rewardsystem.service;
 
+import com.kubertech.rewardsystem.config.ReplicaRoutingDataSource;
 import com.kubertech.rewardsystem.exception.ResourceNotFoundException;
 import com.kubertech.rewardsystem.model.*;
 import com.kubertech.rewardsystem.repository.CustomerRepository;
 import com.kubertech.rewardsystem.repository.TransactionRepository;
-import com.kubertech.rewardsystem.utility.RewardPointsUtil;
+import com.kubertech.rewardsystem.utility.MonthlyPointsAggregator;
+import com.kubertech.rewardsystem.utility.RewardRules;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.Month;
-import java.time.YearMonth;
-import java.time.format.DateTimeFormatter;
-import java.time.format.TextStyle;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Service class that encapsulates business logic for managing customers,
  * transactions, and calculating reward points in the Reward System application.
+ * <p>
+ * Read operations work on {@link CustomerBasicDTO} and {@link TransactionDTO} read models loaded by
+ * constructor-expression queries in read-only transactions; entities are only used for writes.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RewardService {
 
+    /** Largest page size accepted by the keyset-paginated summary endpoint. */
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    /** Number of customers fetched per chunk while streaming all summaries. */
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     /** Repository for accessing {@link Customer} data. */
     private final CustomerRepository customerRepository;
 
     /** Repository for accessing {@link Transaction} data. */
     private final TransactionRepository transactionRepository;
 
+    /** Service maintaining the precomputed monthly reward ledger. */
+    private final RewardLedgerService rewardLedgerService;
+
+    /** Cache of computed per-customer reward summaries. */
+    private final RewardSummaryCache rewardSummaryCache;
+
+    /** Source of the active reward rules. */
+    private final RewardRuleEngine rewardRuleEngine;
+
+    /** Latency, size and rows-fetched metrics of the read paths. */
+    private final RewardMetrics rewardMetrics;
+
+    /** Write-behind path whose pending transactions reads wait for. */
+    private final WriteBehindTransactionService writeBehindTransactionService;
+
+    /** In-memory leaderboard, reloaded once the ledger is rebuilt for new rules. */
+    private final RewardLeaderboard rewardLeaderboard;
+
+    /** Builds the summaries of bulk reads on several cores. */
+    private final ParallelSummaryEngine parallelSummaryEngine;
+
+    /** Rejects ranges whose transactions have been archived. */
+    private final TransactionPartitionManager transactionPartitionManager;
+
+    /**
+     * One customer together with all of its transactions, grouped from the joined rows of a bulk read.
+     */
+    private record CustomerTransactions(CustomerBasicDTO customer, List<TransactionDTO> transactions) {
+    }
+
     /**
      * Creates and persists a new customer.
      *
@@ -43,12 +85,16 @@ public class RewardService {
 
     /**
      * Creates and persists a transaction associated with a customer.
+     * <p>
+     * The monthly reward ledger is updated in the same database transaction, and the customer's
+     * cached reward summaries are invalidated once it commits.
      *
      * @param transaction the {@link Transaction} to be saved
      * @return the saved {@link Transaction}
      * @throws IllegalArgumentException if the customer ID is missing
      * @throws ResourceNotFoundException if the customer does not exist
      */
+    @Transactional
     public Transaction createTransaction(Transaction transaction) {
         if (transaction.getCustomer() == null || transaction.getCustomer().getId() == null) {
             throw new IllegalArgumentException("Customer ID must be provided");
@@ -59,88 +105,425 @@ public class RewardService {
 
         transaction.setCustomer(customer);
 
-        return transactionRepository.save(transaction);
+        Transaction savedTransaction = transactionRepository.save(transaction);
+        rewardLedgerService.recordTransaction(savedTransaction);
+        rewardSummaryCache.evictCustomersAfterCommit(List.of(customer.getId()));
+        return savedTransaction;
     }
 
     /**
-     * Retrieves a list of {@link RewardSummary} for all customers.
+     * Retrieves a list of {@link RewardSummary} for all customers, ordered by customer ID.
+     * <p>
+     * Customers and their transactions are loaded with one query. The rows are grouped per customer and
+     * the summaries are then built in parallel by the {@link ParallelSummaryEngine}.
      *
      * @return a list of aggregated reward summaries
      */
     public List<RewardSummary> getAllRewardSummaries() {
-        log.info("Fetching reward summaries for all customers...");
+        return rewardMetrics.timeOperation("getAllRewardSummaries", () -> {
+            log.info("Fetching reward summaries for all customers...");
+            writeBehindTransactionService.awaitAllVisible();
+
+            List<CustomerTransactionDTO> rows = customerRepository.findAllWithTransactions();
+            rewardMetrics.recordRowsFetched("getAllRewardSummaries", rows.size());
+            List<CustomerTransactions> customers = new ArrayList<>();
 
-        List<Customer> customers = customerRepository.findAll();
+            int from = 0;
+            while (from < rows.size()) {
+                CustomerTransactionDTO first = rows.get(from);
+                List<TransactionDTO> transactions = new ArrayList<>();
+                int to = from;
+                for (; to < rows.size() && rows.get(to).customerId().equals(first.customerId()); to++) {
+                    TransactionDTO transaction = rows.get(to).transaction();
+                    if (transaction != null) {
+                        transactions.add(transaction);
+                    }
+                }
+                customers.add(new CustomerTransactions(first.customer(), transactions));
+                from = to;
+            }
+
+            RewardRules rules = rewardRuleEngine.current();
+            return parallelSummaryEngine.buildAll(customers,
+                    customer -> summarize(customer.customer(), customer.transactions(), rules));
+        });
+    }
+
+    /**
+     * Retrieves points-only {@link RewardSummary} objects for all customers, ordered by customer ID.
+     * <p>
+     * Monthly points are read from the reward ledger, so no {@link Transaction} entities are loaded
+     * and the summaries carry no transaction list.
+     *
+     * @return a list of points-only reward summaries
+     */
+    public List<RewardSummary> getAllRewardPointSummaries() {
         List<RewardSummary> summaries = new ArrayList<>();
+        streamAllRewardSummaries(RewardView.SUMMARY, summaries::add);
+        return summaries;
+    }
 
-        for (Customer customer : customers) {
-            summaries.add(buildRewardSummary(customer, customer.getTransactions()));
+    /**
+     * Retrieves one keyset-paginated page of {@link RewardSummary} objects, ordered by customer ID.
+     *
+     * @param afterId the last customer ID of the previous page (exclusive), or 0 for the first page
+     * @param size    the maximum number of customers on the page
+     * @param view    whether to include each customer's transactions
+     * @return a {@link RewardSummaryPage} with the summaries and the cursor for the next page
+     * @throws IllegalArgumentException if the page size is out of range
+     */
+    public RewardSummaryPage getRewardSummariesPage(long afterId, int size, RewardView view) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ".");
         }
-        return summaries;
+        log.info("Fetching reward summaries page after customer {} with size {}", afterId, size);
+
+        return rewardMetrics.timeOperation("getRewardSummariesPage", () -> {
+            List<CustomerBasicDTO> customers = customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size));
+            Long nextAfterId = customers.size() < size ? null : customers.get(customers.size() - 1).id();
+
+            return RewardSummaryPage.builder()
+                    .summaries(buildRewardSummaries(customers, view, "getRewardSummariesPage"))
+                    .nextAfterId(nextAfterId)
+                    .build();
+        });
+    }
+
+    /**
+     * Walks all customers in ID order and hands each {@link RewardSummary} to the consumer as soon as it is built.
+     * <p>
+     * Customers are read in fixed-size keyset chunks so memory use stays flat regardless of table size.
+     *
+     * @param view     whether to include each customer's transactions
+     * @param consumer receives each summary in customer ID order
+     */
+    public void streamAllRewardSummaries(RewardView view, Consumer<RewardSummary> consumer) {
+        log.info("Streaming reward summaries for all customers...");
+
+        long afterId = 0;
+        List<CustomerBasicDTO> customers;
+        do {
+            customers = customerRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(STREAM_CHUNK_SIZE));
+            buildRewardSummaries(customers, view, "streamAllRewardSummaries").forEach(consumer);
+            if (!customers.isEmpty()) {
+                afterId = customers.get(customers.size() - 1).id();
+            }
+        } while (customers.size() == STREAM_CHUNK_SIZE);
     }
 
     /**
      * Calculates the reward summary for a specific customer within a date range.
+     * <p>
+     * Results are served from {@link RewardSummaryCache} when available. Transactions of the customer
+     * still pending on the write-behind path are waited for first, and a customer written within
+     * {@code reward.replica.primary-after-write} is read from the primary rather than a read replica.
      *
      * @param customerId the ID of the customer
      * @param startDate  start date of the range
      * @param endDate    end date of the range
      * @return a {@link RewardSummary} containing monthly breakdown and total points
      * @throws ResourceNotFoundException if the customer does not exist
+     * @throws IllegalArgumentException  if the date range is invalid or reaches into archived months
      */
     public RewardSummary getCustomerRewards(Long customerId, LocalDate startDate, LocalDate endDate) {
         log.info("Calculating rewards for customer {} from {} to {}", customerId, startDate, endDate);
         if (startDate.isAfter(endDate)) {
             throw new IllegalArgumentException("Start date cannot be after end date.");
         }
-        Customer customer = customerRepository.findById(customerId)
-                .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
+        transactionPartitionManager.requireRetained(startDate);
+        writeBehindTransactionService.awaitVisible(List.of(customerId));
+        return rewardMetrics.timeOperation("getCustomerRewards", () -> {
+            RewardSummaryCache.Key cacheKey = new RewardSummaryCache.Key(customerId, startDate, endDate);
+            RewardSummary cached = rewardSummaryCache.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+
+            long generation = rewardSummaryCache.generation(customerId);
+            return readFresh(List.of(customerId), () -> {
+                CustomerBasicDTO customer = customerRepository.findBasicById(customerId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
 
-        List<Transaction> transactions = transactionRepository
-                .findByCustomerIdAndTransactionDateBetween(customerId, startDate, endDate);
+                List<TransactionDTO> transactions = transactionRepository
+                        .findByCustomerIdAndTransactionDateBetween(customerId, startDate, endDate);
+                rewardMetrics.recordRowsFetched("getCustomerRewards", 1L + transactions.size());
 
-        return buildRewardSummary(customer, transactions);
+                RewardRules rules = rewardRuleEngine.current();
+                RewardSummary summary = summarize(customer, transactions, rules);
+                cacheIfRulesUnchanged(cacheKey, summary, rules, generation);
+                return summary;
+            });
+        });
     }
 
     /**
-     * Constructs a {@link RewardSummary} by calculating monthly and total points.
+     * Calculates the reward summaries of many customers over the same date range.
      *
-     * @param customer     the customer whose transactions are being evaluated
-     * @param transactions the list of transactions during the target period
-     * @return a {@link RewardSummary} with calculated points
+     * @param customerIds the IDs of the customers, in the desired output order
+     * @param startDate   start date of the range
+     * @param endDate     end date of the range
+     * @return a list of {@link RewardSummary} for the customers that exist, in request order
+     * @throws IllegalArgumentException if the date range or the number of IDs is invalid
+     * @see #streamCustomerRewardsBatch(List, LocalDate, LocalDate, Consumer)
      */
-    private RewardSummary buildRewardSummary(Customer customer, List<Transaction> transactions) {
+    public List<RewardSummary> getCustomerRewardsBatch(List<Long> customerIds, LocalDate startDate, LocalDate endDate) {
+        List<RewardSummary> summaries = new ArrayList<>(customerIds.size());
+        streamCustomerRewardsBatch(customerIds, startDate, endDate, summaries::add);
+        return summaries;
+    }
 
-        List<Transaction> immutableTransactions = new ArrayList<>(transactions);
-        immutableTransactions.sort(Comparator.comparing(Transaction::getTransactionDate));  // ⬅ Sort transactions by date
+    /**
+     * Calculates the reward summaries of many customers over the same date range and hands each
+     * {@link RewardSummary} to the consumer as soon as its chunk is built.
+     * <p>
+     * Produces the same summaries as calling {@link #getCustomerRewards(Long, LocalDate, LocalDate)} per customer,
+     * but IDs are processed in chunks: cached summaries are served from {@link RewardSummaryCache}, and the rest
+     * of the chunk is loaded with one {@code IN} query for the customers and one for their transactions.
+     * Duplicate IDs are summarized once, and IDs of unknown customers are skipped.
+     *
+     * @param customerIds the IDs of the customers, in the desired output order
+     * @param startDate   start date of the range
+     * @param endDate     end date of the range
+     * @param consumer    receives each summary in request order
+     * @throws IllegalArgumentException if the date range or the number of IDs is invalid, or the range reaches
+     *                                  into archived months
+     */
+    public void streamCustomerRewardsBatch(List<Long> customerIds, LocalDate startDate, LocalDate endDate,
+                                           Consumer<RewardSummary> consumer) {
+        log.info("Calculating rewards for {} customers from {} to {}", customerIds.size(), startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date.");
+        }
+        if (customerIds.size() > BatchRewardRequest.MAX_CUSTOMER_IDS) {
+            throw new IllegalArgumentException("At most " + BatchRewardRequest.MAX_CUSTOMER_IDS + " customer IDs can be requested at once.");
+        }
+        transactionPartitionManager.requireRetained(startDate);
 
-        Map<String, Integer> monthlyPoints = new HashMap<>();
+        List<Long> distinctIds = List.copyOf(new LinkedHashSet<>(customerIds));
+        for (int from = 0; from < distinctIds.size(); from += STREAM_CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + STREAM_CHUNK_SIZE, distinctIds.size()));
+            rewardMetrics.timeOperation("getCustomerRewardsBatchChunk", () -> buildCustomerRewardsChunk(chunk, startDate, endDate))
+                    .forEach(consumer);
+        }
+    }
 
-        for (Transaction tx : immutableTransactions) {
-            String monthKey = tx.getTransactionDate().format(DateTimeFormatter.ofPattern("yyyy-MM"));
-            int earnedPoints = RewardPointsUtil.calculateRewardPoints(tx.getAmount());
-            monthlyPoints.merge(monthKey, earnedPoints, Integer::sum);
+    /**
+     * Calculates a points-only reward summary for a customer within a date range, aggregated in the database.
+     * <p>
+     * Produces the same monthly breakdown and total as {@link #getCustomerRewards(Long, LocalDate, LocalDate)}
+     * but never loads {@link Transaction} entities, so the returned summary carries no transaction list.
+     * Whole months are answered from the monthly reward ledger via {@link RewardLedgerService}.
+     *
+     * @param customerId the ID of the customer
+     * @param startDate  start date of the range
+     * @param endDate    end date of the range
+     * @return a {@link RewardSummary} containing monthly breakdown and total points only
+     * @throws ResourceNotFoundException if the customer does not exist
+     */
+    public RewardSummary getCustomerRewardPoints(Long customerId, LocalDate startDate, LocalDate endDate) {
+        log.info("Aggregating reward points for customer {} from {} to {}", customerId, startDate, endDate);
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date cannot be after end date.");
         }
+        writeBehindTransactionService.awaitVisible(List.of(customerId));
+        return readFresh(List.of(customerId), () -> {
+            CustomerBasicDTO customer = customerRepository.findBasicById(customerId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
 
-        List<MonthlyPointDTO> formattedMonthlyPoints = monthlyPoints.entrySet().stream()
-                .map(entry -> {
-                    YearMonth yearMonth = YearMonth.parse(entry.getKey());
-                    String monthName = yearMonth.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
-                    return new MonthlyPointDTO(yearMonth.getYear(), monthName, entry.getValue());
-                }).
-                sorted(Comparator.comparing(MonthlyPointDTO::getYear)
-                .thenComparing(mp -> Month.valueOf(mp.getMonth().toUpperCase())))
-                .toList();
+            return buildPointsSummary(customer, rewardLedgerService.getMonthlyPoints(customerId, startDate, endDate));
+        });
+    }
+
+    /**
+     * Loads and activates the reward rule definition, then brings all derived data in line with it.
+     * <p>
+     * In-flight calculations finish with the rules they started with. Cached summaries are dropped as soon
+     * as the new rules are active, and the monthly reward ledger and the leaderboard are then rebuilt. Until
+     * the rebuild commits, points-only views and the leaderboard still reflect the previous rules.
+     *
+     * @throws IllegalArgumentException if the rule definition is invalid; the previous rules stay active
+     */
+    public void reloadRewardRules() {
+        log.info("Reloading reward rules...");
+        rewardRuleEngine.reload();
+        rewardSummaryCache.invalidateAll();
+        rewardLedgerService.rebuild();
+        rewardLeaderboard.reload();
+    }
+
+    /**
+     * Runs a read on the primary if any of the customers was written so recently that a read replica may
+     * not have the write yet; otherwise read-only transactions may use the replica as usual.
+     * <p>
+     * Keeps a customer's own writes visible to the next read, and keeps a stale replica result out of the cache.
+     */
+    private <T> T readFresh(Collection<Long> customerIds, Supplier<T> read) {
+        return customerIds.stream().anyMatch(rewardSummaryCache::isRecentlyWritten)
+                ? ReplicaRoutingDataSource.onPrimary(read)
+                : read.get();
+    }
+
+    /**
+     * Caches a computed summary unless the reward rules were swapped while it was being built,
+     * so a summary computed with outdated rules never outlives a rule reload. The cache also drops it if
+     * the customer was written after {@code generation} was taken.
+     */
+    private void cacheIfRulesUnchanged(RewardSummaryCache.Key key, RewardSummary summary, RewardRules rules,
+                                       long generation) {
+        if (rewardRuleEngine.current() == rules) {
+            rewardSummaryCache.put(key, summary, generation);
+        }
+    }
 
+    /**
+     * Builds date-range summaries for a chunk of customer IDs, loading cache misses with two bulk queries.
+     *
+     * @param customerIds distinct customer IDs, in the desired output order
+     * @param startDate   start date of the range
+     * @param endDate     end date of the range
+     * @return a list of {@link RewardSummary} for the customers that exist, in the same order as {@code customerIds}
+     */
+    private List<RewardSummary> buildCustomerRewardsChunk(List<Long> customerIds, LocalDate startDate, LocalDate endDate) {
+        writeBehindTransactionService.awaitVisible(customerIds);
+        Map<Long, RewardSummary> summariesById = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long customerId : customerIds) {
+            RewardSummary cached = rewardSummaryCache.get(new RewardSummaryCache.Key(customerId, startDate, endDate));
+            if (cached != null) {
+                summariesById.put(customerId, cached);
+            } else {
+                missingIds.add(customerId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            RewardRules rules = rewardRuleEngine.current();
+            Map<Long, Long> generations = new HashMap<>();
+            missingIds.forEach(customerId -> generations.put(customerId, rewardSummaryCache.generation(customerId)));
+            readFresh(missingIds, () -> {
+                List<CustomerBasicDTO> customers = customerRepository.findBasicByIdIn(missingIds);
+                List<TransactionDTO> transactions = transactionRepository
+                        .findByCustomerIdInAndTransactionDateBetween(missingIds, startDate, endDate);
+                rewardMetrics.recordRowsFetched("getCustomerRewardsBatchChunk", (long) customers.size() + transactions.size());
+                Map<Long, List<TransactionDTO>> transactionsByCustomer = transactions.stream()
+                        .collect(Collectors.groupingBy(TransactionDTO::customerId));
+                for (CustomerBasicDTO customer : customers) {
+                    RewardSummary summary = summarize(customer, transactionsByCustomer.getOrDefault(customer.id(), List.of()), rules);
+                    cacheIfRulesUnchanged(new RewardSummaryCache.Key(customer.id(), startDate, endDate), summary, rules,
+                            generations.get(customer.id()));
+                    summariesById.put(customer.id(), summary);
+                }
+                return null;
+            });
+        }
+
+        List<RewardSummary> summaries = new ArrayList<>(summariesById.size());
+        for (Long customerId : customerIds) {
+            RewardSummary summary = summariesById.get(customerId);
+            if (summary != null) {
+                summaries.add(summary);
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Builds summaries for a chunk of customers with one bulk query.
+     * <p>
+     * The full view loads all of the chunk's transactions at once; the summary view reads
+     * the chunk's monthly points from the reward ledger instead.
+     *
+     * @param customers the customers to summarize, in the desired output order
+     * @param view      whether to include each customer's transactions
+     * @param operation the calling operation, used to tag the rows-fetched metric
+     * @return a list of {@link RewardSummary} in the same order as {@code customers}
+     */
+    private List<RewardSummary> buildRewardSummaries(List<CustomerBasicDTO> customers, RewardView view, String operation) {
+        if (customers.isEmpty()) {
+            return List.of();
+        }
+        List<Long> customerIds = customers.stream().map(CustomerBasicDTO::id).toList();
+        writeBehindTransactionService.awaitVisible(customerIds);
+        List<RewardSummary> summaries = new ArrayList<>(customers.size());
 
-        int totalPoints = monthlyPoints.values().stream().mapToInt(Integer::intValue).sum();
+        if (view == RewardView.SUMMARY) {
+            Map<Long, List<MonthlyPointDTO>> monthlyPointsByCustomer = rewardLedgerService.getMonthlyPointsByCustomer(customerIds);
+            for (CustomerBasicDTO customer : customers) {
+                summaries.add(buildPointsSummary(customer, monthlyPointsByCustomer.getOrDefault(customer.id(), List.of())));
+            }
+            return summaries;
+        }
+
+        List<TransactionDTO> transactions = transactionRepository.findByCustomerIdIn(customerIds);
+        rewardMetrics.recordRowsFetched(operation, (long) customers.size() + transactions.size());
+        Map<Long, List<TransactionDTO>> transactionsByCustomer = transactions.stream()
+                .collect(Collectors.groupingBy(TransactionDTO::customerId));
+        RewardRules rules = rewardRuleEngine.current();
+        for (CustomerBasicDTO customer : customers) {
+            summaries.add(summarize(customer, transactionsByCustomer.getOrDefault(customer.id(), List.of()), rules));
+        }
+        return summaries;
+    }
+
+    /**
+     * Builds a {@link RewardSummary} with {@link #buildRewardSummary} and records its build time and size.
+     */
+    private RewardSummary summarize(CustomerBasicDTO customer, List<TransactionDTO> transactions, RewardRules rules) {
+        long start = System.nanoTime();
+        RewardSummary summary = buildRewardSummary(customer, transactions, rules);
+        rewardMetrics.recordSummaryBuilt(transactions.size(), System.nanoTime() - start);
+        return summary;
+    }
+
+    /**
+     * Constructs a points-only {@link RewardSummary} from an already aggregated monthly breakdown.
+     *
+     * @param customer      the customer being summarized
+     * @param monthlyPoints the customer's monthly points, ordered by year and month
+     * @return a {@link RewardSummary} without a transaction list
+     */
+    private RewardSummary buildPointsSummary(CustomerBasicDTO customer, List<MonthlyPointDTO> monthlyPoints) {
+        int totalPoints = 0;
+        for (MonthlyPointDTO monthlyPoint : monthlyPoints) {
+            totalPoints += monthlyPoint.getPoints();
+        }
+        return RewardSummary.builder()
+                .customerId(customer.id())
+                .customerName(customer.name())
+                .monthlyPoints(monthlyPoints)
+                .totalPoints(totalPoints)
+                .build();
+    }
+
+    /**
+     * Constructs a {@link RewardSummary} by calculating monthly and total points.
+     * <p>
+     * Aggregation is delegated to {@link MonthlyPointsAggregator}, which avoids per-transaction allocations.
+     * <p>
+     * Package-private and stateless so the reactive read path and the JMH benchmarks in
+     * {@code src/jmh/java} can reuse it directly.
+     *
+     * @param customer     the customer whose transactions are being evaluated
+     * @param transactions the list of transactions during the target period
+     * @param rules        the reward rules snapshot used for every transaction of the summary
+     * @return a {@link RewardSummary} with calculated points
+     */
+    static RewardSummary buildRewardSummary(CustomerBasicDTO customer, List<TransactionDTO> transactions, RewardRules rules) {
+
+        List<TransactionDTO> sortedTransactions = MonthlyPointsAggregator.sortByDate(transactions);
+        List<MonthlyPointDTO> monthlyPoints = MonthlyPointsAggregator.aggregate(sortedTransactions, rules);
+
+        int totalPoints = 0;
+        for (MonthlyPointDTO monthlyPoint : monthlyPoints) {
+            totalPoints += monthlyPoint.getPoints();
+        }
 
         return RewardSummary.builder()
-                .customerId(customer.getId())
-                .customerName(customer.getName())
-                .monthlyPoints(formattedMonthlyPoints)
+                .customerId(customer.id())
+                .customerName(customer.name())
+                .monthlyPoints(monthlyPoints)
                 .totalPoints(totalPoints)
-                .transactions(immutableTransactions)
+                .transactions(sortedTransactions)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,250 @@
+package com.kubertech.rewardsystem.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.kubertech.rewardsystem.model.RewardCacheStats;
+import com.kubertech.rewardsystem.model.RewardSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded in-memory cache of per-customer reward summaries, keyed by customer and date range.
+ * <p>
+ * Entries are evicted by size and by time-to-live. Writes that change a customer's transactions
+ * invalidate only that customer's entries, after the writing database transaction commits.
+ * <p>
+ * A reader that loaded a summary before such a commit must not cache it afterwards. Readers therefore take
+ * the customer's {@link #generation(Long) write generation} before they query, and {@link #put} drops the
+ * summary if a write for that customer was committed in between. A per-customer index of the cached keys keeps that invalidation proportional to the customer's own
+ * entries rather than to the size of the cache.
+ * <p>
+ * The cache also remembers which customers were written within {@code reward.replica.primary-after-write}.
+ * Their summaries must be read from the primary, since a read replica may not have the write yet and
+ * the stale result would otherwise be cached for the full TTL.
+ * <p>
+ * Hit, miss, eviction and size statistics are published to Micrometer as {@code cache.*} meters
+ * tagged {@code cache=rewardSummaries}.
+ */
+@Component
+@Slf4j
+public class RewardSummaryCache implements MeterBinder {
+
+    /** Name of the cache in the {@code cache} tag of its metrics. */
+    static final String CACHE_NAME = "rewardSummaries";
+
+    /**
+     * Cache key identifying one customer and date range.
+     *
+     * @param customerId the ID of the customer
+     * @param startDate  start date of the range
+     * @param endDate    end date of the range
+     */
+    public record Key(Long customerId, LocalDate startDate, LocalDate endDate) {
+    }
+
+    /** Number of write generation counters the customers are spread over. */
+    private static final int GENERATION_STRIPES = 4096;
+
+    /** The underlying Caffeine cache. */
+    private final Cache<Key, RewardSummary> cache;
+
+    /**
+     * Cached keys per customer. Each set is only changed inside {@code compute} on its customer, and a set
+     * removed from the map is no longer changed. Entries Caffeine evicts by size or TTL are unindexed by its
+     * eviction listener; entries removed here are unindexed explicitly.
+     */
+    private final ConcurrentMap<Long, Set<Key>> keysByCustomer = new ConcurrentHashMap<>();
+
+    /**
+     * Write generations, one counter per stripe of customers, raised before a written customer's entries are
+     * evicted. Customers sharing a stripe only cost each other a skipped {@link #put}.
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    /** Customers whose transactions changed within the primary-after-write window. */
+    private final Cache<Long, Boolean> recentlyWritten;
+
+    /**
+     * Creates the cache with the configured bounds.
+     *
+     * @param maximumSize       the maximum number of cached summaries
+     * @param ttl               how long a summary may be served after it was computed
+     * @param primaryAfterWrite how long after a write a customer's reads go to the primary; should exceed the
+     *                          largest replica lag tolerated plus the heartbeat interval
+     */
+    public RewardSummaryCache(@Value("${reward.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${reward.cache.ttl:5m}") Duration ttl,
+                              @Value("${reward.replica.primary-after-write:10s}") Duration primaryAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .evictionListener((Key key, RewardSummary summary, RemovalCause cause) -> unindex(key))
+                .recordStats()
+                .build();
+        this.recentlyWritten = Caffeine.newBuilder()
+                .expireAfterWrite(primaryAfterWrite)
+                .build();
+        log.info("Reward summary cache configured with maximum size {} and TTL {}", maximumSize, ttl);
+    }
+
+    /**
+     * Returns the cached summary for the key, or {@code null} if absent.
+     *
+     * @param key the customer and date range
+     * @return the cached {@link RewardSummary}, or {@code null}
+     */
+    public RewardSummary get(Key key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * Returns the customer's current write generation; take it before reading the data a summary is built from.
+     *
+     * @param customerId the ID of the customer
+     * @return the generation to pass to {@link #put}
+     */
+    public long generation(Long customerId) {
+        return generations.get(stripe(customerId));
+    }
+
+    /**
+     * Stores a computed summary unless the customer was written since the given generation was taken.
+     * <p>
+     * The generation is checked again after the entry is stored and indexed. A write committed in between
+     * either sees the indexed key when it evicts, or is seen by the second check, which drops the entry.
+     *
+     * @param key        the customer and date range
+     * @param summary    the computed {@link RewardSummary}
+     * @param generation the customer's {@link #generation(Long)} taken before the summary's data was read
+     */
+    public void put(Key key, RewardSummary summary, long generation) {
+        if (generation(key.customerId()) != generation) {
+            return;
+        }
+        cache.put(key, summary);
+        keysByCustomer.compute(key.customerId(), (customerId, keys) -> {
+            Set<Key> indexed = keys == null ? new HashSet<>() : keys;
+            indexed.add(key);
+            return indexed;
+        });
+        if (generation(key.customerId()) != generation) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Removes every cached summary of the given customers once the current database transaction commits.
+     * <p>
+     * Evicts immediately when no transaction is active.
+     *
+     * @param customerIds the customers whose transactions changed
+     */
+    public void evictCustomersAfterCommit(Collection<Long> customerIds) {
+        Set<Long> ids = Set.copyOf(customerIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictCustomers(ids);
+                }
+            });
+        } else {
+            evictCustomers(ids);
+        }
+    }
+
+    /**
+     * Tells whether a customer's transactions changed so recently that a read replica may not have them yet.
+     *
+     * @param customerId the ID of the customer
+     * @return whether the customer's reads should go to the primary
+     */
+    public boolean isRecentlyWritten(Long customerId) {
+        return recentlyWritten.getIfPresent(customerId) != null;
+    }
+
+    /**
+     * Removes every cached summary, e.g. after the reward rules changed. Summaries being built meanwhile are not cached.
+     */
+    public void invalidateAll() {
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        keysByCustomer.clear();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Registers the cache statistics with the meter registry.
+     *
+     * @param registry the registry to publish the {@code cache.*} meters to
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters.
+     *
+     * @return the current {@link RewardCacheStats}
+     */
+    public RewardCacheStats stats() {
+        CacheStats stats = cache.stats();
+        return RewardCacheStats.builder()
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .estimatedSize(cache.estimatedSize())
+                .build();
+    }
+
+    /**
+     * Removes all entries belonging to the given customers and marks them as recently written.
+     */
+    private void evictCustomers(Set<Long> customerIds) {
+        customerIds.forEach(customerId -> recentlyWritten.put(customerId, Boolean.TRUE));
+        for (Long customerId : customerIds) {
+            generations.incrementAndGet(stripe(customerId));
+            Set<Key> keys = keysByCustomer.remove(customerId);
+            if (keys != null) {
+                cache.invalidateAll(keys);
+            }
+        }
+    }
+
+    /**
+     * Maps a customer to its write generation counter.
+     */
+    private static int stripe(Long customerId) {
+        return Math.floorMod(Long.hashCode(customerId), GENERATION_STRIPES);
+    }
+
+    /**
+     * Removes a key Caffeine evicted from its customer's index.
+     */
+    private void unindex(Key key) {
+        keysByCustomer.computeIfPresent(key.customerId(), (customerId, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
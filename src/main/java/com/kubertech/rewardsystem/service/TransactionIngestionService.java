@@ -0,0 +1,202 @@
+package com.kubertech.rewardsystem.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.kubertech.rewardsystem.model.BulkIngestionResponse;
+import com.kubertech.rewardsystem.model.BulkTransactionResult;
+import com.kubertech.rewardsystem.model.Transaction;
+import com.kubertech.rewardsystem.repository.CustomerRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Service for high-volume transaction ingestion, such as end-of-day POS uploads.
+ * <p>
+ * Rows are consumed from an iterator in fixed-size chunks. Each chunk validates its customer IDs
+ * with one set-based query and stores accepted rows with batched JDBC inserts, so the cost per row
+ * stays constant regardless of payload size. Every chunk commits in its own database transaction
+ * together with the matching monthly reward ledger updates.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionIngestionService {
+
+    /** Number of rows validated, inserted and committed together. */
+    static final int CHUNK_SIZE = 1000;
+
+    /** Insert statement for a single transaction row; executed as a JDBC batch. */
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO transaction (amount_cents, transaction_date, customer_id) VALUES (?, ?, ?)";
+
+    /** Repository for accessing customer data. */
+    private final CustomerRepository customerRepository;
+
+    /** Service maintaining the precomputed monthly reward ledger. */
+    private final RewardLedgerService rewardLedgerService;
+
+    /** Cache of computed reward summaries, invalidated for customers receiving new rows. */
+    private final RewardSummaryCache rewardSummaryCache;
+
+    /** JDBC access used for batched inserts. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Runs each chunk in its own database transaction. */
+    private final TransactionTemplate transactionTemplate;
+
+    /** Bean validator applying the same constraints as {@code @Valid} on the single-row endpoint. */
+    private final Validator validator;
+
+    /**
+     * Validates and stores all rows provided by the iterator.
+     * <p>
+     * A row the iterator fails to read, such as one with a malformed amount, is rejected with the reader's message
+     * and reading continues with the next row. If the payload itself cannot be read any further, that position is
+     * rejected and the response covers the rows read up to it, whose chunks have already been committed.
+     *
+     * @param rows the submitted transactions, in payload order
+     * @return a {@link BulkIngestionResponse} with one result per row
+     */
+    public BulkIngestionResponse ingest(Iterator<Transaction> rows) {
+        List<BulkTransactionResult> results = new ArrayList<>();
+        List<Transaction> chunk = new ArrayList<>(CHUNK_SIZE);
+        Map<Integer, String> readErrors = new HashMap<>();
+
+        while (true) {
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+            } catch (RuntimeException e) {
+                // the payload cannot be read past this point
+                readErrors.put(chunk.size(), readError(e));
+                chunk.add(null);
+                break;
+            }
+            try {
+                chunk.add(rows.next());
+            } catch (RuntimeException e) {
+                readErrors.put(chunk.size(), readError(e));
+                chunk.add(null);
+            }
+            if (chunk.size() == CHUNK_SIZE) {
+                results.addAll(ingestChunk(chunk, readErrors, results.size()));
+                chunk.clear();
+                readErrors.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(ingestChunk(chunk, readErrors, results.size()));
+        }
+
+        int accepted = (int) results.stream()
+                .filter(result -> result.getStatus() == BulkTransactionResult.Status.ACCEPTED)
+                .count();
+        log.info("Bulk ingestion finished: {} accepted, {} rejected", accepted, results.size() - accepted);
+
+        return BulkIngestionResponse.builder()
+                .acceptedCount(accepted)
+                .rejectedCount(results.size() - accepted)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Validates one chunk, then inserts its accepted rows and updates the ledger in a single transaction.
+     *
+     * @param chunk       the rows of this chunk; {@code null} at the positions that could not be read
+     * @param readErrors  the rejection reasons of the unreadable rows, by position in the chunk
+     * @param firstIndex  the payload index of the first row in the chunk
+     * @return one result per row, in chunk order
+     */
+    private List<BulkTransactionResult> ingestChunk(List<Transaction> chunk, Map<Integer, String> readErrors,
+                                                    int firstIndex) {
+        Set<Long> requestedIds = chunk.stream()
+                .filter(Objects::nonNull)
+                .filter(tx -> tx.getCustomer() != null && tx.getCustomer().getId() != null)
+                .map(tx -> tx.getCustomer().getId())
+                .collect(Collectors.toSet());
+        Set<Long> existingIds = requestedIds.isEmpty() ? Set.of() : customerRepository.findExistingIds(requestedIds);
+
+        List<BulkTransactionResult> results = new ArrayList<>(chunk.size());
+        List<Transaction> accepted = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Transaction tx = chunk.get(i);
+            String rejection = readErrors.containsKey(i) ? readErrors.get(i) : validate(tx, existingIds);
+            if (rejection == null) {
+                accepted.add(tx);
+            }
+            results.add(BulkTransactionResult.builder()
+                    .index(firstIndex + i)
+                    .status(rejection == null ? BulkTransactionResult.Status.ACCEPTED : BulkTransactionResult.Status.REJECTED)
+                    .message(rejection)
+                    .build());
+        }
+
+        if (!accepted.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> store(accepted));
+        }
+        return results;
+    }
+
+    /**
+     * Inserts already validated transactions with one JDBC batch and adds their points to the ledger.
+     * <p>
+     * Must run inside a database transaction; the customers' cached summaries are evicted once it commits.
+     *
+     * @param transactions the transactions to store, each referencing an existing customer
+     */
+    void store(List<Transaction> transactions) {
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, transactions, transactions.size(), (ps, tx) -> {
+            ps.setLong(1, tx.getAmountCents());
+            ps.setDate(2, Date.valueOf(tx.getTransactionDate()));
+            ps.setLong(3, tx.getCustomer().getId());
+        });
+        rewardLedgerService.recordTransactions(transactions);
+        rewardSummaryCache.evictCustomersAfterCommit(
+                transactions.stream().map(tx -> tx.getCustomer().getId()).collect(Collectors.toSet()));
+    }
+
+    /**
+     * Describes why the iterator could not read a row, without the source location Jackson appends.
+     *
+     * @return the rejection reason
+     */
+    private static String readError(RuntimeException e) {
+        String message = e.getCause() instanceof JsonProcessingException cause ? cause.getOriginalMessage() : e.getMessage();
+        return "Unreadable transaction: " + message;
+    }
+
+    /**
+     * Checks a single row against the bean constraints and the set of existing customers.
+     *
+     * @return the rejection reason, or {@code null} if the row is valid
+     */
+    private String validate(Transaction tx, Set<Long> existingIds) {
+        if (tx == null) {
+            return "Transaction must not be null";
+        }
+        Set<ConstraintViolation<Transaction>> violations = validator.validate(tx);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (tx.getCustomer() == null || tx.getCustomer().getId() == null) {
+            return "Customer ID must be provided";
+        }
+        if (!existingIds.contains(tx.getCustomer().getId())) {
+            return "Customer not found with ID: " + tx.getCustomer().getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,294 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.TransactionLogRecord;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable append-only log of accepted transactions, stored in memory-mapped segment files.
+ * <p>
+ * Every record has a fixed size of {@value #RECORD_SIZE} bytes: sequence, customer ID, amount in cents,
+ * transaction date as an epoch day and a CRC32C checksum of the preceding fields. Segments are named after
+ * their first sequence and hold a fixed number of records. On open, segments are scanned and the log ends
+ * at the first record whose sequence or checksum does not match, which discards a write torn by a crash.
+ * <p>
+ * Fully drained segments are deleted by {@link #release(long)}; the active segment is always kept so the
+ * sequence survives a restart. All methods are thread-safe.
+ */
+@Slf4j
+public final class TransactionLog implements Closeable {
+
+    /** Size of one record in bytes. */
+    static final int RECORD_SIZE = 32;
+
+    /** Bytes of a record covered by its checksum. */
+    private static final int CHECKSUM_OFFSET = RECORD_SIZE - Integer.BYTES;
+
+    /** File name suffix of segment files. */
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    /** Directory holding the segment files. */
+    private final Path directory;
+
+    /** Number of records per segment file. */
+    private final int recordsPerSegment;
+
+    /** Whether each append is forced to the storage device before it returns. */
+    private final boolean forceOnAppend;
+
+    /** Open segments by first sequence. */
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+
+    /** Sequence of the last appended record, or the starting point if none was appended. */
+    private long lastSequence;
+
+    /**
+     * Opens the log in a directory, creating it if necessary, and recovers the records already in it.
+     *
+     * @param directory         the directory holding the segment files
+     * @param recordsPerSegment the number of records per segment file
+     * @param forceOnAppend     whether each append is forced to the storage device before it returns
+     * @param minLastSequence   the lowest sequence the log may end at, e.g. the last sequence already stored
+     *                          in the database; new records are numbered after it even if no segment remains
+     * @throws IOException if the directory or a segment cannot be read
+     */
+    public TransactionLog(Path directory, int recordsPerSegment, boolean forceOnAppend, long minLastSequence) throws IOException {
+        if (recordsPerSegment < 1) {
+            throw new IllegalArgumentException("Records per segment must be positive.");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.recordsPerSegment = recordsPerSegment;
+        this.forceOnAppend = forceOnAppend;
+        this.lastSequence = minLastSequence;
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long firstSequence = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            Segment segment = Segment.open(file, firstSequence, recordsPerSegment);
+            segments.put(firstSequence, segment);
+            if (segment.count > 0) {
+                lastSequence = Math.max(lastSequence, segment.lastSequence());
+            }
+        }
+        log.info("Transaction log opened in {} with {} segments, last sequence {}", directory, segments.size(), lastSequence);
+    }
+
+    /**
+     * Appends a transaction and returns its sequence.
+     *
+     * @param customerId      the ID of the owning customer
+     * @param amountCents     the amount in cents
+     * @param transactionDate the transaction date
+     * @return the sequence assigned to the record
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized long append(long customerId, long amountCents, LocalDate transactionDate) {
+        long sequence = lastSequence + 1;
+        Segment segment = segments.isEmpty() ? null : segments.lastEntry().getValue();
+        if (segment == null || segment.count == recordsPerSegment || segment.firstSequence + segment.count != sequence) {
+            segment = createSegment(sequence);
+        }
+        segment.write(sequence, customerId, amountCents, transactionDate.toEpochDay(), forceOnAppend);
+        lastSequence = sequence;
+        return sequence;
+    }
+
+    /**
+     * Reads records following a sequence, in sequence order.
+     *
+     * @param afterSequence the sequence to read after (exclusive)
+     * @param maxRecords    the maximum number of records to return
+     * @return up to {@code maxRecords} records; empty if none follow {@code afterSequence}
+     */
+    public synchronized List<TransactionLogRecord> readAfter(long afterSequence, int maxRecords) {
+        List<TransactionLogRecord> records = new ArrayList<>();
+        Map.Entry<Long, Segment> start = segments.floorEntry(afterSequence + 1);
+        Long fromKey = start != null ? start.getKey() : segments.isEmpty() ? null : segments.firstKey();
+        if (fromKey == null) {
+            return records;
+        }
+        for (Segment segment : segments.tailMap(fromKey, true).values()) {
+            int index = (int) Math.max(0, afterSequence + 1 - segment.firstSequence);
+            for (; index < segment.count && records.size() < maxRecords; index++) {
+                records.add(segment.read(index));
+            }
+            if (records.size() == maxRecords) {
+                break;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Deletes every segment whose records all have a sequence at or below the given one, except the active segment.
+     *
+     * @param upToSequence the highest sequence that is no longer needed
+     */
+    public synchronized void release(long upToSequence) {
+        while (segments.size() > 1) {
+            Segment oldest = segments.firstEntry().getValue();
+            if (oldest.count > 0 && oldest.lastSequence() > upToSequence) {
+                return;
+            }
+            segments.pollFirstEntry();
+            oldest.delete();
+        }
+    }
+
+    /**
+     * Returns the sequence of the last appended record.
+     *
+     * @return the last sequence, or the starting point if nothing was appended
+     */
+    public synchronized long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Forces all segments to the storage device and closes them.
+     *
+     * @throws IOException if a segment cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        for (Segment segment : segments.values()) {
+            segment.close();
+        }
+        segments.clear();
+    }
+
+    private Segment createSegment(long firstSequence) {
+        try {
+            Path file = directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+            Segment segment = Segment.open(file, firstSequence, recordsPerSegment);
+            segments.put(firstSequence, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create transaction log segment", e);
+        }
+    }
+
+    /**
+     * One memory-mapped segment file.
+     */
+    private static final class Segment {
+
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final long firstSequence;
+        private final CRC32C checksum = new CRC32C();
+        private int count;
+
+        private Segment(Path file, FileChannel channel, MappedByteBuffer buffer, long firstSequence) {
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+            this.firstSequence = firstSequence;
+        }
+
+        /**
+         * Maps a segment file, creating it if absent, and counts its valid leading records.
+         */
+        static Segment open(Path file, long firstSequence, int recordsPerSegment) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_SIZE);
+            Segment segment = new Segment(file, channel, buffer, firstSequence);
+            while (segment.count < recordsPerSegment && segment.isValid(segment.count)) {
+                segment.count++;
+            }
+            segment.clearTail();
+            return segment;
+        }
+
+        long lastSequence() {
+            return firstSequence + count - 1;
+        }
+
+        void write(long sequence, long customerId, long amountCents, long epochDay, boolean force) {
+            int offset = count * RECORD_SIZE;
+            buffer.putLong(offset, sequence);
+            buffer.putLong(offset + 8, customerId);
+            buffer.putLong(offset + 16, amountCents);
+            buffer.putInt(offset + 24, (int) epochDay);
+            buffer.putInt(offset + CHECKSUM_OFFSET, checksum(offset));
+            if (force) {
+                buffer.force(offset, RECORD_SIZE);
+            }
+            count++;
+        }
+
+        TransactionLogRecord read(int index) {
+            int offset = index * RECORD_SIZE;
+            return new TransactionLogRecord(
+                    buffer.getLong(offset),
+                    buffer.getLong(offset + 8),
+                    buffer.getLong(offset + 16),
+                    LocalDate.ofEpochDay(buffer.getInt(offset + 24)));
+        }
+
+        private boolean isValid(int index) {
+            int offset = index * RECORD_SIZE;
+            return buffer.getLong(offset) == firstSequence + index && buffer.getInt(offset + CHECKSUM_OFFSET) == checksum(offset);
+        }
+
+        /**
+         * Invalidates any records after the first invalid one, so records written before a torn write
+         * cannot reappear once the slots before them are reused.
+         */
+        private void clearTail() {
+            boolean cleared = false;
+            for (int offset = count * RECORD_SIZE; offset < buffer.capacity(); offset += RECORD_SIZE) {
+                if (buffer.getLong(offset) != 0) {
+                    buffer.putLong(offset, 0);
+                    cleared = true;
+                }
+            }
+            if (cleared) {
+                buffer.force();
+            }
+        }
+
+        private int checksum(int offset) {
+            checksum.reset();
+            checksum.update(buffer.slice(offset, CHECKSUM_OFFSET));
+            return (int) checksum.getValue();
+        }
+
+        void close() throws IOException {
+            buffer.force();
+            channel.close();
+        }
+
+        /**
+         * Closes and deletes the file. The mapping itself is released when the buffer is garbage collected.
+         */
+        void delete() {
+            try {
+                channel.close();
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete drained transaction log segment {}", file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,464 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.utility.RewardRules;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains the monthly range partitions of the {@code transaction} table created by migration V8.
+ * <p>
+ * Every interval, and once on startup:
+ * <ul>
+ *     <li>Rollover: {@code p_future} is split so that a {@code pYYYYMM} partition exists for every month up to
+ *     {@code reward.partitioning.months-ahead} months from now. {@code p_future} is normally empty, so the split
+ *     moves no rows.</li>
+ *     <li>Archival: each monthly partition that ends before the retention window of
+ *     {@code reward.partitioning.retained-months} months is exchanged into {@code transaction_archive_staging},
+ *     collapsed into {@code transaction_monthly_summary} rows with the active reward rules, and merged into
+ *     {@code p_archived}. The exchange swaps the partition out without copying rows.</li>
+ * </ul>
+ * Rows dated before the window that arrive after their month was archived land in {@code p_archived} and are
+ * summarized on the next run. Summarizing the staging table and clearing it is one database transaction, so an
+ * interrupted run is completed by the next one without counting any row twice. The ledger keeps the points of
+ * archived months; only views built from individual transactions lose them, so those views reject ranges that
+ * start {@linkplain #requireRetained(LocalDate) before the retention window}.
+ * <p>
+ * Each run holds a MySQL user lock, so only one application instance maintains the partitions at a time.
+ * Maintenance is skipped when {@code reward.partitioning.enabled} is false or the database is not MySQL.
+ */
+@Component
+@Slf4j
+public class TransactionPartitionManager implements SmartLifecycle {
+
+    /** Partition holding every row before the first monthly partition. */
+    static final String ARCHIVED_PARTITION = "p_archived";
+
+    /** Catch-all partition after the last monthly partition. */
+    static final String FUTURE_PARTITION = "p_future";
+
+    /** Name of the partition of one month, e.g. {@code p202507}. */
+    private static final DateTimeFormatter MONTHLY_PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    /** Matches the names of monthly partitions. */
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("p\\d{6}");
+
+    /** Lists the partitions of the transaction table in range order; one row with a null name if it is not partitioned. */
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+            FROM information_schema.PARTITIONS
+            WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'transaction'
+            ORDER BY PARTITION_ORDINAL_POSITION
+            """;
+
+    /** Name of the MySQL user lock held for the whole maintenance run. */
+    static final String MAINTENANCE_LOCK = "reward.transaction_partitions";
+
+    /** Takes the maintenance lock without waiting; returns 1 if it was acquired. */
+    private static final String ACQUIRE_LOCK_SQL = "SELECT GET_LOCK('" + MAINTENANCE_LOCK + "', 0)";
+
+    /** Releases the maintenance lock. */
+    private static final String RELEASE_LOCK_SQL = "SELECT RELEASE_LOCK('" + MAINTENANCE_LOCK + "')";
+
+    /** Checks whether late rows have arrived in the archived partition. */
+    private static final String HAS_ARCHIVED_ROWS_SQL =
+            "SELECT EXISTS (SELECT 1 FROM transaction PARTITION (" + ARCHIVED_PARTITION + "))";
+
+    /** Reads the rows exchanged out of the transaction table. */
+    private static final String STAGED_ROWS_SQL =
+            "SELECT customer_id, amount_cents, transaction_date FROM transaction_archive_staging";
+
+    /** Adds summarized rows to a customer's archived month. */
+    private static final String ADD_SUMMARY_SQL = """
+            INSERT INTO transaction_monthly_summary (customer_id, month_start, transaction_count, amount_cents, points)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE transaction_count = transaction_count + VALUES(transaction_count),
+                                    amount_cents = amount_cents + VALUES(amount_cents),
+                                    points = points + VALUES(points)
+            """;
+
+    /** Empties the staging table in the same database transaction as the summary upsert. */
+    private static final String CLEAR_STAGING_SQL = "DELETE FROM transaction_archive_staging";
+
+    /** JDBC access for the partition DDL and the staging table. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Runs each summary upsert together with clearing the staging table. */
+    private final TransactionTemplate transactionTemplate;
+
+    /** Scores the archived transactions. */
+    private final RewardRuleEngine rewardRuleEngine;
+
+    /** Ledger whose rebuilds are held back while rows are being archived. */
+    private final RewardLedgerService rewardLedgerService;
+
+    /** Cached summaries, dropped once archived transactions have left the table. */
+    private final RewardSummaryCache rewardSummaryCache;
+
+    /** Number of months, counted back from the current one, kept in the transaction table; 0 disables archival. */
+    private final int retainedMonths;
+
+    /** Number of months after the current one that get a partition in advance. */
+    private final int monthsAhead;
+
+    /** Time between two maintenance runs. */
+    private final Duration checkInterval;
+
+    /** Whether the partitions are maintained at all. */
+    private final boolean enabled;
+
+    /** Runs the maintenance while started; stays {@code null} if maintenance is skipped. */
+    private ScheduledExecutorService scheduler;
+
+    /** Whether maintenance was scheduled, i.e. months before the retention window are being archived. */
+    private volatile boolean maintained;
+
+    /**
+     * One partition of the transaction table.
+     *
+     * @param name       the partition name
+     * @param upperBound the exclusive upper bound of its dates, or {@code null} for {@code MAXVALUE}
+     */
+    record Partition(String name, LocalDate upperBound) {
+    }
+
+    /**
+     * The changes one maintenance run makes.
+     *
+     * @param monthsToAdd         months that need a new partition, in order
+     * @param partitionsToArchive monthly partitions ending before the retention window, oldest first
+     */
+    record Plan(List<YearMonth> monthsToAdd, List<Partition> partitionsToArchive) {
+    }
+
+    /**
+     * Identifies one customer's month in the archive summary.
+     */
+    private record CustomerMonth(Long customerId, LocalDate monthStart) {
+    }
+
+    /**
+     * Running totals of one customer's month while the staging table is read.
+     */
+    private static final class Totals {
+        private int count;
+        private long amountCents;
+        private int points;
+    }
+
+    /**
+     * Creates the manager; the first run starts with the application.
+     *
+     * @param jdbcTemplate        JDBC access for the partition DDL and the staging table
+     * @param transactionTemplate runs each summary upsert in a transaction
+     * @param rewardRuleEngine    source of the rules archived transactions are scored with
+     * @param rewardLedgerService ledger whose rebuilds are held back while rows are being archived
+     * @param rewardSummaryCache  cached summaries, dropped after archival
+     * @param retainedMonths      number of months kept in the transaction table; 0 disables archival
+     * @param monthsAhead         number of months after the current one that get a partition in advance
+     * @param checkInterval       time between two maintenance runs
+     * @param enabled             whether the partitions are maintained at all
+     */
+    public TransactionPartitionManager(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                       RewardRuleEngine rewardRuleEngine, RewardLedgerService rewardLedgerService,
+                                       RewardSummaryCache rewardSummaryCache,
+                                       @Value("${reward.partitioning.retained-months:24}") int retainedMonths,
+                                       @Value("${reward.partitioning.months-ahead:3}") int monthsAhead,
+                                       @Value("${reward.partitioning.check-interval:1h}") Duration checkInterval,
+                                       @Value("${reward.partitioning.enabled:true}") boolean enabled) {
+        if (retainedMonths < 0) {
+            throw new IllegalArgumentException("reward.partitioning.retained-months must not be negative");
+        }
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("reward.partitioning.months-ahead must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.rewardRuleEngine = rewardRuleEngine;
+        this.rewardLedgerService = rewardLedgerService;
+        this.rewardSummaryCache = rewardSummaryCache;
+        this.retainedMonths = retainedMonths;
+        this.monthsAhead = monthsAhead;
+        this.checkInterval = checkInterval;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Rejects a range whose transactions may already have been archived.
+     * <p>
+     * Months before the retention window lose their individual transactions once archived, so views built from
+     * transactions would silently miss them; their points remain available from the reward ledger.
+     *
+     * @param startDate the start date of the requested range
+     * @throws IllegalArgumentException if the range starts before the retention window while archival is active
+     */
+    public void requireRetained(LocalDate startDate) {
+        if (!maintained || retainedMonths == 0) {
+            return;
+        }
+        LocalDate retainedFrom = retainedFrom(YearMonth.now(), retainedMonths);
+        if (startDate.isBefore(retainedFrom)) {
+            throw new IllegalArgumentException("Transactions before " + retainedFrom
+                    + " are archived; only their points are available, e.g. with view=summary.");
+        }
+    }
+
+    /**
+     * Adds the partitions of upcoming months and archives the partitions of months before the retention window.
+     * <p>
+     * Runs only while holding the {@value #MAINTENANCE_LOCK} database lock, so that several application instances
+     * never change the partitions or summarize the staging table at the same time. If another instance holds it,
+     * this run is skipped. The lock lives on its own connection and is released if that connection is lost.
+     */
+    public void maintain() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!queryLockResult(connection, ACQUIRE_LOCK_SQL)) {
+                log.info("Transaction partitions are being maintained by another instance; skipping this run");
+                return null;
+            }
+            try {
+                maintainLocked();
+            } finally {
+                queryLockResult(connection, RELEASE_LOCK_SQL);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Runs the maintenance once the database lock is held.
+     */
+    private void maintainLocked() {
+        List<Partition> partitions = listPartitions();
+        if (partitions.isEmpty()) {
+            log.warn("The transaction table is not partitioned; skipping partition maintenance");
+            return;
+        }
+
+        Plan plan = plan(partitions, YearMonth.now(), monthsAhead, retainedMonths);
+        if (!plan.monthsToAdd().isEmpty()) {
+            addPartitions(plan.monthsToAdd());
+        }
+        if (retainedMonths > 0) {
+            archive(plan.partitionsToArchive());
+        }
+    }
+
+    /**
+     * Works out which partitions to add and which to archive.
+     *
+     * @param partitions     the current partitions in range order
+     * @param currentMonth   the current month
+     * @param monthsAhead    number of months after the current one that must have a partition
+     * @param retainedMonths number of months kept in the transaction table; 0 archives nothing
+     * @return the {@link Plan}
+     */
+    static Plan plan(List<Partition> partitions, YearMonth currentMonth, int monthsAhead, int retainedMonths) {
+        List<Partition> monthly = partitions.stream()
+                .filter(partition -> MONTHLY_PARTITION.matcher(partition.name()).matches())
+                .toList();
+        LocalDate nextBound = monthly.isEmpty()
+                ? partitions.get(0).upperBound()
+                : monthly.get(monthly.size() - 1).upperBound();
+
+        List<YearMonth> monthsToAdd = new ArrayList<>();
+        YearMonth lastMonth = currentMonth.plusMonths(monthsAhead);
+        for (YearMonth month = YearMonth.from(nextBound); !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            monthsToAdd.add(month);
+        }
+
+        List<Partition> partitionsToArchive = List.of();
+        if (retainedMonths > 0) {
+            LocalDate retainedFrom = retainedFrom(currentMonth, retainedMonths);
+            partitionsToArchive = monthly.stream()
+                    .filter(partition -> !partition.upperBound().isAfter(retainedFrom))
+                    .toList();
+        }
+        return new Plan(monthsToAdd, partitionsToArchive);
+    }
+
+    /**
+     * Returns the first day kept in the transaction table.
+     *
+     * @param currentMonth   the current month
+     * @param retainedMonths number of months kept in the transaction table, at least 1
+     * @return the first day of the oldest retained month
+     */
+    static LocalDate retainedFrom(YearMonth currentMonth, int retainedMonths) {
+        return currentMonth.minusMonths(retainedMonths - 1L).atDay(1);
+    }
+
+    /**
+     * Splits {@code p_future} into a partition per month plus a new, empty {@code p_future}.
+     */
+    private void addPartitions(List<YearMonth> months) {
+        String monthlyPartitions = months.stream()
+                .map(month -> "PARTITION " + month.format(MONTHLY_PARTITION_NAME)
+                        + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')")
+                .collect(Collectors.joining(", "));
+        jdbcTemplate.execute("ALTER TABLE transaction REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                + monthlyPartitions + ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        log.info("Added transaction partitions for {} to {}", months.get(0), months.get(months.size() - 1));
+    }
+
+    /**
+     * Summarizes late rows and expired monthly partitions, then folds the partitions into {@code p_archived}.
+     */
+    private void archive(List<Partition> expired) {
+        long[] archived = {0};
+        rewardLedgerService.runExclusiveOfRebuild(() -> {
+            archived[0] += summarizeStaged();
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_ARCHIVED_ROWS_SQL, Boolean.class))) {
+                exchange(ARCHIVED_PARTITION);
+                archived[0] += summarizeStaged();
+            }
+            for (Partition partition : expired) {
+                exchange(partition.name());
+                archived[0] += summarizeStaged();
+                jdbcTemplate.execute("ALTER TABLE transaction REORGANIZE PARTITION " + ARCHIVED_PARTITION + ", "
+                        + partition.name() + " INTO (PARTITION " + ARCHIVED_PARTITION
+                        + " VALUES LESS THAN ('" + partition.upperBound() + "'))");
+                log.info("Archived transaction partition {}", partition.name());
+            }
+        });
+        if (archived[0] > 0) {
+            rewardSummaryCache.invalidateAll();
+            log.info("Archived {} transactions into transaction_monthly_summary", archived[0]);
+        }
+    }
+
+    /**
+     * Swaps a partition's rows with the empty staging table.
+     */
+    private void exchange(String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE transaction EXCHANGE PARTITION " + partitionName
+                + " WITH TABLE transaction_archive_staging");
+    }
+
+    /**
+     * Adds the staged rows to the archive summary and clears the staging table, in one database transaction.
+     *
+     * @return the number of rows summarized
+     */
+    private long summarizeStaged() {
+        Long rows = transactionTemplate.execute(status -> {
+            RewardRules rules = rewardRuleEngine.current();
+            Map<CustomerMonth, Totals> totals = new HashMap<>();
+            long[] count = {0};
+            jdbcTemplate.query(STAGED_ROWS_SQL, rs -> {
+                LocalDate date = rs.getDate("transaction_date").toLocalDate();
+                long amountCents = rs.getLong("amount_cents");
+                Totals month = totals.computeIfAbsent(
+                        new CustomerMonth(rs.getLong("customer_id"), date.withDayOfMonth(1)), key -> new Totals());
+                month.count++;
+                month.amountCents += amountCents;
+                month.points += rules.points(amountCents, date);
+                count[0]++;
+            });
+            if (totals.isEmpty()) {
+                return 0L;
+            }
+
+            List<Object[]> batchArgs = new ArrayList<>(totals.size());
+            totals.forEach((key, month) -> batchArgs.add(new Object[]{
+                    key.customerId(), Date.valueOf(key.monthStart()), month.count, month.amountCents, month.points}));
+            jdbcTemplate.batchUpdate(ADD_SUMMARY_SQL, batchArgs);
+            jdbcTemplate.update(CLEAR_STAGING_SQL);
+            return count[0];
+        });
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * Reads the current partitions, or an empty list if the table is not partitioned.
+     */
+    private List<Partition> listPartitions() {
+        List<Partition> partitions = jdbcTemplate.query(LIST_PARTITIONS_SQL, (rs, rowNum) -> {
+            String name = rs.getString("PARTITION_NAME");
+            String description = rs.getString("PARTITION_DESCRIPTION");
+            return name == null ? null : new Partition(name, parseUpperBound(description));
+        });
+        return partitions.stream().filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Runs a {@code GET_LOCK}/{@code RELEASE_LOCK} query on the given connection.
+     *
+     * @return whether the query returned 1
+     */
+    private static boolean queryLockResult(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() && rs.getInt(1) == 1;
+        }
+    }
+
+    /**
+     * Parses a range bound such as {@code '2025-07-01'}; {@code MAXVALUE} yields {@code null}.
+     */
+    static LocalDate parseUpperBound(String description) {
+        String bound = description.replace("'", "").trim();
+        return "MAXVALUE".equalsIgnoreCase(bound) ? null : LocalDate.parse(bound);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            log.info("Transaction partition maintenance is disabled");
+            return;
+        }
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            log.info("Skipping transaction partition maintenance; it requires MySQL, not {}", product);
+            return;
+        }
+        maintained = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("transaction-partition-manager").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::maintainSafely, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * Keeps the schedule alive if a run fails, e.g. while the database is unreachable.
+     */
+    private void maintainSafely() {
+        try {
+            maintain();
+        } catch (RuntimeException e) {
+            log.error("Transaction partition maintenance failed", e);
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.exception.PendingWritesTimeoutException;
+import com.kubertech.rewardsystem.model.Customer;
+import com.kubertech.rewardsystem.model.Transaction;
+import com.kubertech.rewardsystem.model.TransactionLogRecord;
+import com.kubertech.rewardsystem.repository.CustomerRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Optional write-behind path for single transactions, enabled with {@code reward.write-behind.enabled=true}.
+ * <p>
+ * Accepted transactions are appended to a durable {@link TransactionLog} and acknowledged without touching
+ * the database. A background thread drains the log in batches through
+ * {@link TransactionIngestionService#store(List)}, and advances the {@code transaction_log_checkpoint} row in
+ * the same database transaction, so every record is stored exactly once. On startup, records after the
+ * checkpoint are replayed.
+ * <p>
+ * Reads get read-your-writes consistency through {@link #awaitVisible(Collection)} and
+ * {@link #awaitAllVisible()}, which wait until the transactions accepted so far for the customers in question
+ * are stored. Only customers with pending writes wait. Transactions of unknown customers are dropped when
+ * drained and counted in {@code reward.write-behind.rejected}.
+ * <p>
+ * When disabled, no log is opened and the visibility methods return immediately.
+ */
+@Service
+@Slf4j
+public class WriteBehindTransactionService implements SmartLifecycle {
+
+    /** Reads the last stored log sequence. */
+    private static final String READ_CHECKPOINT_SQL = "SELECT last_sequence FROM transaction_log_checkpoint WHERE id = 1";
+
+    /** Advances the last stored log sequence; runs in the same database transaction as the drained batch. */
+    private static final String UPDATE_CHECKPOINT_SQL = "UPDATE transaction_log_checkpoint SET last_sequence = ? WHERE id = 1";
+
+    /** How long the drainer sleeps when the log is empty and no new transaction arrives. */
+    private static final long IDLE_WAIT_MILLIS = 1000;
+
+    /** How long the drainer waits before retrying a batch that failed, e.g. because the database is down. */
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    /** A future that is already complete, returned when nothing needs to be waited for. */
+    private static final CompletableFuture<Void> VISIBLE = CompletableFuture.completedFuture(null);
+
+    /** Repository used to validate the customers of a drained batch with one query. */
+    private final CustomerRepository customerRepository;
+
+    /** Service storing drained batches with batched inserts and ledger updates. */
+    private final TransactionIngestionService transactionIngestionService;
+
+    /** JDBC access used for the checkpoint. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Runs each drained batch and its checkpoint update in one database transaction. */
+    private final TransactionTemplate transactionTemplate;
+
+    /** Whether write-behind is enabled. */
+    private final boolean enabled;
+
+    /** Directory of the log segment files. */
+    private final Path directory;
+
+    /** Number of records per log segment file. */
+    private final int segmentRecords;
+
+    /** Whether every append is forced to the storage device before it is acknowledged. */
+    private final boolean forceOnAppend;
+
+    /** Maximum number of transactions stored per database transaction. */
+    private final int batchSize;
+
+    /** How long a read waits for pending transactions to be stored. */
+    private final Duration readTimeout;
+
+    /** Counter of drained transactions dropped because their customer does not exist. */
+    private final Counter rejected;
+
+    /** Highest pending log sequence per customer. */
+    private final Map<Long, Long> pendingByCustomer = new ConcurrentHashMap<>();
+
+    /** Futures of waiting reads, by the log sequence they wait for. */
+    private final ConcurrentNavigableMap<Long, CompletableFuture<Void>> waiters = new ConcurrentSkipListMap<>();
+
+    /** Wakes the drainer when a transaction is appended. */
+    private final Semaphore wakeUp = new Semaphore(0);
+
+    /** The open log while running. */
+    private volatile TransactionLog transactionLog;
+
+    /** Highest log sequence stored in the database. */
+    private volatile long drainedSequence;
+
+    /** Whether the drainer should keep running. */
+    private volatile boolean running;
+
+    /** The background drainer thread. */
+    private Thread drainer;
+
+    /**
+     * Creates the service with the configured log and batching settings.
+     *
+     * @param customerRepository          repository used to validate customers of drained transactions
+     * @param transactionIngestionService service storing drained batches
+     * @param jdbcTemplate                JDBC access used for the checkpoint
+     * @param transactionTemplate         runs each drained batch in one database transaction
+     * @param meterRegistry               registry the backlog and rejection metrics are published to
+     * @param enabled                     whether write-behind is enabled
+     * @param directory                   directory of the log segment files
+     * @param segmentRecords              number of records per log segment file
+     * @param forceOnAppend               whether every append is forced to the storage device
+     * @param batchSize                   maximum number of transactions stored per database transaction
+     * @param readTimeout                 how long a read waits for pending transactions to be stored
+     */
+    public WriteBehindTransactionService(CustomerRepository customerRepository,
+                                         TransactionIngestionService transactionIngestionService,
+                                         JdbcTemplate jdbcTemplate,
+                                         TransactionTemplate transactionTemplate,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${reward.write-behind.enabled:false}") boolean enabled,
+                                         @Value("${reward.write-behind.directory:data/transaction-log}") Path directory,
+                                         @Value("${reward.write-behind.segment-records:1048576}") int segmentRecords,
+                                         @Value("${reward.write-behind.force-on-append:true}") boolean forceOnAppend,
+                                         @Value("${reward.write-behind.batch-size:1000}") int batchSize,
+                                         @Value("${reward.write-behind.read-timeout:5s}") Duration readTimeout) {
+        this.customerRepository = customerRepository;
+        this.transactionIngestionService = transactionIngestionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.forceOnAppend = forceOnAppend;
+        this.batchSize = batchSize;
+        this.readTimeout = readTimeout;
+        this.rejected = Counter.builder("reward.write-behind.rejected")
+                .description("Write-behind transactions dropped because their customer does not exist")
+                .register(meterRegistry);
+        Gauge.builder("reward.write-behind.backlog", this, WriteBehindTransactionService::backlog)
+                .description("Accepted write-behind transactions not yet stored in the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether transactions should be accepted through this service.
+     *
+     * @return {@code true} if write-behind is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Appends a transaction to the durable log and wakes the drainer.
+     * <p>
+     * The customer is not looked up; transactions of unknown customers are dropped when drained.
+     *
+     * @param transaction the validated transaction to accept
+     * @return the log sequence assigned to the transaction
+     * @throws IllegalArgumentException if the customer ID is missing
+     * @throws IllegalStateException    if write-behind is not running
+     */
+    public long accept(Transaction transaction) {
+        if (transaction.getCustomer() == null || transaction.getCustomer().getId() == null) {
+            throw new IllegalArgumentException("Customer ID must be provided");
+        }
+        TransactionLog log = transactionLog;
+        if (!running || log == null) {
+            throw new IllegalStateException("Write-behind transaction log is not running.");
+        }
+        Long customerId = transaction.getCustomer().getId();
+        long sequence = log.append(customerId, transaction.getAmountCents(), transaction.getTransactionDate());
+        pendingByCustomer.merge(customerId, sequence, Math::max);
+        if (sequence <= drainedSequence) {
+            pendingByCustomer.remove(customerId, sequence);
+        }
+        wakeUp.release();
+        return sequence;
+    }
+
+    /**
+     * Waits until every transaction accepted so far for the given customers is stored in the database.
+     *
+     * @param customerIds the customers about to be read
+     * @throws PendingWritesTimeoutException if the transactions are not stored within the read timeout
+     */
+    public void awaitVisible(Collection<Long> customerIds) {
+        await(whenVisible(customerIds));
+    }
+
+    /**
+     * Waits until every transaction accepted so far is stored in the database.
+     *
+     * @throws PendingWritesTimeoutException if the transactions are not stored within the read timeout
+     */
+    public void awaitAllVisible() {
+        await(whenAllVisible());
+    }
+
+    /**
+     * Returns a future completing once every transaction accepted so far for the given customers is stored.
+     *
+     * @param customerIds the customers about to be read
+     * @return a future that completes normally, or fails with {@link PendingWritesTimeoutException}
+     */
+    public CompletableFuture<Void> whenVisible(Collection<Long> customerIds) {
+        if (pendingByCustomer.isEmpty()) {
+            return VISIBLE;
+        }
+        long target = 0;
+        for (Long customerId : customerIds) {
+            target = Math.max(target, pendingByCustomer.getOrDefault(customerId, 0L));
+        }
+        return visible(target);
+    }
+
+    /**
+     * Returns a future completing once every transaction accepted so far is stored.
+     *
+     * @return a future that completes normally, or fails with {@link PendingWritesTimeoutException}
+     */
+    public CompletableFuture<Void> whenAllVisible() {
+        TransactionLog log = transactionLog;
+        return log == null ? VISIBLE : visible(log.lastSequence());
+    }
+
+    /**
+     * Opens the log, replays records that were accepted but not stored before the last shutdown,
+     * and starts the drainer.
+     */
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        long checkpoint = jdbcTemplate.queryForObject(READ_CHECKPOINT_SQL, Long.class);
+        try {
+            transactionLog = new TransactionLog(directory, segmentRecords, forceOnAppend, checkpoint);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open write-behind transaction log in " + directory, e);
+        }
+        drainedSequence = checkpoint;
+
+        long recovered = 0;
+        List<TransactionLogRecord> records;
+        for (long after = checkpoint; !(records = transactionLog.readAfter(after, batchSize)).isEmpty();
+             after = records.get(records.size() - 1).sequence()) {
+            for (TransactionLogRecord record : records) {
+                pendingByCustomer.merge(record.customerId(), record.sequence(), Math::max);
+            }
+            recovered += records.size();
+        }
+        log.info("Write-behind enabled: stored up to sequence {}, {} transactions to replay", checkpoint, recovered);
+
+        running = true;
+        drainer = Thread.ofPlatform().name("transaction-log-drainer").daemon().start(this::drainLoop);
+    }
+
+    /**
+     * Stops the drainer after its current batch and closes the log. Records not yet stored stay
+     * in the log and are replayed on the next start.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        wakeUp.release();
+        try {
+            drainer.join(TimeUnit.SECONDS.toMillis(30));
+            transactionLog.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Could not close write-behind transaction log", e);
+        }
+        log.info("Write-behind stopped at sequence {} of {}", drainedSequence, transactionLog.lastSequence());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before the web server so no request is accepted before recovery completes.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    /**
+     * Drains the log until stopped, sleeping while it is empty and backing off after failures.
+     */
+    private void drainLoop() {
+        while (running) {
+            try {
+                if (drainBatch() == 0) {
+                    wakeUp.tryAcquire(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                    wakeUp.drainPermits();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Draining the write-behind transaction log failed after sequence {}; retrying", drainedSequence, e);
+                try {
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores the next batch of records and advances the checkpoint in one database transaction,
+     * then releases the reads waiting for them.
+     *
+     * @return the number of records drained
+     */
+    int drainBatch() {
+        List<TransactionLogRecord> records = transactionLog.readAfter(drainedSequence, batchSize);
+        if (records.isEmpty()) {
+            return 0;
+        }
+        long lastSequence = records.get(records.size() - 1).sequence();
+
+        Set<Long> existingIds = customerRepository.findExistingIds(
+                records.stream().map(TransactionLogRecord::customerId).collect(Collectors.toSet()));
+        List<Transaction> accepted = new ArrayList<>(records.size());
+        for (TransactionLogRecord record : records) {
+            if (existingIds.contains(record.customerId())) {
+                accepted.add(toTransaction(record));
+            } else {
+                rejected.increment();
+                log.warn("Dropping write-behind transaction {}: customer {} not found", record.sequence(), record.customerId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!accepted.isEmpty()) {
+                transactionIngestionService.store(accepted);
+            }
+            jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, lastSequence);
+        });
+
+        drainedSequence = lastSequence;
+        for (TransactionLogRecord record : records) {
+            pendingByCustomer.remove(record.customerId(), record.sequence());
+        }
+        ConcurrentNavigableMap<Long, CompletableFuture<Void>> released = waiters.headMap(lastSequence, true);
+        released.values().forEach(future -> future.complete(null));
+        released.clear();
+        transactionLog.release(lastSequence);
+        return records.size();
+    }
+
+    /**
+     * Returns a future completing once the given sequence is stored, failing after the read timeout.
+     */
+    private CompletableFuture<Void> visible(long sequence) {
+        if (sequence <= drainedSequence) {
+            return VISIBLE;
+        }
+        CompletableFuture<Void> future = waiters.computeIfAbsent(sequence, key -> new CompletableFuture<>());
+        if (sequence <= drainedSequence) {
+            future.complete(null);
+            waiters.remove(sequence, future);
+        }
+        return future.copy()
+                .orTimeout(readTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    throw new PendingWritesTimeoutException("Recently accepted transactions are not stored yet. Please retry later.");
+                });
+    }
+
+    /**
+     * Blocks on a visibility future, rethrowing its failure unwrapped.
+     */
+    private static void await(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of accepted transactions not yet stored.
+     */
+    private double backlog() {
+        TransactionLog log = transactionLog;
+        return log == null ? 0 : log.lastSequence() - drainedSequence;
+    }
+
+    private static Transaction toTransaction(TransactionLogRecord record) {
+        return Transaction.builder()
+                .amountCents(record.amountCents())
+                .transactionDate(record.transactionDate())
+                .customer(Customer.builder().id(record.customerId()).build())
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.kubertech.rewardsystem.utility;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Reads a JSON decimal amount, e.g. {@code 120.5} or {@code "120.50"}, into whole cents.
+ * <p>
+ * The value is parsed exactly from its text without passing through {@code double}. Amounts with
+ * fractions of a cent are rejected rather than rounded.
+ */
+public class CentsDeserializer extends JsonDeserializer<Long> {
+
+    @Override
+    public Long deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        BigDecimal amount;
+        if (parser.hasToken(JsonToken.VALUE_NUMBER_INT) || parser.hasToken(JsonToken.VALUE_NUMBER_FLOAT)) {
+            amount = parser.getDecimalValue();
+        } else if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            try {
+                amount = new BigDecimal(parser.getText().trim());
+            } catch (NumberFormatException e) {
+                throw new InvalidFormatException(parser, "Amount is not a number", parser.getText(), Long.class);
+            }
+        } else {
+            return (Long) context.handleUnexpectedToken(Long.class, parser);
+        }
+
+        try {
+            return amount.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new InvalidFormatException(parser, "Amount must have at most two decimal places", amount, Long.class);
+        }
+    }
+}
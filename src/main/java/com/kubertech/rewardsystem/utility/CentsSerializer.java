@@ -0,0 +1,19 @@
+package com.kubertech.rewardsystem.utility;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Writes an amount stored in cents as a JSON decimal number with two fraction digits, e.g. {@code 12050} as {@code 120.50}.
+ */
+public class CentsSerializer extends JsonSerializer<Long> {
+
+    @Override
+    public void serialize(Long amountCents, JsonGenerator generator, SerializerProvider serializers) throws IOException {
+        generator.writeNumber(BigDecimal.valueOf(amountCents, 2));
+    }
+}
@@ -0,0 +1,127 @@
+package com.kubertech.rewardsystem.utility;
+
+import com.kubertech.rewardsystem.model.MonthlyPointDTO;
+import com.kubertech.rewardsystem.model.TransactionAmount;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Utility class that aggregates transaction reward points into a monthly breakdown.
+ * <p>
+ * Points are bucketed into an {@code int[]} indexed by epoch month ({@code year * 12 + month - 1})
+ * relative to the earliest transaction, so no per-transaction keys, boxing or formatting is needed,
+ * and the buckets are emitted already in chronological order.
+ */
+public class MonthlyPointsAggregator {
+
+    /** Full English month names, indexed by {@code month - 1}. */
+    private static final String[] MONTH_NAMES = new String[12];
+
+    static {
+        for (Month month : Month.values()) {
+            MONTH_NAMES[month.ordinal()] = month.getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     * <p>
+     * Throws an {@link UnsupportedOperationException} if called.
+     */
+    private MonthlyPointsAggregator() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns the full English name of a month, e.g. "June".
+     *
+     * @param month the month of the year (1-12)
+     * @return the month name used in {@link MonthlyPointDTO}
+     */
+    public static String monthName(int month) {
+        return MONTH_NAMES[month - 1];
+    }
+
+    /**
+     * Returns the transactions ordered by date.
+     * <p>
+     * Input that is already in date order is returned as an unmodifiable view without copying;
+     * otherwise a sorted copy is made. Sorting is stable, so transactions on the same date keep their order.
+     *
+     * @param transactions the transactions to order
+     * @param <T>          the transaction type, e.g. an entity or a read model
+     * @return the transactions in ascending date order
+     */
+    public static <T extends TransactionAmount> List<T> sortByDate(List<T> transactions) {
+        for (int i = 1; i < transactions.size(); i++) {
+            if (transactions.get(i).getTransactionDate().isBefore(transactions.get(i - 1).getTransactionDate())) {
+                List<T> sorted = new ArrayList<>(transactions);
+                sorted.sort(Comparator.comparing(TransactionAmount::getTransactionDate));
+                return sorted;
+            }
+        }
+        return Collections.unmodifiableList(transactions);
+    }
+
+    /**
+     * Aggregates reward points per calendar month.
+     * <p>
+     * Every month containing at least one transaction is included, even if it earned zero points.
+     *
+     * @param transactions the transactions (or their amount/date projections) to aggregate, in any order
+     * @param rules        the reward rules used to score each transaction
+     * @return one {@link MonthlyPointDTO} per month with transactions, ordered by year and month
+     */
+    public static List<MonthlyPointDTO> aggregate(List<? extends TransactionAmount> transactions, RewardRules rules) {
+        int size = transactions.size();
+        if (size == 0) {
+            return List.of();
+        }
+
+        int minMonth = Integer.MAX_VALUE;
+        int maxMonth = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            int epochMonth = epochMonth(transactions.get(i).getTransactionDate());
+            minMonth = Math.min(minMonth, epochMonth);
+            maxMonth = Math.max(maxMonth, epochMonth);
+        }
+
+        int span = maxMonth - minMonth + 1;
+        int[] points = new int[span];
+        boolean[] present = new boolean[span];
+        int monthCount = 0;
+        for (int i = 0; i < size; i++) {
+            TransactionAmount tx = transactions.get(i);
+            int bucket = epochMonth(tx.getTransactionDate()) - minMonth;
+            points[bucket] += rules.points(tx.getAmountCents(), tx.getTransactionDate());
+            if (!present[bucket]) {
+                present[bucket] = true;
+                monthCount++;
+            }
+        }
+
+        List<MonthlyPointDTO> monthlyPoints = new ArrayList<>(monthCount);
+        for (int bucket = 0; bucket < span; bucket++) {
+            if (present[bucket]) {
+                int epochMonth = minMonth + bucket;
+                monthlyPoints.add(new MonthlyPointDTO(
+                        Math.floorDiv(epochMonth, 12), MONTH_NAMES[Math.floorMod(epochMonth, 12)], points[bucket]));
+            }
+        }
+        return monthlyPoints;
+    }
+
+    /**
+     * Converts a date to its epoch month, a continuous month counter starting at year 0.
+     */
+    private static int epochMonth(LocalDate date) {
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+}
@@ -0,0 +1,201 @@
+package com.kubertech.rewardsystem.utility;
+
+import com.kubertech.rewardsystem.model.RewardPromotion;
+import com.kubertech.rewardsystem.model.RewardTier;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable reward rule set compiled from {@link RewardTier} and {@link RewardPromotion} definitions.
+ * <p>
+ * Tiers are compiled into parallel primitive arrays of thresholds, rates and the points already earned
+ * at each threshold, so a transaction is scored with one binary search and a multiply. Promotions are
+ * compiled into epoch-day bounds and day-of-week bit masks. Evaluation never allocates, and instances
+ * can be shared freely between threads.
+ * <p>
+ * Only whole dollars earn points, so amounts in cents are truncated to dollars before the tiers apply.
+ */
+public final class RewardRules {
+
+    /** Bit mask matching every day of the week. */
+    private static final int ALL_DAYS = (1 << 7) - 1;
+
+    /** The original hard-coded rules: 1 point per dollar over 50, 2 points per dollar over 100, no promotions. */
+    public static final RewardRules DEFAULT = compile(
+            List.of(RewardTier.builder().thresholdDollars(50).pointsPerDollar(1).build(),
+                    RewardTier.builder().thresholdDollars(100).pointsPerDollar(2).build()),
+            List.of());
+
+    /** Tier thresholds in whole dollars, strictly ascending. */
+    private final long[] thresholds;
+
+    /** Points per dollar above each threshold. */
+    private final long[] rates;
+
+    /** Points earned by an amount exactly at each threshold. */
+    private final long[] pointsAtThreshold;
+
+    /** First epoch day of each promotion (inclusive). */
+    private final long[] promotionStartDays;
+
+    /** Last epoch day of each promotion (inclusive). */
+    private final long[] promotionEndDays;
+
+    /** Days of the week of each promotion, one bit per {@link DayOfWeek#ordinal()}. */
+    private final int[] promotionDayMasks;
+
+    /** Multiplier of each promotion, in percent. */
+    private final long[] promotionPercents;
+
+    private RewardRules(long[] thresholds, long[] rates, long[] pointsAtThreshold, long[] promotionStartDays,
+                        long[] promotionEndDays, int[] promotionDayMasks, long[] promotionPercents) {
+        this.thresholds = thresholds;
+        this.rates = rates;
+        this.pointsAtThreshold = pointsAtThreshold;
+        this.promotionStartDays = promotionStartDays;
+        this.promotionEndDays = promotionEndDays;
+        this.promotionDayMasks = promotionDayMasks;
+        this.promotionPercents = promotionPercents;
+    }
+
+    /**
+     * Compiles rule definitions into an evaluator.
+     *
+     * @param tiers      the tiers, in any order; an empty list earns no points
+     * @param promotions the promotions, in any order
+     * @return the compiled {@link RewardRules}
+     * @throws IllegalArgumentException if a definition is invalid
+     */
+    public static RewardRules compile(List<RewardTier> tiers, List<RewardPromotion> promotions) {
+        List<RewardTier> sortedTiers = tiers.stream()
+                .sorted(Comparator.comparingInt(RewardTier::getThresholdDollars))
+                .toList();
+        int tierCount = sortedTiers.size();
+        long[] thresholds = new long[tierCount];
+        long[] rates = new long[tierCount];
+        long[] pointsAtThreshold = new long[tierCount];
+        for (int i = 0; i < tierCount; i++) {
+            RewardTier tier = sortedTiers.get(i);
+            if (tier.getThresholdDollars() < 0 || tier.getPointsPerDollar() < 0) {
+                throw new IllegalArgumentException("Reward tier threshold and rate must not be negative.");
+            }
+            thresholds[i] = tier.getThresholdDollars();
+            rates[i] = tier.getPointsPerDollar();
+            if (i > 0) {
+                if (thresholds[i] == thresholds[i - 1]) {
+                    throw new IllegalArgumentException("Duplicate reward tier threshold: " + thresholds[i]);
+                }
+                pointsAtThreshold[i] = pointsAtThreshold[i - 1] + rates[i - 1] * (thresholds[i] - thresholds[i - 1]);
+            }
+        }
+
+        int promotionCount = promotions.size();
+        long[] startDays = new long[promotionCount];
+        long[] endDays = new long[promotionCount];
+        int[] dayMasks = new int[promotionCount];
+        long[] percents = new long[promotionCount];
+        for (int i = 0; i < promotionCount; i++) {
+            RewardPromotion promotion = promotions.get(i);
+            if (promotion.getMultiplierPercent() < 100) {
+                throw new IllegalArgumentException("Multiplier of promotion '" + promotion.getName() + "' must be at least 100 percent.");
+            }
+            startDays[i] = promotion.getStartDate() == null ? Long.MIN_VALUE : promotion.getStartDate().toEpochDay();
+            endDays[i] = promotion.getEndDate() == null ? Long.MAX_VALUE : promotion.getEndDate().toEpochDay();
+            dayMasks[i] = parseDaysOfWeek(promotion);
+            percents[i] = promotion.getMultiplierPercent();
+        }
+
+        return new RewardRules(thresholds, rates, pointsAtThreshold, startDays, endDays, dayMasks, percents);
+    }
+
+    /**
+     * Calculates the reward points of a transaction, including any promotion active on its date.
+     *
+     * @param amountCents     the value of the transaction, in cents
+     * @param transactionDate the date of the transaction
+     * @return the reward points earned
+     */
+    public int points(long amountCents, LocalDate transactionDate) {
+        long basePoints = basePoints(amountCents);
+        if (promotionPercents.length == 0 || basePoints == 0) {
+            return (int) basePoints;
+        }
+        return (int) (basePoints * multiplierPercent(transactionDate.toEpochDay(), transactionDate.getDayOfWeek()) / 100);
+    }
+
+    /**
+     * Calculates the tiered reward points of an amount, without promotions.
+     *
+     * @param amountCents the value of the transaction, in cents
+     * @return the reward points earned from the tiers alone
+     */
+    public int basePoints(long amountCents) {
+        long dollars = amountCents / 100;
+        int insertionPoint = Arrays.binarySearch(thresholds, dollars);
+        int tier = (insertionPoint >= 0 ? insertionPoint : -insertionPoint - 1) - 1;
+        if (tier < 0) {
+            return 0;
+        }
+        return (int) (pointsAtThreshold[tier] + rates[tier] * (dollars - thresholds[tier]));
+    }
+
+    /**
+     * Calculates the total reward points of many transactions.
+     * <p>
+     * A straight counted loop over primitive arrays, with no allocations per element.
+     *
+     * @param amountsCents the transaction amounts, in cents
+     * @param epochDays    the transaction dates as {@link LocalDate#toEpochDay()}, parallel to {@code amountsCents}
+     * @return the sum of the reward points of all transactions
+     */
+    public long sumPoints(long[] amountsCents, long[] epochDays) {
+        long total = 0;
+        for (int i = 0; i < amountsCents.length; i++) {
+            long basePoints = basePoints(amountsCents[i]);
+            if (promotionPercents.length > 0 && basePoints > 0) {
+                DayOfWeek dayOfWeek = DayOfWeek.of((int) Math.floorMod(epochDays[i] + 3, 7L) + 1);
+                basePoints = basePoints * multiplierPercent(epochDays[i], dayOfWeek) / 100;
+            }
+            total += basePoints;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the highest multiplier of the promotions active on a date, or 100 if none is.
+     */
+    private long multiplierPercent(long epochDay, DayOfWeek dayOfWeek) {
+        int dayBit = 1 << dayOfWeek.ordinal();
+        long percent = 100;
+        for (int i = 0; i < promotionPercents.length; i++) {
+            if (epochDay >= promotionStartDays[i] && epochDay <= promotionEndDays[i] && (promotionDayMasks[i] & dayBit) != 0) {
+                percent = Math.max(percent, promotionPercents[i]);
+            }
+        }
+        return percent;
+    }
+
+    /**
+     * Parses a promotion's comma-separated days of the week into a bit mask.
+     */
+    private static int parseDaysOfWeek(RewardPromotion promotion) {
+        String daysOfWeek = promotion.getDaysOfWeek();
+        if (daysOfWeek == null || daysOfWeek.isBlank()) {
+            return ALL_DAYS;
+        }
+        int mask = 0;
+        for (String day : daysOfWeek.split(",")) {
+            try {
+                mask |= 1 << DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)).ordinal();
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown day of week '" + day.trim() + "' in promotion '" + promotion.getName() + "'.");
+            }
+        }
+        return mask;
+    }
+}
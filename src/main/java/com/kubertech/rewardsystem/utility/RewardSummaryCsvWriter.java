@@ -0,0 +1,90 @@
+package com.kubertech.rewardsystem.utility;
+
+import com.kubertech.rewardsystem.model.MonthlyPointDTO;
+import com.kubertech.rewardsystem.model.RewardSummary;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes reward summaries over a date range as CSV, one line per customer.
+ * <p>
+ * The header is {@code customerId,customerName}, then one column per calendar month of the range
+ * (e.g. {@code 2025-04}) and finally {@code totalPoints}. Months without transactions are written as 0.
+ * Lines end with CRLF and fields are quoted per RFC 4180 where needed.
+ */
+public class RewardSummaryCsvWriter {
+
+    /** Destination of the CSV text. */
+    private final Writer writer;
+
+    /** Number of month columns. */
+    private final int monthCount;
+
+    /** Column index of each month, keyed by year and the month name used in {@link MonthlyPointDTO}. */
+    private final Map<String, Integer> columnByMonth = new HashMap<>();
+
+    /**
+     * Creates a writer for summaries over the given range and writes the header line.
+     *
+     * @param writer    the destination of the CSV text
+     * @param startDate start date of the summarized range
+     * @param endDate   end date of the summarized range
+     * @throws IOException if the header cannot be written
+     */
+    public RewardSummaryCsvWriter(Writer writer, LocalDate startDate, LocalDate endDate) throws IOException {
+        this.writer = writer;
+        StringBuilder header = new StringBuilder("customerId,customerName");
+        int column = 0;
+        for (YearMonth month = YearMonth.from(startDate); !month.isAfter(YearMonth.from(endDate)); month = month.plusMonths(1)) {
+            columnByMonth.put(key(month.getYear(), MonthlyPointsAggregator.monthName(month.getMonthValue())), column++);
+            header.append(',').append(month);
+        }
+        this.monthCount = column;
+        writer.write(header.append(",totalPoints\r\n").toString());
+    }
+
+    /**
+     * Writes the line of one customer.
+     *
+     * @param summary the customer's reward summary over the range
+     * @throws IOException if the line cannot be written
+     */
+    public void write(RewardSummary summary) throws IOException {
+        int[] points = new int[monthCount];
+        for (MonthlyPointDTO monthlyPoint : summary.getMonthlyPoints()) {
+            Integer column = columnByMonth.get(key(monthlyPoint.getYear(), monthlyPoint.getMonth()));
+            if (column != null) {
+                points[column] = monthlyPoint.getPoints();
+            }
+        }
+
+        StringBuilder line = new StringBuilder();
+        line.append(summary.getCustomerId()).append(',').append(escape(summary.getCustomerName()));
+        for (int value : points) {
+            line.append(',').append(value);
+        }
+        writer.write(line.append(',').append(summary.getTotalPoints()).append("\r\n").toString());
+    }
+
+    /**
+     * Quotes a field if it contains a separator, quote or line break.
+     */
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String key(int year, String monthName) {
+        return year + "-" + monthName;
+    }
+}
@@ -0,0 +1,19 @@
+-- --------------------------------------
+-- Initial schema, matching what ddl-auto=update produced from the baseline entities before migrations
+-- were introduced. Existing databases are baselined at this version and skip this script, so every
+-- later table belongs in its own migration.
+-- --------------------------------------
+CREATE TABLE customer (
+    id   BIGINT       NOT NULL AUTO_INCREMENT,
+    name VARCHAR(255),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE transaction (
+    id               BIGINT NOT NULL AUTO_INCREMENT,
+    amount           DOUBLE NOT NULL,
+    transaction_date DATE,
+    customer_id      BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_transaction_customer FOREIGN KEY (customer_id) REFERENCES customer (id)
+) ENGINE = InnoDB;
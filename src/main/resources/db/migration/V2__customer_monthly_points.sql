@@ -0,0 +1,14 @@
+-- --------------------------------------
+-- Monthly reward points ledger, one row per customer and month.
+-- IF NOT EXISTS because databases that ran the ledger before migrations were introduced already have
+-- the table from ddl-auto=update. Databases upgraded from the baseline get an empty ledger; start the
+-- application once with --rebuild-ledger to fill it from the transaction table.
+-- --------------------------------------
+CREATE TABLE IF NOT EXISTS customer_monthly_points (
+    id          BIGINT NOT NULL AUTO_INCREMENT,
+    customer_id BIGINT NOT NULL,
+    month_start DATE   NOT NULL,
+    points      INT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_customer_month UNIQUE (customer_id, month_start)
+) ENGINE = InnoDB;
@@ -0,0 +1,6 @@
+-- --------------------------------------
+-- Composite index for the customer/date-range transaction lookup.
+-- The trailing amount column (plus the implicit primary key) makes the range query and the
+-- monthly points aggregation index-only, so no table rows have to be read.
+-- --------------------------------------
+CREATE INDEX idx_transaction_customer_date ON transaction (customer_id, transaction_date, amount);
@@ -0,0 +1,20 @@
+-- --------------------------------------
+-- Store transaction amounts as whole cents instead of DOUBLE.
+-- Existing amounts are rounded half-up to the nearest cent via an exact DECIMAL conversion,
+-- so values stored as e.g. 100.999999 become 101.00.
+-- The covering index is rebuilt on the new column. The replacement is created before the old index
+-- is dropped, because MySQL may be using the old index to enforce the customer foreign key
+-- (fk_transaction_customer from V1, or a generated name starting with FK on databases baselined from ddl-auto).
+-- --------------------------------------
+ALTER TABLE transaction ADD COLUMN amount_cents BIGINT NOT NULL DEFAULT 0;
+
+UPDATE transaction SET amount_cents = ROUND(CAST(amount AS DECIMAL(20, 6)) * 100);
+
+CREATE INDEX idx_transaction_customer_date_cents ON transaction (customer_id, transaction_date, amount_cents);
+
+ALTER TABLE transaction
+    DROP INDEX idx_transaction_customer_date,
+    DROP COLUMN amount,
+    ALTER COLUMN amount_cents DROP DEFAULT;
+
+ALTER TABLE transaction RENAME INDEX idx_transaction_customer_date_cents TO idx_transaction_customer_date;
@@ -0,0 +1,25 @@
+-- --------------------------------------
+-- Reward rule definition, compiled into the in-memory rule engine at startup and on reload.
+-- Seeded with the tiers that used to be hard-coded: 1 point per dollar over 50, 2 per dollar over 100.
+-- --------------------------------------
+CREATE TABLE reward_tier (
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    threshold_dollars INT    NOT NULL,
+    points_per_dollar INT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_reward_tier_threshold UNIQUE (threshold_dollars)
+) ENGINE = InnoDB;
+
+CREATE TABLE reward_promotion (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    name               VARCHAR(255) NOT NULL,
+    start_date         DATE,
+    end_date           DATE,
+    days_of_week       VARCHAR(64),
+    multiplier_percent INT          NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO reward_tier (threshold_dollars, points_per_dollar) VALUES
+(50, 1),
+(100, 2);
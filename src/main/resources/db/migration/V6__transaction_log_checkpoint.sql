@@ -0,0 +1,11 @@
+-- --------------------------------------
+-- Highest write-behind log sequence stored in the transaction table. Updated in the same database
+-- transaction as each drained batch, so a restart replays exactly the records after it.
+-- --------------------------------------
+CREATE TABLE transaction_log_checkpoint (
+    id            TINYINT NOT NULL,
+    last_sequence BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO transaction_log_checkpoint (id, last_sequence) VALUES (1, 0);
@@ -0,0 +1,11 @@
+-- --------------------------------------
+-- Heartbeat written to the primary by ReplicaLagMonitor and read back from the read replica.
+-- The age of the value seen on the replica bounds its replication lag.
+-- --------------------------------------
+CREATE TABLE replica_heartbeat (
+    id             TINYINT NOT NULL,
+    beat_at_millis BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO replica_heartbeat (id, beat_at_millis) VALUES (1, 0);
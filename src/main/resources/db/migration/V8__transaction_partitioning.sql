@@ -0,0 +1,83 @@
+-- --------------------------------------
+-- Monthly range partitioning of the transaction table on transaction_date, so date-bounded reward
+-- queries only read the partitions of the months they cover.
+--
+-- MySQL requires the partitioning column in every unique key and does not support foreign keys on
+-- partitioned tables. The primary key therefore becomes (id, transaction_date); id stays AUTO_INCREMENT
+-- and unique. The customer foreign key is dropped; every write path already checks that the customer exists.
+-- Its name is looked up: V1 names it fk_transaction_customer, but databases baselined at V1 were created by
+-- ddl-auto=update, which gave it a generated name starting with FK.
+--
+-- Partitions:
+--   p_archived  rows before the first monthly partition (empty until TransactionPartitionManager archives)
+--   pYYYYMM     one per month, from the month of the oldest transaction up to the next month
+--   p_future    catch-all, split into new monthly partitions ahead of time by TransactionPartitionManager
+-- --------------------------------------
+SET @drop_customer_fk = (
+    SELECT COALESCE(CONCAT('ALTER TABLE transaction ',
+                           GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', ')),
+                    'DO 0')
+    FROM information_schema.REFERENTIAL_CONSTRAINTS
+    WHERE CONSTRAINT_SCHEMA = DATABASE()
+      AND TABLE_NAME = 'transaction'
+      AND REFERENCED_TABLE_NAME = 'customer'
+);
+
+PREPARE drop_customer_fk FROM @drop_customer_fk;
+EXECUTE drop_customer_fk;
+DEALLOCATE PREPARE drop_customer_fk;
+
+ALTER TABLE transaction
+    MODIFY transaction_date DATE NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, transaction_date);
+
+SET SESSION group_concat_max_len = 1048576;
+
+SET @first_month = (SELECT DATE_FORMAT(COALESCE(MIN(transaction_date), CURRENT_DATE), '%Y-%m-01') FROM transaction);
+
+SET @monthly_partitions = (
+    WITH RECURSIVE months (month_start) AS (
+        SELECT CAST(@first_month AS DATE)
+        UNION ALL
+        SELECT month_start + INTERVAL 1 MONTH
+        FROM months
+        WHERE month_start < CAST(DATE_FORMAT(CURRENT_DATE, '%Y-%m-01') AS DATE) + INTERVAL 1 MONTH
+    )
+    SELECT GROUP_CONCAT(CONCAT('PARTITION p', DATE_FORMAT(month_start, '%Y%m'),
+                               ' VALUES LESS THAN (''', month_start + INTERVAL 1 MONTH, ''')')
+                        ORDER BY month_start SEPARATOR ', ')
+    FROM months
+);
+
+SET @partition_ddl = CONCAT('ALTER TABLE transaction PARTITION BY RANGE COLUMNS (transaction_date) (',
+                            'PARTITION p_archived VALUES LESS THAN (''', @first_month, '''), ',
+                            @monthly_partitions, ', ',
+                            'PARTITION p_future VALUES LESS THAN (MAXVALUE))');
+
+PREPARE partition_transaction FROM @partition_ddl;
+EXECUTE partition_transaction;
+DEALLOCATE PREPARE partition_transaction;
+
+-- --------------------------------------
+-- Empty copy of the transaction table that partitions older than the retention window are exchanged
+-- into before they are summarized. EXCHANGE PARTITION requires an identical, non-partitioned table.
+-- --------------------------------------
+CREATE TABLE transaction_archive_staging LIKE transaction;
+
+ALTER TABLE transaction_archive_staging REMOVE PARTITIONING;
+
+-- --------------------------------------
+-- Compact per-customer, per-month summary of archived transactions. The points were scored with the
+-- rules active at archive time and are added back to customer_monthly_points when the ledger is rebuilt.
+-- --------------------------------------
+CREATE TABLE transaction_monthly_summary (
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    customer_id       BIGINT NOT NULL,
+    month_start       DATE   NOT NULL,
+    transaction_count INT    NOT NULL,
+    amount_cents      BIGINT NOT NULL,
+    points            INT    NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_summary_customer_month UNIQUE (customer_id, month_start)
+) ENGINE = InnoDB;
@@ -0,0 +1,47 @@
+package com.kubertech.rewardsystem;
+
+import com.kubertech.rewardsystem.repository.CustomerMonthlyPointsRepository;
+import com.kubertech.rewardsystem.repository.reactive.ReactiveCustomerRepository;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Context load test for {@link RewardPointsServiceApplication}.
+ * <p>
+ * Starts the full application context with both the R2DBC connection factory and the JDBC stack configured,
+ * against an embedded H2 database for JDBC. R2DBC connections are only opened on use, so its MySQL URL stays as is.
+ */
+@SpringBootTest
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:reward_app;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.flyway.enabled=false",
+		"reward.partitioning.enabled=false"
+})
+class RewardPointsServiceApplicationTest {
+
+	@Autowired
+	private ApplicationContext context;
+
+	/**
+	 * Verifies that the auto-configured R2DBC connection factory does not keep the JDBC data source,
+	 * and with it the JPA repositories, from being created.
+	 */
+	@Test
+	void contextLoads_withJdbcAndR2dbcDataAccess() {
+		assertNotNull(context.getBean(ConnectionFactory.class));
+		assertNotNull(context.getBean(DataSource.class));
+		assertNotNull(context.getBean(CustomerMonthlyPointsRepository.class));
+		assertNotNull(context.getBean(ReactiveCustomerRepository.class));
+	}
+}
@@ -0,0 +1,108 @@
+package com.kubertech.rewardsystem.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link CachingAuthenticationProvider}.
+ * <p>
+ * Puts the cache in front of a real {@link DaoAuthenticationProvider} whose password encoder counts
+ * its checks, standing in for an expensive hash.
+ */
+class CachingAuthenticationProviderTest {
+
+	private final AtomicInteger passwordChecks = new AtomicInteger();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private CachingAuthenticationProvider provider;
+
+	@BeforeEach
+	void setUp() {
+		DaoAuthenticationProvider verifier = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(
+				User.withUsername("admin").password("admin123").roles("USER").build()));
+		verifier.setPasswordEncoder(new CountingPasswordEncoder());
+		provider = new CachingAuthenticationProvider(verifier, 100, Duration.ofMinutes(5), meterRegistry);
+	}
+
+	/**
+	 * Verifies that repeated requests with the same credentials check the password only once.
+	 */
+	@Test
+	void authenticate_shouldVerifyPasswordOnceForRepeatedCredentials() {
+		Authentication first = provider.authenticate(request("admin", "admin123"));
+		Authentication second = provider.authenticate(request("admin", "admin123"));
+
+		assertEquals(1, passwordChecks.get());
+		assertTrue(second.isAuthenticated());
+		assertNull(second.getCredentials());
+		assertEquals(first.getName(), second.getName());
+		assertEquals(first.getAuthorities(), second.getAuthorities());
+		assertEquals(1, meterRegistry.get("cache.gets").tag("cache", CachingAuthenticationProvider.CACHE_NAME)
+				.tag("result", "hit").functionCounter().count());
+	}
+
+	/**
+	 * Verifies that failed attempts are never cached and that a wrong password is not served from the cache.
+	 */
+	@Test
+	void authenticate_shouldNotCacheFailures() {
+		provider.authenticate(request("admin", "admin123"));
+
+		assertThrows(BadCredentialsException.class, () -> provider.authenticate(request("admin", "wrong")));
+		assertThrows(BadCredentialsException.class, () -> provider.authenticate(request("admin", "wrong")));
+		assertThrows(BadCredentialsException.class, () -> provider.authenticate(request("admin", "admin1234")));
+
+		assertEquals(4, passwordChecks.get());
+	}
+
+	/**
+	 * Verifies that a zero TTL turns caching off.
+	 */
+	@Test
+	void authenticate_shouldVerifyEveryTimeWithZeroTtl() {
+		DaoAuthenticationProvider verifier = new DaoAuthenticationProvider(new InMemoryUserDetailsManager(
+				User.withUsername("admin").password("admin123").roles("USER").build()));
+		verifier.setPasswordEncoder(new CountingPasswordEncoder());
+		provider = new CachingAuthenticationProvider(verifier, 100, Duration.ZERO, new SimpleMeterRegistry());
+
+		provider.authenticate(request("admin", "admin123"));
+		provider.authenticate(request("admin", "admin123"));
+
+		assertEquals(2, passwordChecks.get());
+	}
+
+	private static UsernamePasswordAuthenticationToken request(String username, String password) {
+		return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+	}
+
+	/**
+	 * Plain-text password encoder that counts how often a password is checked.
+	 */
+	private class CountingPasswordEncoder implements PasswordEncoder {
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			return rawPassword.toString();
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			passwordChecks.incrementAndGet();
+			return rawPassword.toString().equals(encodedPassword);
+		}
+	}
+}
@@ -0,0 +1,60 @@
+package com.kubertech.rewardsystem.config;
+
+import jakarta.servlet.AsyncContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link DatabaseConcurrencyFilter}.
+ * <p>
+ * Uses a single permit and no wait, so a request is rejected exactly while another one holds the permit.
+ */
+class DatabaseConcurrencyFilterTest {
+
+	private final DatabaseConcurrencyFilter filter = new DatabaseConcurrencyFilter(1, Duration.ZERO);
+
+	/**
+	 * Verifies that a permit is released when a synchronous request returns.
+	 */
+	@Test
+	void shouldReleasePermitAfterSynchronousRequest() throws Exception {
+		assertEquals(200, filter(rewardsRequest("/api/rewards/1")).getStatus());
+		assertEquals(200, filter(rewardsRequest("/api/rewards/1")).getStatus());
+	}
+
+	/**
+	 * Verifies that a streamed response holds its permit after the first dispatch returns, until the
+	 * async request completes.
+	 */
+	@Test
+	void shouldHoldPermitUntilStreamedResponseCompletes() throws Exception {
+		MockHttpServletRequest stream = rewardsRequest("/api/rewards/stream");
+		stream.setAsyncSupported(true);
+		AsyncContext[] asyncContext = new AsyncContext[1];
+		filter.doFilter(stream, new MockHttpServletResponse(), (request, response) -> asyncContext[0] = request.startAsync());
+
+		assertEquals(503, filter(rewardsRequest("/api/rewards/1")).getStatus());
+
+		asyncContext[0].complete();
+
+		assertEquals(200, filter(rewardsRequest("/api/rewards/1")).getStatus());
+	}
+
+	private MockHttpServletResponse filter(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, (req, res) -> {
+		});
+		return response;
+	}
+
+	private static MockHttpServletRequest rewardsRequest(String path) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+		request.setServletPath(path);
+		return request;
+	}
+}
@@ -0,0 +1,72 @@
+package com.kubertech.rewardsystem.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link QueryBudgetFilter}.
+ * <p>
+ * Simulates statements through {@link QueryCountInspector} while a request is filtered and checks
+ * the recorded metrics.
+ */
+class QueryBudgetFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final QueryBudgetFilter filter = new QueryBudgetFilter(3, meterRegistry);
+
+	private final QueryCountInspector inspector = new QueryCountInspector();
+
+	/**
+	 * Verifies that a request within the budget is recorded without being flagged.
+	 */
+	@Test
+	void shouldRecordStatementsWithinBudget() throws Exception {
+		filter.doFilter(rewardsRequest(), new MockHttpServletResponse(), (request, response) -> issueStatements(3));
+
+		assertEquals(3, meterRegistry.get(QueryBudgetFilter.STATEMENTS_PER_REQUEST).summary().totalAmount());
+		assertEquals(0, meterRegistry.get(QueryBudgetFilter.OVER_BUDGET).counter().count());
+	}
+
+	/**
+	 * Verifies that a request over the budget is flagged, and that each request starts a fresh count.
+	 */
+	@Test
+	void shouldFlagRequestOverBudget() throws Exception {
+		issueStatements(10);
+
+		filter.doFilter(rewardsRequest(), new MockHttpServletResponse(), (request, response) -> issueStatements(4));
+
+		assertEquals(4, meterRegistry.get(QueryBudgetFilter.STATEMENTS_PER_REQUEST).summary().max());
+		assertEquals(1, meterRegistry.get(QueryBudgetFilter.OVER_BUDGET).counter().count());
+	}
+
+	/**
+	 * Verifies that requests outside the reward API are not measured.
+	 */
+	@Test
+	void shouldIgnoreOtherPaths() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+		request.setServletPath("/actuator/health");
+
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> issueStatements(10));
+
+		assertEquals(0, meterRegistry.get(QueryBudgetFilter.STATEMENTS_PER_REQUEST).summary().count());
+	}
+
+	private static MockHttpServletRequest rewardsRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/rewards");
+		request.setServletPath("/api/rewards");
+		return request;
+	}
+
+	private void issueStatements(int count) {
+		for (int i = 0; i < count; i++) {
+			inspector.inspect("select 1");
+		}
+	}
+}
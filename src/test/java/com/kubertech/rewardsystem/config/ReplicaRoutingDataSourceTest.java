@@ -0,0 +1,168 @@
+package com.kubertech.rewardsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link ReplicaRoutingDataSource} and {@link ReplicaLagMonitor}.
+ * <p>
+ * Uses two embedded H2 databases as primary and replica, each marked with its own name, and checks which
+ * one a transaction ends up on.
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private EmbeddedDatabase primary;
+
+	private EmbeddedDatabase replica;
+
+	private ReplicaRoutingDataSource routingDataSource;
+
+	private ReplicaLagMonitor monitor;
+
+	private TransactionTemplate readWrite;
+
+	private TransactionTemplate readOnly;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		primary = database("primary");
+		replica = database("replica");
+		routingDataSource = new ReplicaRoutingDataSource(primary, replica);
+		routingDataSource.afterPropertiesSet();
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		monitor = new ReplicaLagMonitor(routingDataSource, primary, replica, Duration.ofSeconds(5),
+				Duration.ofSeconds(1), new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() {
+		primary.shutdown();
+		replica.shutdown();
+	}
+
+	/**
+	 * Verifies that read-only transactions use the replica once it is available, while other work stays on the primary.
+	 */
+	@Test
+	void shouldRouteReadOnlyTransactionsToAvailableReplica() {
+		routingDataSource.setReplicaAvailable(true);
+
+		assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+		assertEquals("primary", readWrite.execute(status -> currentDatabase()));
+		assertEquals("primary", currentDatabase());
+	}
+
+	/**
+	 * Verifies that work pinned to the primary reads from it even while the replica is available.
+	 */
+	@Test
+	void onPrimary_shouldRouteReadOnlyTransactionsToPrimary() {
+		routingDataSource.setReplicaAvailable(true);
+
+		assertEquals("primary", ReplicaRoutingDataSource.onPrimary(() -> readOnly.execute(status -> currentDatabase())));
+		assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+	}
+
+	/**
+	 * Verifies that the replica pool enables server-side cursors, so streamed reads stay in constant memory.
+	 */
+	@Test
+	void replicaDataSource_shouldUseCursorFetch() {
+		try (HikariDataSource dataSource = new ReplicaDataSourceConfig().replicaDataSource()) {
+			assertEquals("true", dataSource.getDataSourceProperties().getProperty("useCursorFetch"));
+			assertTrue(dataSource.isReadOnly());
+		}
+	}
+
+	/**
+	 * Verifies that the replica is not used before the monitor has seen it catch up.
+	 */
+	@Test
+	void shouldRouteToPrimaryUntilReplicaIsAvailable() {
+		assertFalse(routingDataSource.isReplicaAvailable());
+		assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+	}
+
+	/**
+	 * Verifies that a stale replica heartbeat sends reads to the primary and that catching up restores the replica.
+	 */
+	@Test
+	void monitor_shouldFallBackWhileReplicaLags() {
+		routingDataSource.setReplicaAvailable(true);
+
+		monitor.check();
+
+		assertFalse(routingDataSource.isReplicaAvailable());
+		assertTrue(monitor.getLagMillis() > Duration.ofSeconds(5).toMillis());
+		assertEquals("primary", readOnly.execute(status -> currentDatabase()));
+
+		replicate();
+		monitor.check();
+
+		assertTrue(routingDataSource.isReplicaAvailable());
+		assertTrue(monitor.getLagMillis() <= Duration.ofSeconds(5).toMillis());
+		assertEquals("replica", readOnly.execute(status -> currentDatabase()));
+	}
+
+	/**
+	 * Verifies that an unreachable replica is taken out of rotation.
+	 */
+	@Test
+	void monitor_shouldFallBackWhenReplicaIsUnreachable() {
+		routingDataSource.setReplicaAvailable(true);
+		replica.shutdown();
+
+		monitor.check();
+
+		assertFalse(routingDataSource.isReplicaAvailable());
+		assertEquals(-1, monitor.getLagMillis());
+	}
+
+	private String currentDatabase() {
+		return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+	}
+
+	/**
+	 * Copies the primary heartbeat to the replica, as replication would.
+	 */
+	private void replicate() {
+		Long beat = new JdbcTemplate(primary).queryForObject("SELECT beat_at_millis FROM replica_heartbeat WHERE id = 1", Long.class);
+		new JdbcTemplate(replica).update("UPDATE replica_heartbeat SET beat_at_millis = ? WHERE id = 1", beat);
+	}
+
+	private static EmbeddedDatabase database(String name) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+				.setType(EmbeddedDatabaseType.H2)
+				.setName(name + "-" + UUID.randomUUID())
+				.build();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(16))");
+		jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+		jdbcTemplate.execute("CREATE TABLE replica_heartbeat (id TINYINT PRIMARY KEY, beat_at_millis BIGINT NOT NULL)");
+		jdbcTemplate.update("INSERT INTO replica_heartbeat (id, beat_at_millis) VALUES (1, 0)");
+		return database;
+	}
+}
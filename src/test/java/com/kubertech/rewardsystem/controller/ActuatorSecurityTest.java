@@ -0,0 +1,72 @@
+package com.kubertech.rewardsystem.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Security test class for the actuator endpoints.
+ * <p>
+ * Starts the full application with its security configuration against an embedded H2 database and checks
+ * that only the health endpoint is open without credentials.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:reward_actuator;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.flyway.enabled=false",
+		"management.health.r2dbc.enabled=false",
+		"reward.partitioning.enabled=false"
+})
+class ActuatorSecurityTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	/**
+	 * Verifies that metrics and the Prometheus scrape endpoint require authentication.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldRejectMetricsWithoutCredentials() throws Exception {
+		mockMvc.perform(get("/actuator/metrics"))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/actuator/metrics/reward.operation"))
+				.andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	/**
+	 * Verifies that metrics are served to the configured user.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldServeMetricsWithCredentials() throws Exception {
+		mockMvc.perform(get("/actuator/metrics").with(httpBasic("admin", "admin123")))
+				.andExpect(status().isOk());
+	}
+
+	/**
+	 * Verifies that the health endpoint stays open for load balancer probes.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldServeHealthWithoutCredentials() throws Exception {
+		mockMvc.perform(get("/actuator/health"))
+				.andExpect(status().isOk());
+	}
+}
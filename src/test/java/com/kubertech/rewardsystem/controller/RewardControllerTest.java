@@ -3,7 +3,13 @@ package com.kubertech.rewardsystem.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.kubertech.rewardsystem.controller.RewardController;
 import com.kubertech.rewardsystem.model.*;
+import com.kubertech.rewardsystem.service.RewardExportService;
+import com.kubertech.rewardsystem.service.RewardLeaderboard;
 import com.kubertech.rewardsystem.service.RewardService;
+import com.kubertech.rewardsystem.service.RewardSummaryCache;
+import com.kubertech.rewardsystem.exception.PendingWritesTimeoutException;
+import com.kubertech.rewardsystem.service.TransactionIngestionService;
+import com.kubertech.rewardsystem.service.WriteBehindTransactionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -13,9 +19,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +53,26 @@ class RewardControllerTest {
 	@MockitoBean
 	private RewardService rewardService;
 
+	/** Mocked bulk ingestion service injected into the controller. */
+	@MockitoBean
+	private TransactionIngestionService transactionIngestionService;
+
+	/** Mocked export service injected into the controller. */
+	@MockitoBean
+	private RewardExportService rewardExportService;
+
+	/** Mocked reward summary cache injected into the controller. */
+	@MockitoBean
+	private RewardSummaryCache rewardSummaryCache;
+
+	/** Mocked write-behind path injected into the controller; disabled unless a test enables it. */
+	@MockitoBean
+	private WriteBehindTransactionService writeBehindTransactionService;
+
+	/** Mocked in-memory leaderboard injected into the controller. */
+	@MockitoBean
+	private RewardLeaderboard rewardLeaderboard;
+
 	/** Reusable mock summary object used in various test cases. */
 	private RewardSummary mockSummary;
 
@@ -95,7 +124,7 @@ class RewardControllerTest {
 	void shouldCreateTransactionAndReturn201() throws Exception {
 		Transaction transaction = Transaction.builder()
 				.id(1001L)
-				.amount(100)
+				.amountCents(10_000)
 				.transactionDate(LocalDate.of(2025, 7, 11))
 				.customer(Customer.builder().id(1L).build())
 				.build();
@@ -147,4 +176,331 @@ class RewardControllerTest {
 				.andExpect(jsonPath("$.monthlyPoints[0].month").value("June"))
 				.andExpect(jsonPath("$.monthlyPoints[0].points").value(120));
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Tests retrieval of a keyset-paginated page of reward summaries.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldFetchRewardsSummaryPage() throws Exception {
+		RewardSummaryPage page = RewardSummaryPage.builder()
+				.summaries(List.of(mockSummary))
+				.nextAfterId(1L)
+				.build();
+		Mockito.when(rewardService.getRewardSummariesPage(0L, 1, RewardView.FULL)).thenReturn(page);
+
+		mockMvc.perform(get("/api/rewards/page").param("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.summaries", hasSize(1)))
+				.andExpect(jsonPath("$.summaries[0].customerId").value(1L))
+				.andExpect(jsonPath("$.nextAfterId").value(1L));
+	}
+
+	/**
+	 * Tests bulk ingestion of newline-delimited JSON transactions.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldIngestNdjsonTransactionsInBulk() throws Exception {
+		BulkIngestionResponse response = BulkIngestionResponse.builder()
+				.acceptedCount(2)
+				.rejectedCount(0)
+				.results(List.of(
+						BulkTransactionResult.builder().index(0).status(BulkTransactionResult.Status.ACCEPTED).build(),
+						BulkTransactionResult.builder().index(1).status(BulkTransactionResult.Status.ACCEPTED).build()))
+				.build();
+		Mockito.when(transactionIngestionService.ingest(any())).thenAnswer(invocation -> {
+			Iterator<Transaction> rows = invocation.getArgument(0);
+			int count = 0;
+			while (rows.hasNext()) {
+				rows.next();
+				count++;
+			}
+			return count == 2 ? response : null;
+		});
+
+		String ndjson = """
+				{"amount":120.0,"transactionDate":"2025-07-10","customer":{"id":1}}
+				{"amount":80.0,"transactionDate":"2025-07-11","customer":{"id":2}}
+				""";
+
+		mockMvc.perform(post("/api/rewards/transactions/bulk")
+						.contentType(MediaType.APPLICATION_NDJSON)
+						.content(ndjson))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.acceptedCount").value(2))
+				.andExpect(jsonPath("$.results", hasSize(2)));
+	}
+
+	/**
+	 * Tests that the summary view returns points only and routes to the points-only service method.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldFetchCustomerRewardSummaryInSummaryView() throws Exception {
+		Mockito.when(rewardService.getCustomerRewardPoints(eq(1L), any(), any())).thenReturn(mockSummary);
+
+		mockMvc.perform(get("/api/rewards/1")
+						.param("startDate", "2025-06-01")
+						.param("endDate", "2025-06-30")
+						.param("view", "summary"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.totalPoints").value(120))
+				.andExpect(jsonPath("$.transactions").doesNotExist());
+
+		Mockito.verify(rewardService, Mockito.never()).getCustomerRewards(any(), any(), any());
+	}
+
+	/**
+	 * Tests that an unknown view is rejected with HTTP 400.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldRejectUnknownView() throws Exception {
+		mockMvc.perform(get("/api/rewards").param("view", "compact"))
+				.andExpect(status().isBadRequest());
+	}
+
+	/**
+	 * Tests that a batch lookup returns all summaries in a single JSON response.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldFetchCustomerRewardSummariesInBatch() throws Exception {
+		Mockito.when(rewardService.getCustomerRewardsBatch(List.of(1L, 2L), LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30)))
+				.thenReturn(List.of(mockSummary));
+
+		mockMvc.perform(post("/api/rewards/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"customerIds":[1,2],"startDate":"2025-06-01","endDate":"2025-06-30"}
+								"""))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(1)))
+				.andExpect(jsonPath("$[0].customerId").value(1));
+	}
+
+	/**
+	 * Tests that a batch lookup with the start date after the end date is rejected before any work is done.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldRejectBatchWithInvalidDateRange() throws Exception {
+		mockMvc.perform(post("/api/rewards/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.accept(MediaType.APPLICATION_NDJSON)
+						.content("""
+								{"customerIds":[1],"startDate":"2025-07-01","endDate":"2025-06-30"}
+								"""))
+				.andExpect(status().isBadRequest());
+
+		Mockito.verifyNoInteractions(rewardService);
+	}
+
+	/**
+	 * Tests that a decimal amount is read into exact cents.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldReadTransactionAmountAsCents() throws Exception {
+		Mockito.when(rewardService.createTransaction(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		mockMvc.perform(post("/api/rewards/transactions")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"amount":100.99,"transactionDate":"2025-07-11","customer":{"id":1}}
+								"""))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.amount").value(100.99));
+
+		Mockito.verify(rewardService).createTransaction(Mockito.argThat(tx -> tx.getAmountCents() == 10_099));
+	}
+
+	/**
+	 * Tests that an amount with a fraction of a cent is rejected with HTTP 400.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldRejectSubCentTransactionAmount() throws Exception {
+		mockMvc.perform(post("/api/rewards/transactions")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"amount":100.999999,"transactionDate":"2025-07-11","customer":{"id":1}}
+								"""))
+				.andExpect(status().isBadRequest());
+
+		Mockito.verifyNoInteractions(rewardService);
+	}
+
+	/**
+	 * Tests that reloading the reward rules returns HTTP 204.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldReloadRewardRules() throws Exception {
+		mockMvc.perform(post("/api/rewards/rules/reload"))
+				.andExpect(status().isNoContent());
+
+		Mockito.verify(rewardService).reloadRewardRules();
+	}
+
+	/**
+	 * Tests that an invalid reward rule definition is rejected with HTTP 400.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldRejectInvalidRewardRules() throws Exception {
+		Mockito.doThrow(new IllegalArgumentException("Duplicate reward tier threshold: 50"))
+				.when(rewardService).reloadRewardRules();
+
+		mockMvc.perform(post("/api/rewards/rules/reload"))
+				.andExpect(status().isBadRequest());
+	}
+
+	/**
+	 * Tests that a transaction is acknowledged with HTTP 202 in write-behind mode without being stored synchronously.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldAcceptTransactionWithWriteBehind() throws Exception {
+		Transaction transaction = Transaction.builder()
+				.amountCents(10_000)
+				.transactionDate(LocalDate.of(2025, 7, 11))
+				.customer(Customer.builder().id(1L).build())
+				.build();
+		Mockito.when(writeBehindTransactionService.isEnabled()).thenReturn(true);
+
+		mockMvc.perform(post("/api/rewards/transactions")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(transaction)))
+				.andExpect(status().isAccepted())
+				.andExpect(jsonPath("$.amount").value(100.0));
+
+		Mockito.verify(writeBehindTransactionService).accept(Mockito.argThat(tx -> tx.getAmountCents() == 10_000));
+		Mockito.verify(rewardService, Mockito.never()).createTransaction(any());
+	}
+
+	/**
+	 * Tests that a read timing out on pending write-behind transactions returns HTTP 503.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldReturn503WhenPendingWritesTimeOut() throws Exception {
+		Mockito.when(rewardService.getCustomerRewards(eq(1L), any(), any()))
+				.thenThrow(new PendingWritesTimeoutException("Recently accepted transactions are not stored yet. Please retry later."));
+
+		mockMvc.perform(get("/api/rewards/1")
+						.param("startDate", "2025-06-01")
+						.param("endDate", "2025-06-30")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isServiceUnavailable());
+	}
+
+	/**
+	 * Tests that the quarterly leaderboard is served for the requested date and limit.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldFetchQuarterlyLeaderboard() throws Exception {
+		Mockito.when(rewardLeaderboard.top(LeaderboardPeriod.QUARTER, LocalDate.of(2025, 5, 15), 2))
+				.thenReturn(List.of(new LeaderboardEntry(1, 7L, 450), new LeaderboardEntry(2, 3L, 120)));
+
+		mockMvc.perform(get("/api/rewards/leaderboard")
+						.param("period", "quarter")
+						.param("date", "2025-05-15")
+						.param("limit", "2"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$", hasSize(2)))
+				.andExpect(jsonPath("$[0].rank").value(1))
+				.andExpect(jsonPath("$[0].customerId").value(7))
+				.andExpect(jsonPath("$[0].points").value(450));
+	}
+
+	/**
+	 * Tests that an unknown leaderboard period is rejected with HTTP 400.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldRejectUnknownLeaderboardPeriod() throws Exception {
+		mockMvc.perform(get("/api/rewards/leaderboard").param("period", "year"))
+				.andExpect(status().isBadRequest());
+
+		Mockito.verifyNoInteractions(rewardLeaderboard);
+	}
+
+	/**
+	 * Tests that the CSV export streams one line per customer with a column per month of the range.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldExportRewardSummariesAsCsv() throws Exception {
+		Mockito.doAnswer(invocation -> {
+			Consumer<RewardSummary> consumer = invocation.getArgument(3);
+			consumer.accept(mockSummary);
+			return null;
+		}).when(rewardExportService).exportRewardSummaries(eq(LocalDate.of(2025, 4, 1)), eq(LocalDate.of(2025, 6, 30)),
+				eq(RewardView.SUMMARY), any());
+
+		MvcResult result = mockMvc.perform(get("/api/rewards/export")
+						.param("startDate", "2025-04-01")
+						.param("endDate", "2025-06-30"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+				.andExpect(content().string(
+						"customerId,customerName,2025-04,2025-05,2025-06,totalPoints\r\n1,Test User,0,0,120,120\r\n"));
+	}
+
+	/**
+	 * Tests that an export with the start date after the end date is rejected with HTTP 400 before streaming.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldRejectExportWithInvalidDateRange() throws Exception {
+		mockMvc.perform(get("/api/rewards/export")
+						.param("startDate", "2025-07-01")
+						.param("endDate", "2025-06-30")
+						.param("format", "ndjson"))
+				.andExpect(status().isBadRequest());
+
+		Mockito.verifyNoInteractions(rewardExportService);
+	}
+
+	/**
+	 * Tests that an export reaching into archived months is rejected with HTTP 400 before streaming.
+	 *
+	 * @throws Exception if the request fails
+	 */
+	@Test
+	void shouldRejectExportOfArchivedMonths() throws Exception {
+		Mockito.doThrow(new IllegalArgumentException("Transactions before 2024-07-01 are archived"))
+				.when(rewardExportService).requireRetained(LocalDate.of(2024, 1, 1));
+
+		mockMvc.perform(get("/api/rewards/export")
+						.param("startDate", "2024-01-01")
+						.param("endDate", "2025-06-30"))
+				.andExpect(request().asyncNotStarted())
+				.andExpect(status().isBadRequest());
+
+		Mockito.verify(rewardExportService, Mockito.never()).exportRewardSummaries(any(), any(), any(), any());
+	}
+}
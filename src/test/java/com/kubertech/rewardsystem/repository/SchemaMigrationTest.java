@@ -0,0 +1,100 @@
+package com.kubertech.rewardsystem.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migration test class for the Flyway scripts in {@code db/migration}.
+ * <p>
+ * The scripts use MySQL-only statements (prepared DDL, partitioning), so they run against a MySQL container.
+ * Skipped when no Docker daemon is available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SchemaMigrationTest {
+
+	@Container
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.4");
+
+	private JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Starts every test from an empty schema.
+	 */
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword()));
+		flyway().clean();
+	}
+
+	/**
+	 * Verifies that a new database receives every migration, in version order.
+	 */
+	@Test
+	void migrate_shouldApplyAllMigrationsInOrderOnEmptyDatabase() {
+		MigrateResult result = flyway().migrate();
+
+		assertEquals(List.of("1", "2", "3", "4", "5", "6", "7", "8"),
+				result.migrations.stream().map(migration -> migration.version).toList());
+		assertTrue(tableExists("customer_monthly_points"));
+		assertTrue(tableExists("transaction_monthly_summary"));
+	}
+
+	/**
+	 * Verifies that a database created by ddl-auto=update from the baseline entities is baselined at
+	 * version 1 and still receives the ledger table and the later migrations.
+	 */
+	@Test
+	void migrate_shouldUpgradeDatabaseBaselinedFromDdlAuto() {
+		jdbcTemplate.execute("CREATE TABLE customer (id BIGINT NOT NULL AUTO_INCREMENT, name VARCHAR(255), PRIMARY KEY (id))");
+		jdbcTemplate.execute("""
+				CREATE TABLE transaction (
+				    id BIGINT NOT NULL AUTO_INCREMENT,
+				    amount FLOAT(53) NOT NULL,
+				    transaction_date DATE,
+				    customer_id BIGINT,
+				    PRIMARY KEY (id),
+				    CONSTRAINT FKfxcq0a9v8a6oxjl9yd0e5bf2v FOREIGN KEY (customer_id) REFERENCES customer (id)
+				)""");
+		jdbcTemplate.update("INSERT INTO customer (id, name) VALUES (1, 'Alice')");
+		jdbcTemplate.update("INSERT INTO transaction (amount, transaction_date, customer_id) VALUES (120.5, '2025-06-01', 1)");
+
+		MigrateResult result = flyway().migrate();
+
+		assertEquals("2", result.migrations.get(0).version);
+		assertTrue(tableExists("customer_monthly_points"));
+		assertEquals(12_050L, jdbcTemplate.queryForObject("SELECT amount_cents FROM transaction", Long.class));
+		assertEquals(0, jdbcTemplate.queryForObject("""
+				SELECT COUNT(*) FROM information_schema.REFERENTIAL_CONSTRAINTS
+				WHERE CONSTRAINT_SCHEMA = DATABASE() AND TABLE_NAME = 'transaction'
+				""", Integer.class));
+	}
+
+	/**
+	 * Configures Flyway as the application does.
+	 */
+	private static Flyway flyway() {
+		return Flyway.configure()
+				.dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+				.baselineOnMigrate(true)
+				.baselineVersion("1")
+				.cleanDisabled(false)
+				.load();
+	}
+
+	private boolean tableExists(String table) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+				"SELECT EXISTS (SELECT 1 FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?)",
+				Boolean.class, table));
+	}
+}
@@ -0,0 +1,393 @@
+package com.kubertech.rewardsystem.repository;
+
+import com.kubertech.rewardsystem.model.Customer;
+import com.kubertech.rewardsystem.config.QueryCountInspector;
+import com.kubertech.rewardsystem.model.CustomerMonthlyPoints;
+import com.kubertech.rewardsystem.model.RewardPromotion;
+import com.kubertech.rewardsystem.model.RewardSummary;
+import com.kubertech.rewardsystem.model.RewardTier;
+import com.kubertech.rewardsystem.model.RewardView;
+import com.kubertech.rewardsystem.model.Transaction;
+import com.kubertech.rewardsystem.model.TransactionAmountProjection;
+import com.kubertech.rewardsystem.model.TransactionMonthlySummary;
+import com.kubertech.rewardsystem.service.ParallelSummaryEngine;
+import com.kubertech.rewardsystem.service.RewardExportService;
+import com.kubertech.rewardsystem.service.RewardLeaderboard;
+import com.kubertech.rewardsystem.service.RewardLedgerService;
+import com.kubertech.rewardsystem.service.RewardMetrics;
+import com.kubertech.rewardsystem.service.RewardRuleEngine;
+import com.kubertech.rewardsystem.service.RewardService;
+import com.kubertech.rewardsystem.service.RewardSummaryCache;
+import com.kubertech.rewardsystem.service.TransactionPartitionManager;
+import com.kubertech.rewardsystem.service.WriteBehindTransactionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Repository test class for {@link TransactionRepository}.
+ * <p>
+ * Runs against an embedded H2 database in MySQL compatibility mode via {@link DataJpaTest} to verify
+ * that the monthly reward ledger matches the in-memory Java calculation exactly, with reward rules
+ * loaded from the database.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:reward_db;MODE=MySQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.sql.init.mode=never",
+		"spring.flyway.enabled=false"
+})
+class TransactionRepositoryTest {
+
+	@Autowired
+	private CustomerRepository customerRepository;
+
+	@Autowired
+	private TransactionRepository transactionRepository;
+
+	@Autowired
+	private CustomerMonthlyPointsRepository ledgerRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private RewardTierRepository rewardTierRepository;
+
+	@Autowired
+	private RewardPromotionRepository rewardPromotionRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private TransactionMonthlySummaryRepository summaryRepository;
+
+	/** Rule engine loaded from the seeded rule tables. */
+	private RewardRuleEngine rewardRuleEngine;
+
+	/** Ledger service wired to the real repositories. */
+	private RewardLedgerService rewardLedgerService;
+
+	/** Service wired to the real repositories so both calculation paths can be compared. */
+	private RewardService rewardService;
+
+	private Customer customer;
+
+	/**
+	 * Seeds the default reward tiers plus a weekend double-points promotion, and a customer with
+	 * transactions covering every reward tier boundary across several months, then builds the
+	 * monthly reward ledger from them.
+	 */
+	@BeforeEach
+	void setUp() {
+		rewardTierRepository.save(RewardTier.builder().thresholdDollars(50).pointsPerDollar(1).build());
+		rewardTierRepository.save(RewardTier.builder().thresholdDollars(100).pointsPerDollar(2).build());
+		rewardPromotionRepository.save(RewardPromotion.builder()
+				.name("Double points weekends").daysOfWeek("SATURDAY,SUNDAY").multiplierPercent(200).build());
+		rewardRuleEngine = new RewardRuleEngine(rewardTierRepository, rewardPromotionRepository);
+		rewardRuleEngine.reload();
+
+		rewardLedgerService = new RewardLedgerService(ledgerRepository, transactionRepository, jdbcTemplate, rewardRuleEngine,
+				Mockito.mock(RewardLeaderboard.class), summaryRepository);
+		rewardService = new RewardService(customerRepository, transactionRepository, rewardLedgerService,
+				new RewardSummaryCache(100, Duration.ofMinutes(1), Duration.ofSeconds(10)), rewardRuleEngine,
+				new RewardMetrics(new SimpleMeterRegistry()), Mockito.mock(WriteBehindTransactionService.class),
+				Mockito.mock(RewardLeaderboard.class), new ParallelSummaryEngine(1, 64),
+				Mockito.mock(TransactionPartitionManager.class));
+		customer = customerRepository.save(Customer.builder().name("Kuber").build());
+
+		long[] amountsCents = {0, 4_000, 5_000, 5_050, 5_100, 7_599, 10_000, 10_050, 10_099, 10_100, 12_000, 15_075, 99_999};
+		for (int i = 0; i < amountsCents.length; i++) {
+			transactionRepository.save(Transaction.builder()
+					.amountCents(amountsCents[i])
+					.transactionDate(LocalDate.of(2024, 11, 1).plusDays(17L * i))
+					.customer(customer)
+					.build());
+		}
+		rewardLedgerService.rebuild();
+	}
+
+	/**
+	 * Verifies that the ledger returns the same monthly breakdown and total as the Java path.
+	 */
+	@Test
+	void ledger_shouldMatchJavaCalculation() {
+		LocalDate start = LocalDate.of(2024, 11, 1);
+		LocalDate end = LocalDate.of(2025, 12, 31);
+
+		RewardSummary javaSummary = rewardService.getCustomerRewards(customer.getId(), start, end);
+		RewardSummary ledgerSummary = rewardService.getCustomerRewardPoints(customer.getId(), start, end);
+
+		assertFalse(javaSummary.getMonthlyPoints().isEmpty());
+		assertEquals(javaSummary.getMonthlyPoints(), ledgerSummary.getMonthlyPoints());
+		assertEquals(javaSummary.getTotalPoints(), ledgerSummary.getTotalPoints());
+		assertNull(ledgerSummary.getTransactions());
+	}
+
+	/**
+	 * Verifies that the partial-month aggregation honours the date range bounds.
+	 */
+	@Test
+	void ledger_shouldMatchJavaCalculationForPartialRange() {
+		LocalDate start = LocalDate.of(2025, 1, 10);
+		LocalDate end = LocalDate.of(2025, 3, 15);
+
+		RewardSummary javaSummary = rewardService.getCustomerRewards(customer.getId(), start, end);
+		RewardSummary ledgerSummary = rewardService.getCustomerRewardPoints(customer.getId(), start, end);
+
+		assertEquals(javaSummary.getMonthlyPoints(), ledgerSummary.getMonthlyPoints());
+		assertEquals(javaSummary.getTotalPoints(), ledgerSummary.getTotalPoints());
+	}
+
+	/**
+	 * Verifies that a range mixing partial edge months and whole ledger months matches the Java path.
+	 */
+	@Test
+	void ledger_shouldMatchJavaCalculationForMixedRange() {
+		LocalDate start = LocalDate.of(2024, 11, 20);
+		LocalDate end = LocalDate.of(2025, 4, 10);
+
+		RewardSummary javaSummary = rewardService.getCustomerRewards(customer.getId(), start, end);
+		RewardSummary ledgerSummary = rewardService.getCustomerRewardPoints(customer.getId(), start, end);
+
+		assertEquals(javaSummary.getMonthlyPoints(), ledgerSummary.getMonthlyPoints());
+		assertEquals(javaSummary.getTotalPoints(), ledgerSummary.getTotalPoints());
+	}
+
+	/**
+	 * Verifies that weekend transactions earn the promotion multiplier on both paths.
+	 */
+	@Test
+	void ledger_shouldApplyWeekendPromotion() {
+		LocalDate saturday = LocalDate.of(2031, 3, 1);
+		transactionRepository.save(Transaction.builder().amountCents(12_000).transactionDate(saturday).customer(customer).build());
+		rewardLedgerService.rebuild();
+
+		RewardSummary javaSummary = rewardService.getCustomerRewards(customer.getId(), saturday, saturday);
+		RewardSummary ledgerSummary = rewardService.getCustomerRewardPoints(customer.getId(), saturday.withDayOfMonth(1), saturday.withDayOfMonth(31));
+
+		assertEquals(180, javaSummary.getTotalPoints());
+		assertEquals(180, ledgerSummary.getTotalPoints());
+	}
+
+	/**
+	 * Verifies that a reload picks up changed rule rows and rescores the ledger with them.
+	 */
+	@Test
+	void reloadRewardRules_shouldRescoreLedger() {
+		LocalDate start = LocalDate.of(2024, 11, 1);
+		LocalDate end = LocalDate.of(2025, 12, 31);
+		int before = rewardService.getCustomerRewardPoints(customer.getId(), start, end).getTotalPoints();
+
+		rewardPromotionRepository.save(RewardPromotion.builder().name("Triple points").multiplierPercent(300).build());
+		rewardService.reloadRewardRules();
+
+		RewardSummary javaSummary = rewardService.getCustomerRewards(customer.getId(), start, end);
+		RewardSummary ledgerSummary = rewardService.getCustomerRewardPoints(customer.getId(), start, end);
+		assertTrue(ledgerSummary.getTotalPoints() > before);
+		assertEquals(javaSummary.getMonthlyPoints(), ledgerSummary.getMonthlyPoints());
+	}
+
+	/**
+	 * Verifies that a rebuild keeps the points of archived months alongside those scored from transactions.
+	 */
+	@Test
+	void rebuild_shouldKeepArchivedMonthPoints() {
+		LocalDate archivedMonth = LocalDate.of(2020, 3, 1);
+		summaryRepository.save(TransactionMonthlySummary.builder()
+				.customerId(customer.getId()).monthStart(archivedMonth).transactionCount(4).amountCents(48_000).points(250).build());
+		int before = rewardService.getCustomerRewardPoints(customer.getId(), LocalDate.of(2024, 11, 1), LocalDate.of(2025, 12, 31))
+				.getTotalPoints();
+
+		rewardLedgerService.rebuild();
+
+		List<CustomerMonthlyPoints> archived = ledgerRepository.findByCustomerIdAndMonthStartBetweenOrderByMonthStartAsc(
+				customer.getId(), archivedMonth, archivedMonth);
+		assertEquals(1, archived.size());
+		assertEquals(250, archived.get(0).getPoints());
+		assertEquals(before, rewardService.getCustomerRewardPoints(customer.getId(), LocalDate.of(2024, 11, 1), LocalDate.of(2025, 12, 31))
+				.getTotalPoints());
+	}
+
+	/**
+	 * Verifies that incremental ledger updates accumulate into the existing month row.
+	 */
+	@Test
+	void addPoints_shouldAccumulateIntoExistingMonth() {
+		LocalDate month = LocalDate.of(2030, 1, 1);
+
+		ledgerRepository.addPoints(customer.getId(), month, 40);
+		ledgerRepository.addPoints(customer.getId(), month, 90);
+
+		List<CustomerMonthlyPoints> rows = ledgerRepository.findByCustomerIdAndMonthStartBetweenOrderByMonthStartAsc(customer.getId(), month, month);
+		assertEquals(1, rows.size());
+		assertEquals(130, rows.get(0).getPoints());
+	}
+
+	/**
+	 * Verifies that the covering projection returns amount and date of in-range transactions in date order.
+	 */
+	@Test
+	void findAmountsByCustomerIdAndTransactionDateBetween_shouldReturnRangeInDateOrder() {
+		LocalDate start = LocalDate.of(2024, 11, 18);
+		LocalDate end = LocalDate.of(2024, 12, 20);
+
+		List<TransactionAmountProjection> rows = transactionRepository
+				.findAmountsByCustomerIdAndTransactionDateBetween(customer.getId(), start, end);
+
+		assertEquals(2, rows.size());
+		assertEquals(4_000, rows.get(0).getAmountCents());
+		assertEquals(LocalDate.of(2024, 11, 18), rows.get(0).getTransactionDate());
+		assertEquals(5_000, rows.get(1).getAmountCents());
+		assertEquals(LocalDate.of(2024, 12, 5), rows.get(1).getTransactionDate());
+	}
+
+	/**
+	 * Verifies that summarizing all customers issues one statement however many customers exist.
+	 */
+	@Test
+	void getAllRewardSummaries_shouldIssueOneStatementRegardlessOfCustomerCount() {
+		seedCustomers(4);
+
+		QueryCountInspector.reset();
+		List<RewardSummary> summaries = rewardService.getAllRewardSummaries();
+
+		assertEquals(5, summaries.size());
+		assertEquals(1, QueryCountInspector.count());
+		entityManager.clear();
+
+		seedCustomers(40);
+
+		QueryCountInspector.reset();
+		summaries = rewardService.getAllRewardSummaries();
+
+		assertEquals(45, summaries.size());
+		assertEquals(1, QueryCountInspector.count());
+		assertEquals(2, summaries.get(44).getTransactions().size());
+		assertEquals(customer.getId(), summaries.get(0).getCustomerId());
+	}
+
+	/**
+	 * Verifies that the read paths build summaries from projections without loading any entity
+	 * into the persistence context.
+	 */
+	@Test
+	void readPaths_shouldNotLoadEntities() {
+		seedCustomers(2);
+		LocalDate start = LocalDate.of(2024, 11, 1);
+		LocalDate end = LocalDate.of(2025, 12, 31);
+
+		RewardSummary summary = rewardService.getCustomerRewards(customer.getId(), start, end);
+		rewardService.getAllRewardSummaries();
+		rewardService.getRewardSummariesPage(0L, 10, RewardView.FULL);
+		rewardService.getCustomerRewardsBatch(List.of(customer.getId()), start, end);
+
+		assertEquals(13, summary.getTransactions().size());
+		assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+	}
+
+	/**
+	 * Verifies that lazily loaded transaction collections are initialized in batches rather than per customer.
+	 */
+	@Test
+	void customerTransactions_shouldBeLoadedInBatches() {
+		seedCustomers(Customer.TRANSACTION_BATCH_SIZE + 10);
+
+		QueryCountInspector.reset();
+		List<Customer> customers = customerRepository.findAll();
+		customers.forEach(c -> c.getTransactions().size());
+
+		assertEquals(Customer.TRANSACTION_BATCH_SIZE + 11, customers.size());
+		assertEquals(3, QueryCountInspector.count());
+	}
+
+	/**
+	 * Verifies that a full summary page issues a constant number of statements regardless of its size.
+	 */
+	@Test
+	void getRewardSummariesPage_shouldIssueTwoStatementsRegardlessOfPageSize() {
+		seedCustomers(4);
+
+		QueryCountInspector.reset();
+		rewardService.getRewardSummariesPage(0L, 100, RewardView.FULL);
+
+		assertEquals(2, QueryCountInspector.count());
+	}
+
+	/**
+	 * Verifies that the export folds one cursor into the same summaries as the per-customer endpoint,
+	 * including customers without transactions in the range, with a single statement.
+	 */
+	@Test
+	void exportRewardSummaries_shouldMatchPerCustomerSummariesWithOneStatement() {
+		seedCustomers(3);
+		Customer idle = customerRepository.save(Customer.builder().name("Idle").build());
+		entityManager.flush();
+		entityManager.clear();
+		RewardExportService exportService = new RewardExportService(customerRepository, rewardRuleEngine,
+				new RewardMetrics(new SimpleMeterRegistry()), Mockito.mock(WriteBehindTransactionService.class), transactionManager,
+				Mockito.mock(TransactionPartitionManager.class));
+		LocalDate start = LocalDate.of(2024, 12, 1);
+		LocalDate end = LocalDate.of(2025, 2, 28);
+
+		List<RewardSummary> exported = new ArrayList<>();
+		QueryCountInspector.reset();
+		exportService.exportRewardSummaries(start, end, RewardView.FULL, exported::add);
+
+		assertEquals(1, QueryCountInspector.count());
+		assertEquals(5, exported.size());
+		for (RewardSummary summary : exported) {
+			RewardSummary expected = rewardService.getCustomerRewards(summary.getCustomerId(), start, end);
+			assertEquals(expected.getMonthlyPoints(), summary.getMonthlyPoints());
+			assertEquals(expected.getTotalPoints(), summary.getTotalPoints());
+			assertEquals(expected.getTransactions(), summary.getTransactions());
+		}
+		RewardSummary last = exported.get(4);
+		assertEquals(idle.getId(), last.getCustomerId());
+		assertEquals(0, last.getTotalPoints());
+		assertTrue(last.getTransactions().isEmpty());
+	}
+
+	/**
+	 * Adds customers with two transactions each, then clears the persistence context so every
+	 * later read goes to the database.
+	 */
+	private void seedCustomers(int count) {
+		for (int i = 0; i < count; i++) {
+			Customer extra = customerRepository.save(Customer.builder().name("Customer " + i).build());
+			for (int j = 0; j < 2; j++) {
+				transactionRepository.save(Transaction.builder()
+						.amountCents(12_000)
+						.transactionDate(LocalDate.of(2025, 2, 1).plusDays(j))
+						.customer(extra)
+						.build());
+			}
+		}
+		entityManager.flush();
+		entityManager.clear();
+	}
+}
@@ -0,0 +1,116 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.CustomerBasicDTO;
+import com.kubertech.rewardsystem.model.RewardSummary;
+import com.kubertech.rewardsystem.model.TransactionDTO;
+import com.kubertech.rewardsystem.utility.RewardRules;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link ParallelSummaryEngine}.
+ * <p>
+ * Compares parallel builds with sequential ones and checks ordering, thread use and error propagation.
+ */
+class ParallelSummaryEngineTest {
+
+	/**
+	 * Verifies that summaries built on several threads equal the sequential ones, in input order.
+	 */
+	@Test
+	void buildAll_shouldMatchSequentialSummariesInInputOrder() {
+		List<List<TransactionDTO>> inputs = new ArrayList<>();
+		Random random = new Random(7);
+		for (long customerId = 1; customerId <= 500; customerId++) {
+			List<TransactionDTO> transactions = new ArrayList<>();
+			for (int i = random.nextInt(20) + 1; i > 0; i--) {
+				transactions.add(new TransactionDTO(customerId * 100 + i, customerId, random.nextInt(30_001),
+						LocalDate.of(2025, 1, 1).plusDays(random.nextInt(365))));
+			}
+			inputs.add(transactions);
+		}
+
+		ParallelSummaryEngine sequential = new ParallelSummaryEngine(1, 64);
+		ParallelSummaryEngine parallel = new ParallelSummaryEngine(4, 8);
+		try {
+			List<RewardSummary> expected = sequential.buildAll(inputs, ParallelSummaryEngineTest::summarize);
+			List<RewardSummary> actual = parallel.buildAll(inputs, ParallelSummaryEngineTest::summarize);
+
+			assertEquals(expected, actual);
+			for (int i = 0; i < actual.size(); i++) {
+				assertEquals(i + 1L, actual.get(i).getCustomerId());
+			}
+		} finally {
+			parallel.destroy();
+		}
+	}
+
+	/**
+	 * Verifies that inputs above the threshold are spread over the pool's workers.
+	 */
+	@Test
+	void buildAll_shouldUseDedicatedWorkers() {
+		ParallelSummaryEngine engine = new ParallelSummaryEngine(4, 1);
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		try {
+			List<Integer> results = engine.buildAll(List.of(1, 2, 3, 4, 5, 6, 7, 8), value -> {
+				threads.add(Thread.currentThread().getName());
+				return value * 10;
+			});
+
+			assertEquals(List.of(10, 20, 30, 40, 50, 60, 70, 80), results);
+			assertTrue(threads.stream().allMatch(name -> name.startsWith("reward-summary-")), threads::toString);
+		} finally {
+			engine.destroy();
+		}
+	}
+
+	/**
+	 * Verifies that the builder's own exception is rethrown to the caller, whichever thread ran the failing input.
+	 */
+	@Test
+	void buildAll_shouldPropagateBuilderFailure() {
+		ParallelSummaryEngine engine = new ParallelSummaryEngine(2, 1);
+		try {
+			for (int run = 0; run < 50; run++) {
+				IllegalStateException failure = new IllegalStateException("broken input 3");
+				IllegalStateException exception = assertThrows(IllegalStateException.class,
+						() -> engine.buildAll(List.of(1, 2, 3, 4), value -> {
+							if (value == 3) {
+								throw failure;
+							}
+							return value;
+						}));
+				assertSame(failure, exception);
+				assertEquals("broken input 3", exception.getMessage());
+			}
+		} finally {
+			engine.destroy();
+		}
+	}
+
+	/**
+	 * Verifies that empty input is handled and that invalid settings are rejected.
+	 */
+	@Test
+	void buildAll_shouldHandleEmptyInputAndRejectInvalidSettings() {
+		assertTrue(new ParallelSummaryEngine(1, 1).buildAll(List.<Integer>of(), value -> value).isEmpty());
+		assertTrue(new ParallelSummaryEngine(0, 64).getParallelism() >= 1);
+		assertThrows(IllegalArgumentException.class, () -> new ParallelSummaryEngine(-1, 64));
+		assertThrows(IllegalArgumentException.class, () -> new ParallelSummaryEngine(2, 0));
+	}
+
+	private static RewardSummary summarize(List<TransactionDTO> transactions) {
+		Long customerId = transactions.get(0).customerId();
+		return RewardService.buildRewardSummary(new CustomerBasicDTO(customerId, "Customer " + customerId),
+				transactions, RewardRules.DEFAULT);
+	}
+}
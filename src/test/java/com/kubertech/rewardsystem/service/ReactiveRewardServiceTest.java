@@ -0,0 +1,115 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.exception.ResourceNotFoundException;
+import com.kubertech.rewardsystem.model.CustomerRow;
+import com.kubertech.rewardsystem.model.RewardSummary;
+import com.kubertech.rewardsystem.model.TransactionRow;
+import com.kubertech.rewardsystem.repository.reactive.ReactiveCustomerRepository;
+import com.kubertech.rewardsystem.repository.reactive.ReactiveTransactionRepository;
+import com.kubertech.rewardsystem.utility.RewardRules;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit test class for {@link ReactiveRewardService}.
+ * <p>
+ * Verifies that the R2DBC-backed read path produces the same summaries as the blocking service.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveRewardServiceTest {
+
+	@Mock
+	private ReactiveCustomerRepository customerRepository;
+
+	@Mock
+	private ReactiveTransactionRepository transactionRepository;
+
+	@Mock
+	private RewardRuleEngine rewardRuleEngine;
+
+	@Mock
+	private WriteBehindTransactionService writeBehindTransactionService;
+
+	@Mock
+	private TransactionPartitionManager transactionPartitionManager;
+
+	@InjectMocks
+	private ReactiveRewardService reactiveRewardService;
+
+	/**
+	 * Scores every summary with the default reward rules, with no write-behind transactions pending.
+	 */
+	@BeforeEach
+	void setUp() {
+		lenient().when(rewardRuleEngine.current()).thenReturn(RewardRules.DEFAULT);
+		lenient().when(writeBehindTransactionService.whenVisible(any())).thenReturn(CompletableFuture.completedFuture(null));
+		lenient().when(writeBehindTransactionService.whenAllVisible()).thenReturn(CompletableFuture.completedFuture(null));
+	}
+
+	/**
+	 * Verifies monthly and total points for a single customer within a date range.
+	 */
+	@Test
+	void getCustomerRewards_shouldCalculatePoints() {
+		LocalDate start = LocalDate.of(2025, 6, 1);
+		LocalDate end = LocalDate.of(2025, 6, 30);
+		when(customerRepository.findById(1L)).thenReturn(Mono.just(new CustomerRow(1L, "Kuber")));
+		when(transactionRepository.findByCustomerIdAndTransactionDateBetween(1L, start, end)).thenReturn(Flux.just(
+				new TransactionRow(10L, 12_000, LocalDate.of(2025, 6, 2), 1L),
+				new TransactionRow(11L, 8_000, LocalDate.of(2025, 6, 1), 1L)));
+
+		RewardSummary summary = reactiveRewardService.getCustomerRewards(1L, start, end).block();
+
+		assertNotNull(summary);
+		assertEquals("Kuber", summary.getCustomerName());
+		assertEquals(120, summary.getTotalPoints());
+		assertEquals(11L, summary.getTransactions().get(0).id());
+	}
+
+	/**
+	 * Verifies that a missing customer surfaces the same exception as the blocking service.
+	 */
+	@Test
+	void getCustomerRewards_shouldFailForUnknownCustomer() {
+		when(customerRepository.findById(-1L)).thenReturn(Mono.empty());
+
+		Mono<RewardSummary> result = reactiveRewardService.getCustomerRewards(-1L, LocalDate.now(), LocalDate.now());
+
+		ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, result::block);
+		assertEquals("Customer not found with ID: -1", exception.getMessage());
+	}
+
+	/**
+	 * Verifies that all-customer summaries keep customer order and group transactions per customer.
+	 */
+	@Test
+	void getAllRewardSummaries_shouldGroupTransactionsPerCustomer() {
+		when(customerRepository.findAll(any(Sort.class))).thenReturn(Flux.just(
+				new CustomerRow(1L, "Kuber"), new CustomerRow(2L, "Krishna")));
+		when(transactionRepository.findByCustomerIdIn(List.of(1L, 2L))).thenReturn(Flux.just(
+				new TransactionRow(10L, 13_000, LocalDate.of(2025, 6, 5), 2L)));
+
+		List<RewardSummary> summaries = reactiveRewardService.getAllRewardSummaries().collectList().block();
+
+		assertNotNull(summaries);
+		assertEquals(List.of(1L, 2L), summaries.stream().map(RewardSummary::getCustomerId).toList());
+		assertEquals(0, summaries.get(0).getTotalPoints());
+		assertEquals(110, summaries.get(1).getTotalPoints());
+	}
+}
@@ -0,0 +1,264 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.CustomerMonthlyPointsProjection;
+import com.kubertech.rewardsystem.model.LeaderboardEntry;
+import com.kubertech.rewardsystem.model.LeaderboardPeriod;
+import com.kubertech.rewardsystem.repository.CustomerMonthlyPointsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link RewardLeaderboard}.
+ * <p>
+ * Seeds the boards from a mocked ledger and drives transaction synchronization by hand to verify
+ * ranking, after-commit updates and reloads racing with writers.
+ */
+@ExtendWith(MockitoExtension.class)
+class RewardLeaderboardTest {
+
+	/** Keeps every month since 1925, so fixed dates in the tests are always retained. */
+	private static final int RETAINED_MONTHS = 1200;
+
+	@Mock
+	private CustomerMonthlyPointsRepository ledgerRepository;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private RewardLeaderboard leaderboard;
+
+	/**
+	 * Runs transaction template callbacks inline and reads an empty ledger unless a test overrides it.
+	 */
+	@BeforeEach
+	void setUp() {
+		lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+				invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		lenient().when(ledgerRepository.streamFromMonth(any())).thenAnswer(invocation -> Stream.empty());
+		leaderboard = new RewardLeaderboard(ledgerRepository, transactionTemplate, RETAINED_MONTHS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	/**
+	 * Verifies that seeding builds a board per month and sums months into their quarter.
+	 */
+	@Test
+	void start_shouldSeedMonthAndQuarterBoardsFromLedger() {
+		when(ledgerRepository.streamFromMonth(any())).thenAnswer(invocation -> List.of(
+				row(1L, LocalDate.of(2025, 4, 1), 100),
+				row(1L, LocalDate.of(2025, 5, 1), 50),
+				row(2L, LocalDate.of(2025, 5, 1), 120),
+				row(3L, LocalDate.of(2025, 7, 1), 500)).stream());
+
+		leaderboard.start();
+
+		assertTrue(leaderboard.isRunning());
+		assertEquals(List.of(new LeaderboardEntry(1, 2L, 120), new LeaderboardEntry(2, 1L, 50)),
+				leaderboard.top(LeaderboardPeriod.MONTH, LocalDate.of(2025, 5, 20), 10));
+		assertEquals(List.of(new LeaderboardEntry(1, 1L, 150), new LeaderboardEntry(2, 2L, 120)),
+				leaderboard.top(LeaderboardPeriod.QUARTER, LocalDate.of(2025, 6, 10), 10));
+		assertEquals(List.of(new LeaderboardEntry(1, 3L, 500)),
+				leaderboard.top(LeaderboardPeriod.QUARTER, LocalDate.of(2025, 9, 30), 10));
+		assertTrue(leaderboard.top(LeaderboardPeriod.MONTH, LocalDate.of(2025, 6, 1), 10).isEmpty());
+	}
+
+	/**
+	 * Verifies that customers with equal points are ranked by ID and that the limit is applied.
+	 */
+	@Test
+	void top_shouldOrderTiesByCustomerIdAndApplyLimit() {
+		leaderboard.start();
+		leaderboard.addPointsAfterCommit(Map.of(
+				5L, Map.of(LocalDate.of(2025, 6, 1), 90),
+				4L, Map.of(LocalDate.of(2025, 6, 1), 90),
+				9L, Map.of(LocalDate.of(2025, 6, 1), 10),
+				8L, Map.of(LocalDate.of(2025, 6, 1), 200)));
+
+		assertEquals(List.of(new LeaderboardEntry(1, 8L, 200), new LeaderboardEntry(2, 4L, 90), new LeaderboardEntry(3, 5L, 90)),
+				leaderboard.top(LeaderboardPeriod.MONTH, LocalDate.of(2025, 6, 15), 3));
+	}
+
+	/**
+	 * Verifies that points only reach the boards once the writing transaction commits.
+	 */
+	@Test
+	void addPointsAfterCommit_shouldApplyOnCommitOnly() {
+		leaderboard.start();
+
+		TransactionSynchronizationManager.initSynchronization();
+		leaderboard.addPointsAfterCommit(Map.of(1L, Map.of(LocalDate.of(2025, 6, 1), 120)));
+		assertTrue(leaderboard.top(LeaderboardPeriod.MONTH, LocalDate.of(2025, 6, 1), 10).isEmpty());
+		complete(true);
+
+		TransactionSynchronizationManager.initSynchronization();
+		leaderboard.addPointsAfterCommit(Map.of(2L, Map.of(LocalDate.of(2025, 6, 1), 300)));
+		complete(false);
+
+		assertEquals(List.of(new LeaderboardEntry(1, 1L, 120)),
+				leaderboard.top(LeaderboardPeriod.MONTH, LocalDate.of(2025, 6, 1), 10));
+		assertTimeoutPreemptively(Duration.ofSeconds(5), leaderboard::reload,
+				"a completed transaction must release the reload lock");
+	}
+
+	/**
+	 * Verifies that a reload waits for a transaction that already recorded points, so its points are counted exactly once.
+	 */
+	@Test
+	void reload_shouldWaitForTransactionsThatRecordedPoints() throws Exception {
+		leaderboard.start();
+		List<CustomerMonthlyPointsProjection> committedLedger = new ArrayList<>();
+		when(ledgerRepository.streamFromMonth(any())).thenAnswer(invocation -> List.copyOf(committedLedger).stream());
+
+		TransactionSynchronizationManager.initSynchronization();
+		leaderboard.addPointsAfterCommit(Map.of(1L, Map.of(LocalDate.of(2025, 6, 1), 120)));
+		CompletableFuture<Void> reload = CompletableFuture.runAsync(leaderboard::reload);
+		Thread.sleep(200);
+		assertFalse(reload.isDone());
+
+		committedLedger.add(row(1L, LocalDate.of(2025, 6, 1), 120));
+		complete(true);
+		reload.get();
+
+		assertEquals(List.of(new LeaderboardEntry(1, 1L, 120)),
+				leaderboard.top(LeaderboardPeriod.MONTH, LocalDate.of(2025, 6, 1), 10));
+	}
+
+	/**
+	 * Verifies that concurrent writers lose no points and readers always see a ranked list of distinct customers.
+	 */
+	@Test
+	void addPointsAfterCommit_shouldStayConsistentUnderConcurrentWrites() throws Exception {
+		leaderboard.start();
+		LocalDate month = LocalDate.of(2025, 6, 1);
+		int writers = 8;
+		int writesPerWriter = 2_000;
+		ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int w = 0; w < writers; w++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < writesPerWriter; i++) {
+						long customerId = ThreadLocalRandom.current().nextLong(1, 51);
+						leaderboard.addPointsAfterCommit(Map.of(customerId, Map.of(month, 1)));
+					}
+				}));
+			}
+			Future<?> reader = executor.submit(() -> {
+				while (futures.stream().anyMatch(future -> !future.isDone())) {
+					List<LeaderboardEntry> top = leaderboard.top(LeaderboardPeriod.QUARTER, month, 20);
+					assertEquals(top.size(), top.stream().map(LeaderboardEntry::customerId).distinct().count());
+					for (int i = 1; i < top.size(); i++) {
+						assertTrue(top.get(i - 1).points() >= top.get(i).points());
+					}
+				}
+			});
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			reader.get();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		List<LeaderboardEntry> all = leaderboard.top(LeaderboardPeriod.MONTH, month, RewardLeaderboard.MAX_LIMIT);
+		assertEquals(writers * writesPerWriter, all.stream().mapToInt(LeaderboardEntry::points).sum());
+		assertEquals(all, leaderboard.top(LeaderboardPeriod.QUARTER, month, RewardLeaderboard.MAX_LIMIT));
+	}
+
+	/**
+	 * Verifies that boards are dropped once their period leaves the retention window, without a reload.
+	 */
+	@Test
+	void pruneExpired_shouldDropPeriodsThatLeftTheWindow() {
+		leaderboard = new RewardLeaderboard(ledgerRepository, transactionTemplate, 3);
+		leaderboard.start();
+		LocalDate thisQuarter = LeaderboardPeriod.QUARTER.start(LocalDate.now());
+		LocalDate nextQuarter = thisQuarter.plusMonths(3);
+		leaderboard.addPointsAfterCommit(Map.of(1L, Map.of(thisQuarter, 100), 2L, Map.of(nextQuarter, 200)));
+
+		leaderboard.pruneExpired(nextQuarter.plusMonths(2));
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> leaderboard.top(LeaderboardPeriod.QUARTER, thisQuarter, 10));
+		assertTrue(exception.getMessage().endsWith(nextQuarter + "."));
+		assertEquals(List.of(new LeaderboardEntry(1, 2L, 200)),
+				leaderboard.top(LeaderboardPeriod.QUARTER, nextQuarter, 10));
+	}
+
+	/**
+	 * Verifies that periods before the retention window and out-of-range limits are rejected.
+	 */
+	@Test
+	void top_shouldRejectInvalidRequests() {
+		leaderboard = new RewardLeaderboard(ledgerRepository, transactionTemplate, 1);
+		leaderboard.start();
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> leaderboard.top(LeaderboardPeriod.MONTH, LocalDate.now().minusYears(1), 10));
+		assertTrue(exception.getMessage().startsWith("Leaderboards are only kept for periods from"));
+		assertThrows(IllegalArgumentException.class,
+				() -> leaderboard.top(LeaderboardPeriod.MONTH, LocalDate.now(), 0));
+		assertThrows(IllegalArgumentException.class,
+				() -> leaderboard.top(LeaderboardPeriod.MONTH, LocalDate.now(), RewardLeaderboard.MAX_LIMIT + 1));
+	}
+
+	/**
+	 * Completes the current synchronized transaction as the transaction manager would, then ends synchronization.
+	 */
+	private static void complete(boolean committed) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		if (committed) {
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+		}
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(committed
+				? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK));
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	private static CustomerMonthlyPointsProjection row(Long customerId, LocalDate monthStart, int points) {
+		return new CustomerMonthlyPointsProjection() {
+			@Override
+			public Long getCustomerId() {
+				return customerId;
+			}
+
+			@Override
+			public LocalDate getMonthStart() {
+				return monthStart;
+			}
+
+			@Override
+			public int getPoints() {
+				return points;
+			}
+		};
+	}
+}
@@ -2,19 +2,31 @@ package com.kubertech.rewardsystem.service;
 
 import com.kubertech.rewardsystem.exception.ResourceNotFoundException;
 import com.kubertech.rewardsystem.model.Customer;
+import com.kubertech.rewardsystem.model.CustomerBasicDTO;
+import com.kubertech.rewardsystem.model.CustomerTransactionDTO;
+import com.kubertech.rewardsystem.model.MonthlyPointDTO;
+import com.kubertech.rewardsystem.model.RewardPromotion;
 import com.kubertech.rewardsystem.model.RewardSummary;
+import com.kubertech.rewardsystem.model.RewardSummaryPage;
+import com.kubertech.rewardsystem.model.RewardTier;
+import com.kubertech.rewardsystem.model.RewardView;
 import com.kubertech.rewardsystem.model.Transaction;
+import com.kubertech.rewardsystem.model.TransactionDTO;
 import com.kubertech.rewardsystem.repository.CustomerRepository;
 import com.kubertech.rewardsystem.repository.TransactionRepository;
 import com.kubertech.rewardsystem.service.RewardService;
-import com.kubertech.rewardsystem.utility.RewardPointsUtil;
+import com.kubertech.rewardsystem.utility.RewardRules;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -39,12 +51,47 @@ class RewardServiceTest {
 	@Mock
 	private TransactionRepository transactionRepository;
 
+	/** Mock service for the monthly reward ledger. */
+	@Mock
+	private RewardLedgerService rewardLedgerService;
+
+	/** Mock cache of computed reward summaries. */
+	@Mock
+	private RewardSummaryCache rewardSummaryCache;
+
+	/** Mock holder of the active reward rules. */
+	@Mock
+	private RewardRuleEngine rewardRuleEngine;
+
+	/** In-memory registry the service metrics are recorded to. */
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	/** Real metrics recorder backed by {@link #meterRegistry}. */
+	@Spy
+	private RewardMetrics rewardMetrics = new RewardMetrics(meterRegistry);
+
+	/** Mock write-behind path; its visibility barriers return immediately. */
+	@Mock
+	private WriteBehindTransactionService writeBehindTransactionService;
+
+	/** Mock in-memory leaderboard. */
+	@Mock
+	private RewardLeaderboard rewardLeaderboard;
+
+	/** Real summary engine; a threshold of one forks a task per customer. */
+	@Spy
+	private ParallelSummaryEngine parallelSummaryEngine = new ParallelSummaryEngine(2, 1);
+
+	/** Mock partition manager; no range is archived unless a test says so. */
+	@Mock
+	private TransactionPartitionManager transactionPartitionManager;
+
 	/** Injected service under test. */
 	@InjectMocks
 	private RewardService rewardService;
 
-	private Customer customer;
-	private List<Transaction> transactions;
+	private CustomerBasicDTO customer;
+	private List<TransactionDTO> transactions;
 
 	/**
 	 * Sets up mock data for reuse in multiple tests.
@@ -53,11 +100,12 @@ class RewardServiceTest {
 	@BeforeEach
 	void setUp() {
 		transactions = List.of(
-				Transaction.builder().amount(120).transactionDate(LocalDate.of(2025, 6, 1)).customer(customer).build(),
-				Transaction.builder().amount(80).transactionDate(LocalDate.of(2025, 6, 2)).customer(customer).build()
+				new TransactionDTO(10L, 1L, 12_000, LocalDate.of(2025, 6, 1)),
+				new TransactionDTO(11L, 1L, 8_000, LocalDate.of(2025, 6, 2))
 		);
 
-		customer = Customer.builder().id(1L).name("Test User").transactions(transactions).build();
+		customer = new CustomerBasicDTO(1L, "Test User");
+		when(rewardRuleEngine.current()).thenReturn(RewardRules.DEFAULT);
 	}
 
 	/**
@@ -65,7 +113,7 @@ class RewardServiceTest {
 	 */
 	@Test
 	void testGetCustomerRewards() {
-		when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+		when(customerRepository.findBasicById(1L)).thenReturn(Optional.of(customer));
 		when(transactionRepository.findByCustomerIdAndTransactionDateBetween(eq(1L), any(), any()))
 				.thenReturn(transactions);
 
@@ -75,7 +123,7 @@ class RewardServiceTest {
 		assertEquals("Test User", summary.getCustomerName());
 		assertEquals(120, summary.getTotalPoints()); // 90 + 30
 		assertEquals(1, summary.getMonthlyPoints().size());
-		verify(customerRepository, times(1)).findById(1L);
+		verify(customerRepository, times(1)).findBasicById(1L);
 	}
 
 	/**
@@ -83,7 +131,7 @@ class RewardServiceTest {
 	 */
 	@Test
 	void testCalculateTotalPoints_EmptyTransactions() {
-		when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+		when(customerRepository.findBasicById(1L)).thenReturn(Optional.of(customer));
 		when(transactionRepository.findByCustomerIdAndTransactionDateBetween(eq(1L), any(), any()))
 				.thenReturn(Collections.emptyList());
 
@@ -98,7 +146,7 @@ class RewardServiceTest {
 	 */
 	@Test
 	void testCustomerNotFound() {
-		when(customerRepository.findById(-1L)).thenReturn(Optional.empty());
+		when(customerRepository.findBasicById(-1L)).thenReturn(Optional.empty());
 
 		Exception exception = assertThrows(ResourceNotFoundException.class, () ->
 				rewardService.getCustomerRewards(-1L, LocalDate.now(), LocalDate.now()));
@@ -126,14 +174,14 @@ class RewardServiceTest {
 	@Test
 	void createTransaction_shouldAttachCustomerAndSave() {
 		Customer customer = Customer.builder().id(1L).name("Kuber").build();
-		Transaction txn = Transaction.builder().id(100L).amount(120).customer(customer).build();
+		Transaction txn = Transaction.builder().id(100L).amountCents(12_000).customer(customer).build();
 
 		when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
 		when(transactionRepository.save(txn)).thenReturn(txn);
 
 		Transaction result = rewardService.createTransaction(txn);
 
-		assertEquals(120, result.getAmount());
+		assertEquals(12_000, result.getAmountCents());
 		assertEquals("Kuber", result.getCustomer().getName());
 	}
 
@@ -142,40 +190,78 @@ class RewardServiceTest {
 	 */
 	@Test
 	void createTransaction_shouldFailIfCustomerMissing() {
-		Transaction txn = Transaction.builder().id(101L).amount(100).customer(null).build();
+		Transaction txn = Transaction.builder().id(101L).amountCents(10_000).customer(null).build();
 
 		assertThrows(IllegalArgumentException.class, () -> rewardService.createTransaction(txn));
 	}
 
 	/**
-	 * Verifies that reward point utility calculates correct values.
+	 * Verifies that the default reward rules calculate correct values.
 	 */
 	@Test
 	void calculateRewardPoints_shouldReturnCorrectValues() {
-		assertEquals(0, RewardPointsUtil.calculateRewardPoints(40));
-		assertEquals(30, RewardPointsUtil.calculateRewardPoints(80));    // 80-50
-		assertEquals(90, RewardPointsUtil.calculateRewardPoints(120));   // 50 + 2*(120-100)
+		assertEquals(0, RewardRules.DEFAULT.basePoints(4_000));
+		assertEquals(30, RewardRules.DEFAULT.basePoints(8_000));    // 80-50
+		assertEquals(90, RewardRules.DEFAULT.basePoints(12_000));   // 50 + 2*(120-100)
+	}
+
+	/**
+	 * Verifies that summaries are scored with the rules currently held by the engine.
+	 */
+	@Test
+	void getCustomerRewards_shouldUseActiveRewardRules() {
+		RewardRules doublePoints = RewardRules.compile(
+				List.of(RewardTier.builder().thresholdDollars(50).pointsPerDollar(1).build(),
+						RewardTier.builder().thresholdDollars(100).pointsPerDollar(2).build()),
+				List.of(RewardPromotion.builder().name("Double points").multiplierPercent(200).build()));
+		when(rewardRuleEngine.current()).thenReturn(doublePoints);
+		when(customerRepository.findBasicById(1L)).thenReturn(Optional.of(customer));
+		when(transactionRepository.findByCustomerIdAndTransactionDateBetween(eq(1L), any(), any()))
+				.thenReturn(transactions);
+
+		RewardSummary summary = rewardService.getCustomerRewards(1L, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+
+		assertEquals(240, summary.getTotalPoints()); // 2 * (90 + 30)
+	}
+
+	/**
+	 * Verifies that reloading the rules swaps them before dropping cached summaries, rebuilding the ledger
+	 * and reloading the leaderboard from it.
+	 */
+	@Test
+	void reloadRewardRules_shouldReloadThenInvalidateCacheThenRebuildLedger() {
+		rewardService.reloadRewardRules();
+
+		InOrder inOrder = inOrder(rewardRuleEngine, rewardSummaryCache, rewardLedgerService, rewardLeaderboard);
+		inOrder.verify(rewardRuleEngine).reload();
+		inOrder.verify(rewardSummaryCache).invalidateAll();
+		inOrder.verify(rewardLedgerService).rebuild();
+		inOrder.verify(rewardLeaderboard).reload();
 	}
 
 	/**
 	 * Tests summary aggregation across multiple transactions and checks monthly breakdown.
+	 * Joined rows are folded per customer, including customers without transactions.
 	 */
 	@Test
 	void getAllRewardSummaries_shouldAggregateCorrectly() {
-		Transaction tx1 = Transaction.builder().amount(120).transactionDate(LocalDate.of(2025, 7, 1)).build();
-		Transaction tx2 = Transaction.builder().amount(90).transactionDate(LocalDate.of(2025, 7, 15)).build();
-		Customer customer = Customer.builder().id(1L).name("Kuber").transactions(List.of(tx1, tx2)).build();
-
-		when(customerRepository.findAll()).thenReturn(List.of(customer));
+		when(customerRepository.findAllWithTransactions()).thenReturn(List.of(
+				new CustomerTransactionDTO(1L, "Kuber", 10L, 12_000L, LocalDate.of(2025, 7, 1)),
+				new CustomerTransactionDTO(1L, "Kuber", 11L, 9_000L, LocalDate.of(2025, 7, 15)),
+				new CustomerTransactionDTO(2L, "Krishna", null, null, null)));
 
 		List<RewardSummary> result = rewardService.getAllRewardSummaries();
 
 		boolean containsJuly = result.get(0).getMonthlyPoints().stream()
 				.anyMatch(dto -> dto.getYear() == 2025 && "July".equals(dto.getMonth()));
 
-		assertEquals(1, result.size());
+		assertEquals(2, result.size());
 		assertEquals(130, result.get(0).getTotalPoints()); // 90 + 40
+		assertEquals(List.of(10L, 11L), result.get(0).getTransactions().stream().map(TransactionDTO::id).toList());
 		assertTrue(containsJuly);
+		assertEquals("Krishna", result.get(1).getCustomerName());
+		assertEquals(0, result.get(1).getTotalPoints());
+		assertTrue(result.get(1).getTransactions().isEmpty());
 	}
 
 	/**
@@ -183,10 +269,10 @@ class RewardServiceTest {
 	 */
 	@Test
 	void getCustomerRewards_shouldFilterByDateAndCalculate() {
-		Customer customer = Customer.builder().id(1L).name("Kuber").build();
-		Transaction tx = Transaction.builder().amount(130).transactionDate(LocalDate.of(2025, 6, 5)).build();
+		CustomerBasicDTO customer = new CustomerBasicDTO(1L, "Kuber");
+		TransactionDTO tx = new TransactionDTO(10L, 1L, 13_000, LocalDate.of(2025, 6, 5));
 
-		when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+		when(customerRepository.findBasicById(1L)).thenReturn(Optional.of(customer));
 		when(transactionRepository.findByCustomerIdAndTransactionDateBetween(1L, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30)))
 				.thenReturn(List.of(tx));
 
@@ -195,4 +281,208 @@ class RewardServiceTest {
 		assertEquals("Kuber", summary.getCustomerName());
 		assertEquals(110, summary.getTotalPoints()); // 50 + 2*(130-100)
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Verifies that a full keyset page returns its last customer ID as the next cursor.
+	 */
+	@Test
+	void getRewardSummariesPage_shouldReturnNextCursorForFullPage() {
+		CustomerBasicDTO first = new CustomerBasicDTO(1L, "Kuber");
+		CustomerBasicDTO second = new CustomerBasicDTO(2L, "Krishna");
+		TransactionDTO tx = new TransactionDTO(10L, 2L, 12_000, LocalDate.of(2025, 6, 5));
+
+		when(customerRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(List.of(first, second));
+		when(transactionRepository.findByCustomerIdIn(List.of(1L, 2L))).thenReturn(List.of(tx));
+
+		RewardSummaryPage page = rewardService.getRewardSummariesPage(0L, 2, RewardView.FULL);
+
+		assertEquals(2L, page.getNextAfterId());
+		assertEquals(2, page.getSummaries().size());
+		assertEquals(0, page.getSummaries().get(0).getTotalPoints());
+		assertEquals(90, page.getSummaries().get(1).getTotalPoints());
+	}
+
+	/**
+	 * Verifies that a short keyset page signals the end of the customer list.
+	 */
+	@Test
+	void getRewardSummariesPage_shouldEndWhenPageIsNotFull() {
+		CustomerBasicDTO only = new CustomerBasicDTO(5L, "Kuber");
+
+		when(customerRepository.findByIdGreaterThanOrderByIdAsc(4L, Limit.of(10))).thenReturn(List.of(only));
+		when(transactionRepository.findByCustomerIdIn(List.of(5L))).thenReturn(Collections.emptyList());
+
+		RewardSummaryPage page = rewardService.getRewardSummariesPage(4L, 10, RewardView.FULL);
+
+		assertNull(page.getNextAfterId());
+		assertEquals(1, page.getSummaries().size());
+	}
+
+	/**
+	 * Verifies that an out-of-range page size is rejected.
+	 */
+	@Test
+	void getRewardSummariesPage_shouldRejectInvalidSize() {
+		assertThrows(IllegalArgumentException.class, () -> rewardService.getRewardSummariesPage(0L, 0, RewardView.FULL));
+		assertThrows(IllegalArgumentException.class,
+				() -> rewardService.getRewardSummariesPage(0L, RewardService.MAX_PAGE_SIZE + 1, RewardView.FULL));
+	}
+
+	/**
+	 * Verifies that streaming hands every customer's summary to the consumer in ID order.
+	 */
+	@Test
+	void streamAllRewardSummaries_shouldEmitSummariesInIdOrder() {
+		CustomerBasicDTO first = new CustomerBasicDTO(1L, "Kuber");
+		CustomerBasicDTO second = new CustomerBasicDTO(2L, "Krishna");
+
+		when(customerRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(List.of(first, second));
+		when(transactionRepository.findByCustomerIdIn(List.of(1L, 2L))).thenReturn(Collections.emptyList());
+
+		List<RewardSummary> emitted = new ArrayList<>();
+		rewardService.streamAllRewardSummaries(RewardView.FULL, emitted::add);
+
+		assertEquals(List.of(1L, 2L), emitted.stream().map(RewardSummary::getCustomerId).toList());
+		verify(customerRepository, never()).findAll();
+	}
+
+	/**
+	 * Verifies that the points-only summary is built from the ledger without loading transactions.
+	 */
+	@Test
+	void getCustomerRewardPoints_shouldUseLedgerMonthlyPoints() {
+		when(customerRepository.findBasicById(1L)).thenReturn(Optional.of(customer));
+		when(rewardLedgerService.getMonthlyPoints(eq(1L), any(), any()))
+				.thenReturn(List.of(new MonthlyPointDTO(2025, "June", 120)));
+
+		RewardSummary summary = rewardService.getCustomerRewardPoints(1L, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+
+		assertEquals(120, summary.getTotalPoints());
+		assertEquals("June", summary.getMonthlyPoints().get(0).getMonth());
+		assertNull(summary.getTransactions());
+		verify(transactionRepository, never()).findByCustomerIdAndTransactionDateBetween(any(), any(), any());
+	}
+
+	/**
+	 * Verifies that every saved transaction is recorded in the monthly reward ledger.
+	 */
+	@Test
+	void createTransaction_shouldRecordLedgerPoints() {
+		Customer customer = Customer.builder().id(1L).name("Kuber").build();
+		Transaction txn = Transaction.builder().amountCents(12_000).transactionDate(LocalDate.of(2025, 6, 5)).customer(customer).build();
+
+		when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+		when(transactionRepository.save(txn)).thenReturn(txn);
+
+		rewardService.createTransaction(txn);
+
+		verify(rewardLedgerService).recordTransaction(txn);
+		verify(rewardSummaryCache).evictCustomersAfterCommit(List.of(1L));
+	}
+
+	/**
+	 * Verifies that a cached summary is returned without touching the repositories.
+	 */
+	@Test
+	void getCustomerRewards_shouldReturnCachedSummary() {
+		RewardSummary cached = RewardSummary.builder().customerId(1L).totalPoints(42).build();
+		when(rewardSummaryCache.get(new RewardSummaryCache.Key(1L, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30))))
+				.thenReturn(cached);
+
+		RewardSummary summary = rewardService.getCustomerRewards(1L, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+
+		assertSame(cached, summary);
+		verifyNoInteractions(customerRepository, transactionRepository);
+	}
+
+	/**
+	 * Verifies that the all-customer summary view reads the ledger and never loads transactions.
+	 */
+	@Test
+	void getAllRewardPointSummaries_shouldUseLedgerWithoutTransactions() {
+		CustomerBasicDTO customer = new CustomerBasicDTO(1L, "Kuber");
+
+		when(customerRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(List.of(customer));
+		when(rewardLedgerService.getMonthlyPointsByCustomer(List.of(1L)))
+				.thenReturn(Map.of(1L, List.of(new MonthlyPointDTO(2025, "May", 40), new MonthlyPointDTO(2025, "June", 90))));
+
+		List<RewardSummary> result = rewardService.getAllRewardPointSummaries();
+
+		assertEquals(1, result.size());
+		assertEquals(130, result.get(0).getTotalPoints());
+		assertNull(result.get(0).getTransactions());
+		verifyNoInteractions(transactionRepository);
+	}
+
+	/**
+	 * Verifies that a batch lookup loads cache misses with one customer and one transaction query,
+	 * keeps request order, drops duplicates and skips unknown customers.
+	 */
+	@Test
+	void getCustomerRewardsBatch_shouldLoadMissesInBulkAndKeepRequestOrder() {
+		LocalDate start = LocalDate.of(2025, 6, 1);
+		LocalDate end = LocalDate.of(2025, 6, 30);
+		CustomerBasicDTO first = new CustomerBasicDTO(1L, "Kuber");
+		CustomerBasicDTO third = new CustomerBasicDTO(3L, "Radha");
+		RewardSummary cached = RewardSummary.builder().customerId(2L).totalPoints(42).build();
+
+		when(rewardSummaryCache.get(new RewardSummaryCache.Key(2L, start, end))).thenReturn(cached);
+		when(customerRepository.findBasicByIdIn(List.of(3L, 1L, 4L))).thenReturn(List.of(first, third));
+		when(transactionRepository.findByCustomerIdInAndTransactionDateBetween(List.of(3L, 1L, 4L), start, end)).thenReturn(List.of(
+				new TransactionDTO(10L, 1L, 12_000, LocalDate.of(2025, 6, 5)),
+				new TransactionDTO(11L, 3L, 8_000, LocalDate.of(2025, 6, 9))));
+
+		List<RewardSummary> result = rewardService.getCustomerRewardsBatch(List.of(3L, 2L, 1L, 3L, 4L), start, end);
+
+		assertEquals(List.of(3L, 2L, 1L), result.stream().map(RewardSummary::getCustomerId).toList());
+		assertEquals(30, result.get(0).getTotalPoints());
+		assertSame(cached, result.get(1));
+		assertEquals(90, result.get(2).getTotalPoints());
+		verify(rewardSummaryCache).put(new RewardSummaryCache.Key(1L, start, end), result.get(2), 0L);
+		verify(customerRepository, times(1)).findBasicByIdIn(any());
+		verify(transactionRepository, times(1)).findByCustomerIdInAndTransactionDateBetween(any(), any(), any());
+	}
+
+	/**
+	 * Verifies that a full summary reaching into archived months is rejected instead of missing their transactions.
+	 */
+	@Test
+	void getCustomerRewards_shouldRejectArchivedRange() {
+		LocalDate start = LocalDate.of(2023, 1, 1);
+		doThrow(new IllegalArgumentException("Transactions before 2023-07-01 are archived"))
+				.when(transactionPartitionManager).requireRetained(start);
+
+		assertThrows(IllegalArgumentException.class,
+				() -> rewardService.getCustomerRewards(1L, start, LocalDate.of(2025, 6, 30)));
+		assertThrows(IllegalArgumentException.class,
+				() -> rewardService.getCustomerRewardsBatch(List.of(1L), start, LocalDate.of(2025, 6, 30)));
+		verifyNoInteractions(customerRepository, transactionRepository, rewardSummaryCache);
+	}
+
+	/**
+	 * Verifies that a batch lookup rejects a start date after the end date.
+	 */
+	@Test
+	void getCustomerRewardsBatch_shouldRejectInvalidDateRange() {
+		assertThrows(IllegalArgumentException.class, () -> rewardService.getCustomerRewardsBatch(
+				List.of(1L), LocalDate.of(2025, 7, 1), LocalDate.of(2025, 6, 1)));
+		verifyNoInteractions(customerRepository, transactionRepository);
+	}
+
+	/**
+	 * Verifies that a computed summary records its latency, size and the rows it fetched.
+	 */
+	@Test
+	void getCustomerRewards_shouldRecordMetrics() {
+		when(customerRepository.findBasicById(1L)).thenReturn(Optional.of(customer));
+		when(transactionRepository.findByCustomerIdAndTransactionDateBetween(eq(1L), any(), any()))
+				.thenReturn(transactions);
+
+		rewardService.getCustomerRewards(1L, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+
+		assertEquals(1, meterRegistry.get(RewardMetrics.OPERATION_TIMER).tag("operation", "getCustomerRewards").timer().count());
+		assertEquals(1, meterRegistry.get(RewardMetrics.SUMMARY_BUILD_TIMER).timer().count());
+		assertEquals(2, meterRegistry.get(RewardMetrics.SUMMARY_TRANSACTIONS).summary().totalAmount());
+		assertEquals(3, meterRegistry.get(RewardMetrics.ROWS_FETCHED).tag("operation", "getCustomerRewards").summary().totalAmount());
+	}
+}
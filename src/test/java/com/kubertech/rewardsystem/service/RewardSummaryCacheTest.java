@@ -0,0 +1,131 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.RewardCacheStats;
+import com.kubertech.rewardsystem.model.RewardSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link RewardSummaryCache}.
+ * <p>
+ * Verifies per-customer invalidation, write generations, recent-write tracking and hit/miss statistics.
+ */
+class RewardSummaryCacheTest {
+
+	private static final LocalDate JUNE_1 = LocalDate.of(2025, 6, 1);
+	private static final LocalDate JUNE_30 = LocalDate.of(2025, 6, 30);
+
+	private RewardSummaryCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new RewardSummaryCache(100, Duration.ofMinutes(5), Duration.ofSeconds(10));
+	}
+
+	/**
+	 * Verifies that evicting a customer removes all of its ranges and leaves other customers cached.
+	 */
+	@Test
+	void evictCustomersAfterCommit_shouldOnlyRemoveAffectedCustomer() {
+		RewardSummaryCache.Key customer1June = new RewardSummaryCache.Key(1L, JUNE_1, JUNE_30);
+		RewardSummaryCache.Key customer1Day = new RewardSummaryCache.Key(1L, JUNE_1, JUNE_1);
+		RewardSummaryCache.Key customer2June = new RewardSummaryCache.Key(2L, JUNE_1, JUNE_30);
+		cache.put(customer1June, RewardSummary.builder().customerId(1L).build(), cache.generation(1L));
+		cache.put(customer1Day, RewardSummary.builder().customerId(1L).build(), cache.generation(1L));
+		cache.put(customer2June, RewardSummary.builder().customerId(2L).build(), cache.generation(2L));
+
+		cache.evictCustomersAfterCommit(List.of(1L));
+
+		assertNull(cache.get(customer1June));
+		assertNull(cache.get(customer1Day));
+		assertNotNull(cache.get(customer2June));
+	}
+
+	/**
+	 * Verifies that entries cached after an eviction or a full invalidation are still evicted per customer.
+	 */
+	@Test
+	void evictCustomersAfterCommit_shouldRemoveEntriesCachedAfterEarlierInvalidations() {
+		RewardSummaryCache.Key customer1June = new RewardSummaryCache.Key(1L, JUNE_1, JUNE_30);
+		cache.put(customer1June, RewardSummary.builder().customerId(1L).build(), cache.generation(1L));
+		cache.evictCustomersAfterCommit(List.of(1L));
+		cache.put(customer1June, RewardSummary.builder().customerId(1L).build(), cache.generation(1L));
+		cache.invalidateAll();
+		cache.put(customer1June, RewardSummary.builder().customerId(1L).build(), cache.generation(1L));
+
+		cache.evictCustomersAfterCommit(List.of(1L, 2L));
+
+		assertNull(cache.get(customer1June));
+	}
+
+	/**
+	 * Verifies that written customers are reported as recently written, so their reads go to the primary.
+	 */
+	@Test
+	void evictCustomersAfterCommit_shouldMarkCustomerRecentlyWritten() {
+		assertFalse(cache.isRecentlyWritten(1L));
+
+		cache.evictCustomersAfterCommit(List.of(1L));
+
+		assertTrue(cache.isRecentlyWritten(1L));
+		assertFalse(cache.isRecentlyWritten(2L));
+	}
+
+	/**
+	 * Verifies that a summary read before a write commits is not cached once the write has evicted the customer,
+	 * while other customers' summaries still are.
+	 */
+	@Test
+	void put_shouldSkipSummaryReadBeforeConcurrentWrite() {
+		RewardSummaryCache.Key customer1June = new RewardSummaryCache.Key(1L, JUNE_1, JUNE_30);
+		RewardSummaryCache.Key customer2June = new RewardSummaryCache.Key(2L, JUNE_1, JUNE_30);
+		long customer1Generation = cache.generation(1L);
+		long customer2Generation = cache.generation(2L);
+
+		cache.evictCustomersAfterCommit(List.of(1L));
+		cache.put(customer1June, RewardSummary.builder().customerId(1L).build(), customer1Generation);
+		cache.put(customer2June, RewardSummary.builder().customerId(2L).build(), customer2Generation);
+
+		assertNull(cache.get(customer1June));
+		assertNotNull(cache.get(customer2June));
+		cache.put(customer1June, RewardSummary.builder().customerId(1L).build(), cache.generation(1L));
+		assertNotNull(cache.get(customer1June));
+	}
+
+	/**
+	 * Verifies that summaries being built during a full invalidation are not cached.
+	 */
+	@Test
+	void put_shouldSkipSummaryReadBeforeInvalidateAll() {
+		RewardSummaryCache.Key key = new RewardSummaryCache.Key(1L, JUNE_1, JUNE_30);
+		long generation = cache.generation(1L);
+
+		cache.invalidateAll();
+		cache.put(key, RewardSummary.builder().customerId(1L).build(), generation);
+
+		assertNull(cache.get(key));
+	}
+
+	/**
+	 * Verifies that hits and misses are counted.
+	 */
+	@Test
+	void stats_shouldCountHitsAndMisses() {
+		RewardSummaryCache.Key key = new RewardSummaryCache.Key(1L, JUNE_1, JUNE_30);
+
+		cache.get(key);
+		cache.put(key, RewardSummary.builder().customerId(1L).build(), cache.generation(1L));
+		cache.get(key);
+
+		RewardCacheStats stats = cache.stats();
+		assertEquals(1, stats.getHitCount());
+		assertEquals(1, stats.getMissCount());
+		assertEquals(1, stats.getEstimatedSize());
+	}
+}
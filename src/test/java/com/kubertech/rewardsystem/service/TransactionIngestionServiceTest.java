@@ -0,0 +1,180 @@
+package com.kubertech.rewardsystem.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.kubertech.rewardsystem.model.BulkIngestionResponse;
+import com.kubertech.rewardsystem.model.BulkTransactionResult;
+import com.kubertech.rewardsystem.model.Customer;
+import com.kubertech.rewardsystem.model.Transaction;
+import com.kubertech.rewardsystem.repository.CustomerRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link TransactionIngestionService}.
+ * <p>
+ * Verifies per-row validation, set-based customer lookup and batched persistence using mocked collaborators.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionIngestionServiceTest {
+
+	@Mock
+	private CustomerRepository customerRepository;
+
+	@Mock
+	private RewardLedgerService rewardLedgerService;
+
+	@Mock
+	private RewardSummaryCache rewardSummaryCache;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private TransactionIngestionService ingestionService;
+
+	/**
+	 * Builds the service with a real bean validator and a transaction template that runs its callback inline.
+	 */
+	@BeforeEach
+	void setUp() {
+		ingestionService = new TransactionIngestionService(customerRepository, rewardLedgerService, rewardSummaryCache, jdbcTemplate,
+				transactionTemplate, Validation.buildDefaultValidatorFactory().getValidator());
+
+		lenient().doAnswer(invocation -> {
+			Consumer<TransactionStatus> callback = invocation.getArgument(0);
+			callback.accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	/**
+	 * Verifies that valid rows are batch-inserted while invalid rows are reported individually.
+	 */
+	@Test
+	void ingest_shouldAcceptValidRowsAndRejectInvalidOnes() {
+		Transaction valid = transaction(1L, 12_000);
+		Transaction unknownCustomer = transaction(99L, 8_000);
+		Transaction negativeAmount = transaction(1L, -500);
+		Transaction missingCustomer = Transaction.builder().amountCents(6_000).transactionDate(LocalDate.of(2025, 6, 1)).build();
+
+		when(customerRepository.findExistingIds(Set.of(1L, 99L))).thenReturn(Set.of(1L));
+
+		BulkIngestionResponse response = ingestionService.ingest(
+				List.of(valid, unknownCustomer, negativeAmount, missingCustomer).iterator());
+
+		assertEquals(1, response.getAcceptedCount());
+		assertEquals(3, response.getRejectedCount());
+		assertEquals(BulkTransactionResult.Status.ACCEPTED, response.getResults().get(0).getStatus());
+		assertEquals("Customer not found with ID: 99", response.getResults().get(1).getMessage());
+		assertEquals("Amount must be positive", response.getResults().get(2).getMessage());
+		assertEquals("Customer ID must be provided", response.getResults().get(3).getMessage());
+
+		verify(customerRepository, times(1)).findExistingIds(any());
+		verify(jdbcTemplate).batchUpdate(anyString(), eq(List.of(valid)), eq(1), any());
+		verify(rewardLedgerService).recordTransactions(List.of(valid));
+		verify(rewardSummaryCache).evictCustomersAfterCommit(Set.of(1L));
+	}
+
+	/**
+	 * Verifies that nothing is written when every row is rejected.
+	 */
+	@Test
+	void ingest_shouldSkipWritesWhenAllRowsRejected() {
+		when(customerRepository.findExistingIds(Set.of(7L))).thenReturn(Set.of());
+
+		BulkIngestionResponse response = ingestionService.ingest(List.of(transaction(7L, 10_000)).iterator());
+
+		assertEquals(0, response.getAcceptedCount());
+		assertEquals(1, response.getRejectedCount());
+		verifyNoInteractions(jdbcTemplate, rewardLedgerService, rewardSummaryCache);
+	}
+
+	/**
+	 * Verifies that a row Jackson cannot map is rejected with its index and the rows around it are still stored.
+	 *
+	 * @throws Exception if the payload cannot be opened
+	 */
+	@Test
+	void ingest_shouldRejectUnmappableRowAndContinue() throws Exception {
+		String ndjson = """
+				{"amount":120.0,"transactionDate":"2025-07-10","customer":{"id":1}}
+				{"amount":"abc","transactionDate":"2025-07-11","customer":{"id":1}}
+				{"amount":80.0,"transactionDate":"2025-07-12","customer":{"id":1}}
+				""";
+		when(customerRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+
+		BulkIngestionResponse response;
+		try (MappingIterator<Transaction> rows = JsonMapper.builder().findAndAddModules().build()
+				.readerFor(Transaction.class).readValues(ndjson)) {
+			response = ingestionService.ingest(rows);
+		}
+
+		assertEquals(2, response.getAcceptedCount());
+		assertEquals(1, response.getRejectedCount());
+		assertEquals(List.of(0, 1, 2), response.getResults().stream().map(BulkTransactionResult::getIndex).toList());
+		assertEquals(BulkTransactionResult.Status.REJECTED, response.getResults().get(1).getStatus());
+		assertTrue(response.getResults().get(1).getMessage().startsWith("Unreadable transaction: "));
+		verify(jdbcTemplate).batchUpdate(anyString(), argThat((List<Transaction> stored) -> stored.size() == 2), eq(2), any());
+	}
+
+	/**
+	 * Verifies that a payload that breaks off keeps the results of the rows read before it.
+	 */
+	@Test
+	void ingest_shouldStopAtUnreadablePayloadAndKeepEarlierRows() {
+		Transaction valid = transaction(1L, 12_000);
+		Iterator<Transaction> rows = new Iterator<>() {
+			private boolean read;
+
+			@Override
+			public boolean hasNext() {
+				if (read) {
+					throw new IllegalStateException("Unexpected end of input");
+				}
+				return true;
+			}
+
+			@Override
+			public Transaction next() {
+				read = true;
+				return valid;
+			}
+		};
+		when(customerRepository.findExistingIds(Set.of(1L))).thenReturn(Set.of(1L));
+
+		BulkIngestionResponse response = ingestionService.ingest(rows);
+
+		assertEquals(1, response.getAcceptedCount());
+		assertEquals(1, response.getRejectedCount());
+		assertEquals("Unreadable transaction: Unexpected end of input", response.getResults().get(1).getMessage());
+		verify(jdbcTemplate).batchUpdate(anyString(), eq(List.of(valid)), eq(1), any());
+	}
+
+	private static Transaction transaction(Long customerId, long amountCents) {
+		return Transaction.builder()
+				.amountCents(amountCents)
+				.transactionDate(LocalDate.of(2025, 6, 1))
+				.customer(Customer.builder().id(customerId).build())
+				.build();
+	}
+}
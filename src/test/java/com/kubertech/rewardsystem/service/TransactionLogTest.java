@@ -0,0 +1,139 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.TransactionLogRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link TransactionLog}.
+ * <p>
+ * Verifies sequencing, recovery after a restart or a torn write, and segment cleanup on real files.
+ */
+class TransactionLogTest {
+
+	@TempDir
+	private Path directory;
+
+	/**
+	 * Verifies that appended records are read back in order after a given sequence.
+	 */
+	@Test
+	void append_shouldAssignSequencesAndReadBack() throws IOException {
+		try (TransactionLog log = new TransactionLog(directory, 8, false, 0)) {
+			assertEquals(1, log.append(1L, 12_000, LocalDate.of(2025, 6, 1)));
+			assertEquals(2, log.append(2L, 8_000, LocalDate.of(2025, 6, 2)));
+			assertEquals(3, log.append(1L, 5_050, LocalDate.of(2025, 7, 1)));
+
+			assertEquals(List.of(
+					new TransactionLogRecord(2, 2L, 8_000, LocalDate.of(2025, 6, 2)),
+					new TransactionLogRecord(3, 1L, 5_050, LocalDate.of(2025, 7, 1))), log.readAfter(1, 10));
+			assertEquals(1, log.readAfter(0, 1).size());
+			assertTrue(log.readAfter(3, 10).isEmpty());
+		}
+	}
+
+	/**
+	 * Verifies that records spanning several segments survive a reopen and numbering continues after them.
+	 */
+	@Test
+	void reopen_shouldRecoverRecordsAcrossSegments() throws IOException {
+		try (TransactionLog log = new TransactionLog(directory, 2, false, 0)) {
+			for (int i = 1; i <= 5; i++) {
+				log.append(i, i * 1_000L, LocalDate.of(2025, 6, i));
+			}
+		}
+
+		try (TransactionLog log = new TransactionLog(directory, 2, false, 0)) {
+			assertEquals(5, log.lastSequence());
+			List<TransactionLogRecord> records = log.readAfter(0, 10);
+			assertEquals(5, records.size());
+			assertEquals(new TransactionLogRecord(4, 4L, 4_000, LocalDate.of(2025, 6, 4)), records.get(3));
+			assertEquals(6, log.append(6L, 6_000, LocalDate.of(2025, 6, 6)));
+		}
+	}
+
+	/**
+	 * Verifies that a record with a broken checksum, as left by a crash mid-write, ends the log on reopen
+	 * and that records after it do not reappear once its slot is reused.
+	 */
+	@Test
+	void reopen_shouldStopAtTornRecord() throws IOException {
+		try (TransactionLog log = new TransactionLog(directory, 8, false, 0)) {
+			log.append(1L, 12_000, LocalDate.of(2025, 6, 1));
+			log.append(1L, 8_000, LocalDate.of(2025, 6, 2));
+			log.append(1L, 5_000, LocalDate.of(2025, 6, 3));
+		}
+		try (FileChannel channel = FileChannel.open(singleSegment(), StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), TransactionLog.RECORD_SIZE + 16);
+		}
+
+		try (TransactionLog log = new TransactionLog(directory, 8, false, 0)) {
+			assertEquals(1, log.lastSequence());
+			assertEquals(1, log.readAfter(0, 10).size());
+			assertEquals(2, log.append(1L, 9_000, LocalDate.of(2025, 6, 4)));
+			assertEquals(9_000, log.readAfter(1, 10).get(0).amountCents());
+		}
+
+		try (TransactionLog log = new TransactionLog(directory, 8, false, 0)) {
+			assertEquals(2, log.lastSequence());
+		}
+	}
+
+	/**
+	 * Verifies that fully drained segments are deleted while the active segment is kept.
+	 */
+	@Test
+	void release_shouldDeleteDrainedSegmentsOnly() throws IOException {
+		try (TransactionLog log = new TransactionLog(directory, 2, false, 0)) {
+			for (int i = 1; i <= 5; i++) {
+				log.append(1L, 1_000, LocalDate.of(2025, 6, i));
+			}
+			assertEquals(3, segmentCount());
+
+			log.release(3);
+			assertEquals(2, segmentCount());
+			assertEquals(List.of(4L, 5L), log.readAfter(3, 10).stream().map(TransactionLogRecord::sequence).toList());
+
+			log.release(5);
+			assertEquals(1, segmentCount());
+			assertEquals(6, log.append(1L, 1_000, LocalDate.of(2025, 6, 6)));
+		}
+	}
+
+	/**
+	 * Verifies that numbering continues after the stored checkpoint when no segment is left.
+	 */
+	@Test
+	void open_shouldContinueAfterMinimumSequence() throws IOException {
+		try (TransactionLog log = new TransactionLog(directory, 8, false, 41)) {
+			assertEquals(41, log.lastSequence());
+			assertTrue(log.readAfter(41, 10).isEmpty());
+			assertEquals(42, log.append(1L, 1_000, LocalDate.of(2025, 6, 1)));
+			assertEquals(42, log.readAfter(41, 10).get(0).sequence());
+		}
+	}
+
+	private Path singleSegment() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.findFirst().orElseThrow();
+		}
+	}
+
+	private long segmentCount() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.count();
+		}
+	}
+}
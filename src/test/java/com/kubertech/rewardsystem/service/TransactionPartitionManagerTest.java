@@ -0,0 +1,191 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.service.TransactionPartitionManager.Partition;
+import com.kubertech.rewardsystem.service.TransactionPartitionManager.Plan;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link TransactionPartitionManager}.
+ * <p>
+ * Covers the rollover and archival planning and the maintenance lock; the partition DDL itself needs MySQL.
+ */
+class TransactionPartitionManagerTest {
+
+	/** Partitions as created by migration V8 in May 2025 for data starting in January 2025. */
+	private static final List<Partition> PARTITIONS = List.of(
+			new Partition("p_archived", LocalDate.of(2025, 1, 1)),
+			new Partition("p202501", LocalDate.of(2025, 2, 1)),
+			new Partition("p202502", LocalDate.of(2025, 3, 1)),
+			new Partition("p202503", LocalDate.of(2025, 4, 1)),
+			new Partition("p202504", LocalDate.of(2025, 5, 1)),
+			new Partition("p202505", LocalDate.of(2025, 6, 1)),
+			new Partition("p202506", LocalDate.of(2025, 7, 1)),
+			new Partition("p_future", null));
+
+	/**
+	 * Verifies that partitions are added up to the configured number of months ahead, and only once.
+	 */
+	@Test
+	void plan_shouldAddMissingMonthsAhead() {
+		Plan plan = TransactionPartitionManager.plan(PARTITIONS, YearMonth.of(2025, 6), 3, 0);
+
+		assertEquals(List.of(YearMonth.of(2025, 7), YearMonth.of(2025, 8), YearMonth.of(2025, 9)), plan.monthsToAdd());
+		assertTrue(plan.partitionsToArchive().isEmpty());
+		assertTrue(TransactionPartitionManager.plan(PARTITIONS, YearMonth.of(2025, 5), 1, 0).monthsToAdd().isEmpty());
+	}
+
+	/**
+	 * Verifies that only whole months before the retention window are archived, oldest first.
+	 */
+	@Test
+	void plan_shouldArchiveMonthsBeforeRetentionWindow() {
+		Plan plan = TransactionPartitionManager.plan(PARTITIONS, YearMonth.of(2025, 6), 1, 4);
+
+		assertEquals(List.of("p202501", "p202502"), plan.partitionsToArchive().stream().map(Partition::name).toList());
+		assertTrue(TransactionPartitionManager.plan(PARTITIONS, YearMonth.of(2025, 6), 1, 6).partitionsToArchive().isEmpty());
+	}
+
+	/**
+	 * Verifies that a table with no monthly partitions left gets them from the archived partition's bound.
+	 */
+	@Test
+	void plan_shouldStartAfterArchivedPartitionWhenNoMonthlyPartitionsExist() {
+		Plan plan = TransactionPartitionManager.plan(
+				List.of(new Partition("p_archived", LocalDate.of(2025, 5, 1)), new Partition("p_future", null)),
+				YearMonth.of(2025, 5), 1, 12);
+
+		assertEquals(List.of(YearMonth.of(2025, 5), YearMonth.of(2025, 6)), plan.monthsToAdd());
+		assertTrue(plan.partitionsToArchive().isEmpty());
+	}
+
+	/**
+	 * Verifies parsing of the range bounds reported by information_schema.
+	 */
+	@Test
+	void parseUpperBound_shouldReadDatesAndMaxValue() {
+		assertEquals(LocalDate.of(2025, 7, 1), TransactionPartitionManager.parseUpperBound("'2025-07-01'"));
+		assertNull(TransactionPartitionManager.parseUpperBound("MAXVALUE"));
+	}
+
+	/**
+	 * Verifies that a run is skipped, without touching the partitions, while another instance holds the lock.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void maintain_shouldSkipRunWhenLockIsHeldElsewhere() throws Exception {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		Connection connection = mock(Connection.class);
+		Statement statement = mock(Statement.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeQuery(contains("GET_LOCK"))).thenReturn(resultSet);
+		when(resultSet.next()).thenReturn(true);
+		when(resultSet.getInt(1)).thenReturn(0);
+		when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+				.thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+
+		new TransactionPartitionManager(jdbcTemplate, null, null, null, null, 24, 3, Duration.ofHours(1), true).maintain();
+
+		verify(jdbcTemplate).execute(any(ConnectionCallback.class));
+		verifyNoMoreInteractions(jdbcTemplate);
+		verify(statement, never()).executeQuery(contains("RELEASE_LOCK"));
+	}
+
+	/**
+	 * Verifies that nothing is scheduled, and no range is rejected, when maintenance is switched off.
+	 */
+	@Test
+	void start_shouldSkipMaintenanceWhenDisabled() {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		TransactionPartitionManager manager = new TransactionPartitionManager(
+				jdbcTemplate, null, null, null, null, 24, 3, Duration.ofHours(1), false);
+
+		manager.start();
+
+		assertFalse(manager.isRunning());
+		verifyNoInteractions(jdbcTemplate);
+		assertDoesNotThrow(() -> manager.requireRetained(LocalDate.of(2000, 1, 1)));
+	}
+
+	/**
+	 * Verifies that maintenance is skipped on databases other than MySQL instead of failing on {@code GET_LOCK}.
+	 */
+	@Test
+	void start_shouldSkipMaintenanceOnOtherDatabases() throws Exception {
+		TransactionPartitionManager manager = new TransactionPartitionManager(
+				jdbcTemplateFor("H2"), null, null, null, null, 24, 3, Duration.ofHours(1), true);
+
+		manager.start();
+
+		assertFalse(manager.isRunning());
+		assertDoesNotThrow(() -> manager.requireRetained(LocalDate.of(2000, 1, 1)));
+	}
+
+	/**
+	 * Verifies that ranges starting before the retention window are rejected once archival is running.
+	 */
+	@Test
+	void requireRetained_shouldRejectRangesStartingBeforeRetentionWindow() throws Exception {
+		TransactionPartitionManager manager = new TransactionPartitionManager(
+				jdbcTemplateFor("MySQL"), null, null, null, null, 24, 3, Duration.ofDays(1), true);
+		LocalDate retainedFrom = TransactionPartitionManager.retainedFrom(YearMonth.now(), 24);
+
+		manager.start();
+		try {
+			assertTrue(manager.isRunning());
+			assertDoesNotThrow(() -> manager.requireRetained(retainedFrom));
+			IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+					() -> manager.requireRetained(retainedFrom.minusDays(1)));
+			assertTrue(e.getMessage().contains(retainedFrom.toString()));
+		} finally {
+			manager.stop();
+		}
+	}
+
+	/**
+	 * Verifies the first retained day for a window of one and several months.
+	 */
+	@Test
+	void retainedFrom_shouldReturnFirstDayOfOldestRetainedMonth() {
+		assertEquals(LocalDate.of(2025, 6, 1), TransactionPartitionManager.retainedFrom(YearMonth.of(2025, 6), 1));
+		assertEquals(LocalDate.of(2024, 7, 1), TransactionPartitionManager.retainedFrom(YearMonth.of(2025, 6), 12));
+	}
+
+	/**
+	 * Creates a JDBC template whose connection reports the given database product.
+	 * <p>
+	 * Any maintenance run it is used for fails to take the lock and is skipped.
+	 */
+	@SuppressWarnings("unchecked")
+	private static JdbcTemplate jdbcTemplateFor(String product) throws Exception {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		Connection connection = mock(Connection.class);
+		DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+		Statement statement = mock(Statement.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(connection.getMetaData()).thenReturn(metaData);
+		when(metaData.getDatabaseProductName()).thenReturn(product);
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeQuery(anyString())).thenReturn(resultSet);
+		when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+				.thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+		return jdbcTemplate;
+	}
+}
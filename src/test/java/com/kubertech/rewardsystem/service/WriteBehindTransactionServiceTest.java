@@ -0,0 +1,174 @@
+package com.kubertech.rewardsystem.service;
+
+import com.kubertech.rewardsystem.model.Customer;
+import com.kubertech.rewardsystem.model.Transaction;
+import com.kubertech.rewardsystem.repository.CustomerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit test class for {@link WriteBehindTransactionService}.
+ * <p>
+ * Runs the real transaction log and drainer against mocked persistence to verify acknowledgement,
+ * read-your-writes barriers, checkpointing and replay after a restart.
+ */
+@ExtendWith(MockitoExtension.class)
+class WriteBehindTransactionServiceTest {
+
+	@Mock
+	private CustomerRepository customerRepository;
+
+	@Mock
+	private TransactionIngestionService transactionIngestionService;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@TempDir
+	private Path directory;
+
+	private WriteBehindTransactionService writeBehindService;
+
+	/**
+	 * Runs transaction template callbacks inline and starts from an empty checkpoint.
+	 */
+	@BeforeEach
+	void setUp() {
+		lenient().doAnswer(invocation -> {
+			Consumer<TransactionStatus> callback = invocation.getArgument(0);
+			callback.accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+		lenient().when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+		lenient().when(customerRepository.findExistingIds(any())).thenReturn(Set.of(1L));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (writeBehindService != null) {
+			writeBehindService.stop();
+		}
+	}
+
+	/**
+	 * Verifies that an accepted transaction is stored and checkpointed before the customer's read barrier passes.
+	 */
+	@Test
+	void accept_shouldStoreTransactionBeforeReadBarrierPasses() {
+		writeBehindService = service(true);
+		writeBehindService.start();
+
+		long sequence = writeBehindService.accept(transaction(1L, 12_000));
+		writeBehindService.awaitVisible(List.of(1L));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<Transaction>> stored = ArgumentCaptor.forClass(List.class);
+		verify(transactionIngestionService).store(stored.capture());
+		assertEquals(12_000, stored.getValue().get(0).getAmountCents());
+		assertEquals(1L, stored.getValue().get(0).getCustomer().getId());
+		verify(jdbcTemplate).update(anyString(), eq(sequence));
+		assertTrue(writeBehindService.whenAllVisible().isDone());
+	}
+
+	/**
+	 * Verifies that transactions of unknown customers are dropped at drain time while the checkpoint still advances.
+	 */
+	@Test
+	void accept_shouldDropTransactionsOfUnknownCustomers() {
+		writeBehindService = service(true);
+		writeBehindService.start();
+
+		long sequence = writeBehindService.accept(transaction(99L, 8_000));
+		writeBehindService.awaitAllVisible();
+
+		verify(transactionIngestionService, never()).store(any());
+		verify(jdbcTemplate).update(anyString(), eq(sequence));
+	}
+
+	/**
+	 * Verifies that transactions accepted but not stored before a restart are replayed after it.
+	 */
+	@Test
+	void start_shouldReplayTransactionsAfterCheckpoint() throws Exception {
+		try (TransactionLog log = new TransactionLog(directory, 16, false, 0)) {
+			log.append(1L, 12_000, LocalDate.of(2025, 6, 1));
+			log.append(1L, 8_000, LocalDate.of(2025, 6, 2));
+		}
+		when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1L);
+
+		writeBehindService = service(true);
+		writeBehindService.start();
+		writeBehindService.awaitVisible(List.of(1L));
+
+		verify(transactionIngestionService).store(argThat(transactions ->
+				transactions.size() == 1 && transactions.get(0).getAmountCents() == 8_000));
+		verify(jdbcTemplate).update(anyString(), eq(2L));
+	}
+
+	/**
+	 * Verifies that a missing customer ID is rejected before anything is appended.
+	 */
+	@Test
+	void accept_shouldRejectMissingCustomerId() {
+		writeBehindService = service(true);
+		writeBehindService.start();
+
+		Transaction transaction = Transaction.builder().amountCents(6_000).transactionDate(LocalDate.of(2025, 6, 1)).build();
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+				() -> writeBehindService.accept(transaction));
+		assertEquals("Customer ID must be provided", exception.getMessage());
+	}
+
+	/**
+	 * Verifies that read barriers return immediately when write-behind is disabled.
+	 */
+	@Test
+	void disabled_shouldNotOpenLogOrBlockReads() {
+		writeBehindService = service(false);
+		writeBehindService.start();
+
+		assertFalse(writeBehindService.isEnabled());
+		assertFalse(writeBehindService.isRunning());
+		assertTrue(writeBehindService.whenVisible(List.of(1L)).isDone());
+		assertTrue(writeBehindService.whenAllVisible().isDone());
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	private WriteBehindTransactionService service(boolean enabled) {
+		return new WriteBehindTransactionService(customerRepository, transactionIngestionService, jdbcTemplate,
+				transactionTemplate, new SimpleMeterRegistry(), enabled, directory, 16, false, 100, Duration.ofSeconds(5));
+	}
+
+	private static Transaction transaction(Long customerId, long amountCents) {
+		return Transaction.builder()
+				.amountCents(amountCents)
+				.transactionDate(LocalDate.of(2025, 6, 1))
+				.customer(Customer.builder().id(customerId).build())
+				.build();
+	}
+}
@@ -0,0 +1,88 @@
+package com.kubertech.rewardsystem.utility;
+
+import com.kubertech.rewardsystem.model.MonthlyPointDTO;
+import com.kubertech.rewardsystem.model.Transaction;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link MonthlyPointsAggregator}.
+ * <p>
+ * Compares the array-based aggregation with the original map-based implementation on random input.
+ */
+class MonthlyPointsAggregatorTest {
+
+	/**
+	 * Verifies identical monthly breakdowns for random transactions spread across several years.
+	 */
+	@Test
+	void aggregate_shouldMatchMapBasedImplementation() {
+		Random random = new Random(7);
+		for (int run = 0; run < 50; run++) {
+			List<Transaction> transactions = new ArrayList<>();
+			int count = random.nextInt(200);
+			for (int i = 0; i < count; i++) {
+				transactions.add(Transaction.builder()
+						.amountCents(random.nextInt(30_001))
+						.transactionDate(LocalDate.of(2022, 1, 1).plusDays(random.nextInt(1500)))
+						.build());
+			}
+
+			assertEquals(legacyAggregate(transactions), MonthlyPointsAggregator.aggregate(transactions, RewardRules.DEFAULT));
+		}
+	}
+
+	/**
+	 * Verifies that months containing only zero-point transactions are still reported.
+	 */
+	@Test
+	void aggregate_shouldKeepZeroPointMonths() {
+		List<Transaction> transactions = List.of(
+				Transaction.builder().amountCents(4_000).transactionDate(LocalDate.of(2024, 12, 31)).build(),
+				Transaction.builder().amountCents(12_000).transactionDate(LocalDate.of(2025, 2, 1)).build());
+
+		List<MonthlyPointDTO> result = MonthlyPointsAggregator.aggregate(transactions, RewardRules.DEFAULT);
+
+		assertEquals(List.of(new MonthlyPointDTO(2024, "December", 0), new MonthlyPointDTO(2025, "February", 90)), result);
+	}
+
+	/**
+	 * Verifies that unsorted input is copied and sorted by date while sorted input is not copied.
+	 */
+	@Test
+	void sortByDate_shouldSortOnlyWhenNeeded() {
+		Transaction june = Transaction.builder().id(1L).transactionDate(LocalDate.of(2025, 6, 1)).build();
+		Transaction may = Transaction.builder().id(2L).transactionDate(LocalDate.of(2025, 5, 1)).build();
+
+		assertEquals(List.of(may, june), MonthlyPointsAggregator.sortByDate(new ArrayList<>(List.of(june, may))));
+		assertEquals(List.of(may, june), MonthlyPointsAggregator.sortByDate(List.of(may, june)));
+	}
+
+	/**
+	 * The original HashMap/String-key aggregation, kept as the reference for parity checks.
+	 */
+	private static List<MonthlyPointDTO> legacyAggregate(List<Transaction> transactions) {
+		Map<String, Integer> monthlyPoints = new HashMap<>();
+		for (Transaction tx : transactions) {
+			String monthKey = tx.getTransactionDate().format(DateTimeFormatter.ofPattern("yyyy-MM"));
+			monthlyPoints.merge(monthKey, RewardRules.DEFAULT.basePoints(tx.getAmountCents()), Integer::sum);
+		}
+		return monthlyPoints.entrySet().stream()
+				.map(entry -> {
+					YearMonth yearMonth = YearMonth.parse(entry.getKey());
+					String monthName = yearMonth.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+					return new MonthlyPointDTO(yearMonth.getYear(), monthName, entry.getValue());
+				})
+				.sorted(Comparator.comparing(MonthlyPointDTO::getYear)
+						.thenComparing(mp -> Month.valueOf(mp.getMonth().toUpperCase())))
+				.toList();
+	}
+}
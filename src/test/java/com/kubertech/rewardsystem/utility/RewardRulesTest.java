@@ -0,0 +1,182 @@
+package com.kubertech.rewardsystem.utility;
+
+import com.kubertech.rewardsystem.model.RewardPromotion;
+import com.kubertech.rewardsystem.model.RewardTier;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link RewardRules}.
+ * <p>
+ * Checks the default tiers against the tier boundaries and the original floating-point formula,
+ * and the compilation and evaluation of custom tiers and promotions.
+ */
+class RewardRulesTest {
+
+	/** A Saturday. */
+	private static final LocalDate SATURDAY = LocalDate.of(2025, 6, 7);
+
+	/** A Monday. */
+	private static final LocalDate MONDAY = LocalDate.of(2025, 6, 9);
+
+	/**
+	 * Verifies the points at and around each default tier boundary, where only whole dollars count.
+	 */
+	@Test
+	void basePoints_shouldHandleDefaultTierBoundaries() {
+		RewardRules rules = RewardRules.DEFAULT;
+		assertEquals(0, rules.basePoints(0));
+		assertEquals(0, rules.basePoints(5_000));
+		assertEquals(0, rules.basePoints(5_099));
+		assertEquals(1, rules.basePoints(5_100));
+		assertEquals(50, rules.basePoints(10_000));
+		assertEquals(50, rules.basePoints(10_099));
+		assertEquals(52, rules.basePoints(10_100));
+		assertEquals(1_848, rules.basePoints(99_999));
+	}
+
+	/**
+	 * Verifies that every cent amount up to 300 dollars earns the same default points as the original {@code double} formula.
+	 */
+	@Test
+	void points_shouldMatchDoubleFormulaForWholeCents() {
+		for (long cents = 0; cents <= 30_000; cents++) {
+			assertEquals(legacyCalculateRewardPoints(cents / 100.0), RewardRules.DEFAULT.points(cents, MONDAY), "cents=" + cents);
+		}
+	}
+
+	/**
+	 * Verifies a custom three-tier definition, given out of order.
+	 */
+	@Test
+	void points_shouldApplyCustomTiers() {
+		RewardRules rules = RewardRules.compile(List.of(tier(200, 3), tier(25, 1), tier(100, 2)), List.of());
+
+		assertEquals(0, rules.points(2_500, MONDAY));
+		assertEquals(75, rules.points(10_000, MONDAY));    // 75*1
+		assertEquals(275, rules.points(20_000, MONDAY));   // 75 + 100*2
+		assertEquals(305, rules.points(21_000, MONDAY));   // 275 + 10*3
+	}
+
+	/**
+	 * Verifies that rules without tiers earn no points.
+	 */
+	@Test
+	void points_shouldEarnNothingWithoutTiers() {
+		assertEquals(0, RewardRules.compile(List.of(), List.of()).points(50_000, MONDAY));
+	}
+
+	/**
+	 * Verifies that a weekend promotion doubles points on weekends only.
+	 */
+	@Test
+	void points_shouldApplyDayOfWeekPromotion() {
+		RewardRules rules = RewardRules.compile(defaultTiers(),
+				List.of(promotion("Weekend", null, null, "saturday, SUNDAY", 200)));
+
+		assertEquals(180, rules.points(12_000, SATURDAY));
+		assertEquals(180, rules.points(12_000, SATURDAY.plusDays(1)));
+		assertEquals(90, rules.points(12_000, MONDAY));
+	}
+
+	/**
+	 * Verifies that a promotion only applies within its inclusive date range.
+	 */
+	@Test
+	void points_shouldApplyPromotionWithinDateRangeOnly() {
+		RewardRules rules = RewardRules.compile(defaultTiers(),
+				List.of(promotion("June", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30), null, 150)));
+
+		assertEquals(135, rules.points(12_000, LocalDate.of(2025, 6, 1)));
+		assertEquals(135, rules.points(12_000, LocalDate.of(2025, 6, 30)));
+		assertEquals(90, rules.points(12_000, LocalDate.of(2025, 5, 31)));
+		assertEquals(90, rules.points(12_000, LocalDate.of(2025, 7, 1)));
+	}
+
+	/**
+	 * Verifies that the highest multiplier wins when several promotions match.
+	 */
+	@Test
+	void points_shouldUseHighestMatchingMultiplier() {
+		RewardRules rules = RewardRules.compile(defaultTiers(), List.of(
+				promotion("Weekend", null, null, "SATURDAY,SUNDAY", 200),
+				promotion("June", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30), null, 300),
+				promotion("Always", null, null, null, 110)));
+
+		assertEquals(270, rules.points(12_000, SATURDAY));
+		assertEquals(180, rules.points(12_000, LocalDate.of(2025, 7, 5)));
+		assertEquals(99, rules.points(12_000, LocalDate.of(2025, 7, 7)));
+	}
+
+	/**
+	 * Verifies that invalid definitions are rejected when compiled.
+	 */
+	@Test
+	void compile_shouldRejectInvalidDefinitions() {
+		assertThrows(IllegalArgumentException.class, () -> RewardRules.compile(List.of(tier(-1, 1)), List.of()));
+		assertThrows(IllegalArgumentException.class, () -> RewardRules.compile(List.of(tier(50, -1)), List.of()));
+		assertThrows(IllegalArgumentException.class, () -> RewardRules.compile(List.of(tier(50, 1), tier(50, 2)), List.of()));
+		assertThrows(IllegalArgumentException.class, () -> RewardRules.compile(defaultTiers(),
+				List.of(promotion("Discount", null, null, null, 50))));
+		assertThrows(IllegalArgumentException.class, () -> RewardRules.compile(defaultTiers(),
+				List.of(promotion("Typo", null, null, "SATURDAY,FUNDAY", 200))));
+	}
+
+	/**
+	 * Verifies that the bulk method sums the points of every element, including promotions.
+	 */
+	@Test
+	void sumPoints_shouldSumAllAmounts() {
+		long[] amounts = {4_000, 8_000, 12_000, 13_000};
+		long[] days = {MONDAY.toEpochDay(), MONDAY.toEpochDay(), SATURDAY.toEpochDay(), MONDAY.toEpochDay()};
+		RewardRules weekend = RewardRules.compile(defaultTiers(),
+				List.of(promotion("Weekend", null, null, "SATURDAY,SUNDAY", 200)));
+
+		assertEquals(0, RewardRules.DEFAULT.sumPoints(new long[0], new long[0]));
+		assertEquals(230, RewardRules.DEFAULT.sumPoints(amounts, days));
+		assertEquals(320, weekend.sumPoints(amounts, days));
+	}
+
+	/**
+	 * Verifies that the bulk method agrees with per-transaction scoring on every day of the week.
+	 */
+	@Test
+	void sumPoints_shouldMatchPointsForEveryDayOfWeek() {
+		RewardRules weekend = RewardRules.compile(defaultTiers(),
+				List.of(promotion("Weekend", null, null, "SATURDAY,SUNDAY", 200)));
+		for (int i = 0; i < 7; i++) {
+			LocalDate date = MONDAY.plusDays(i);
+			assertEquals(weekend.points(12_000, date), weekend.sumPoints(new long[]{12_000}, new long[]{date.toEpochDay()}), date.toString());
+		}
+	}
+
+	private static List<RewardTier> defaultTiers() {
+		return List.of(tier(50, 1), tier(100, 2));
+	}
+
+	private static RewardTier tier(int thresholdDollars, int pointsPerDollar) {
+		return RewardTier.builder().thresholdDollars(thresholdDollars).pointsPerDollar(pointsPerDollar).build();
+	}
+
+	private static RewardPromotion promotion(String name, LocalDate startDate, LocalDate endDate, String daysOfWeek, int multiplierPercent) {
+		return RewardPromotion.builder().name(name).startDate(startDate).endDate(endDate)
+				.daysOfWeek(daysOfWeek).multiplierPercent(multiplierPercent).build();
+	}
+
+	/**
+	 * The original floating-point calculation, kept as the reference for parity checks.
+	 */
+	private static int legacyCalculateRewardPoints(double amount) {
+		if (amount <= 50) {
+			return 0;
+		}
+		if (amount <= 100) {
+			return (int) (amount - 50);
+		}
+		return 50 + 2 * (int) (amount - 100);
+	}
+}
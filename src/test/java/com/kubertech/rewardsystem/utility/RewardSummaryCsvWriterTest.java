@@ -0,0 +1,57 @@
+package com.kubertech.rewardsystem.utility;
+
+import com.kubertech.rewardsystem.model.MonthlyPointDTO;
+import com.kubertech.rewardsystem.model.RewardSummary;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit test class for {@link RewardSummaryCsvWriter}.
+ * <p>
+ * Checks the month columns derived from the date range and the quoting of customer names.
+ */
+class RewardSummaryCsvWriterTest {
+
+	/**
+	 * Verifies that every month of the range gets a column, filled with 0 where the customer has no points.
+	 */
+	@Test
+	void write_shouldPlaceMonthlyPointsInRangeColumns() throws IOException {
+		StringWriter out = new StringWriter();
+		RewardSummaryCsvWriter csv = new RewardSummaryCsvWriter(out, LocalDate.of(2024, 12, 15), LocalDate.of(2025, 2, 10));
+
+		csv.write(RewardSummary.builder()
+				.customerId(7L)
+				.customerName("Kuber")
+				.monthlyPoints(List.of(new MonthlyPointDTO(2024, "December", 90), new MonthlyPointDTO(2025, "February", 25)))
+				.totalPoints(115)
+				.build());
+		csv.write(RewardSummary.builder().customerId(8L).customerName("Idle").monthlyPoints(List.of()).totalPoints(0).build());
+
+		assertEquals("""
+				customerId,customerName,2024-12,2025-01,2025-02,totalPoints\r
+				7,Kuber,90,0,25,115\r
+				8,Idle,0,0,0,0\r
+				""", out.toString());
+	}
+
+	/**
+	 * Verifies that names containing separators or quotes are quoted per RFC 4180.
+	 */
+	@Test
+	void write_shouldQuoteSpecialCharactersInNames() throws IOException {
+		StringWriter out = new StringWriter();
+		RewardSummaryCsvWriter csv = new RewardSummaryCsvWriter(out, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30));
+
+		csv.write(RewardSummary.builder().customerId(1L).customerName("Doe, \"JD\" John")
+				.monthlyPoints(List.of(new MonthlyPointDTO(2025, "June", 120))).totalPoints(120).build());
+
+		assertTrue(out.toString().endsWith("1,\"Doe, \"\"JD\"\" John\",120,120\r\n"));
+	}
+}